@@ -31,17 +31,18 @@ run_single_process() {
 run_multi_process() {
     echo "Running multi-process version..."
 
+    # The responder writes the ready file once it is listening; the initiator waits for it
+    READY_FILE=target/responder.ready
+    rm -f "$READY_FILE"
+
     # Start responder in background
     echo "Starting responder process..."
-    mvn exec:java@multi-process-responder &
+    mvn exec:java@multi-process-responder -Dplayer.ready.file="$READY_FILE" &
     RESPONDER_PID=$!
 
-    # Wait for responder to start
-    sleep 2
-
     # Start initiator
     echo "Starting initiator process..."
-    mvn exec:java@multi-process-initiator
+    mvn exec:java@multi-process-initiator -Dplayer.ready.file="$READY_FILE"
 
     # Wait for responder to finish
     wait $RESPONDER_PID 2>/dev/null
@@ -49,12 +50,81 @@ run_multi_process() {
     echo "Multi-process execution completed"
 }
 
+# Function to run multi-process version from the packaged jar with a class-data sharing archive per role.
+# The first run records the archives (JDK 13+); later runs map the loaded classes instead of parsing them.
+run_multi_process_cds() {
+    echo "Running multi-process version with class-data sharing..."
+    mvn -q package -DskipTests
+    if [ $? -ne 0 ]; then
+        echo "Build failed"
+        exit 1
+    fi
+    JAR=target/360TRADING-1.0-SNAPSHOT.jar
+    MAIN=com.assignment.process.multiple.MultiProcessApp
+    READY_FILE=target/responder.ready
+    mkdir -p target/cds
+
+    if ! java -XX:+PrintFlagsFinal -version 2>/dev/null | grep -q ArchiveClassesAtExit; then
+        echo "This JVM cannot record dynamic CDS archives (JDK 13+ needed); running without them"
+        CDS_SUPPORTED=false
+    else
+        CDS_SUPPORTED=true
+        # Packaging rewrites the jar every time, so archives are tied to its contents rather than its age
+        JAR_SUM=$(unzip -p "$JAR" '*.class' | cksum)
+        if [ "$JAR_SUM" != "$(cat target/cds/jar.cksum 2>/dev/null)" ]; then
+            rm -f target/cds/*.jsa
+            echo "$JAR_SUM" > target/cds/jar.cksum
+        fi
+    fi
+
+    cds_options() {
+        ARCHIVE=target/cds/$1.jsa
+        if [ "$CDS_SUPPORTED" != true ]; then
+            echo ""
+        elif [ -f "$ARCHIVE" ]; then
+            echo "-XX:SharedArchiveFile=$ARCHIVE -Xshare:auto"
+        else
+            echo "-XX:ArchiveClassesAtExit=$ARCHIVE -Xlog:cds=off"
+        fi
+    }
+
+    rm -f "$READY_FILE"
+    echo "Starting responder process..."
+    java $(cds_options responder) -Dplayer.ready.file="$READY_FILE" -cp "$JAR" $MAIN responder &
+    RESPONDER_PID=$!
+
+    echo "Starting initiator process..."
+    java $(cds_options initiator) -Dplayer.ready.file="$READY_FILE" -cp "$JAR" $MAIN initiator
+
+    wait $RESPONDER_PID 2>/dev/null
+
+    echo "Multi-process execution completed"
+}
+
+# Function to run the N-player mesh (virtual threads on Java 21+)
+run_mesh() {
+    echo "Running player mesh..."
+    mvn exec:java@mesh -Dplayer.log=none
+}
+
+# Function to run the load generator against an embedded responder
+run_load() {
+    echo "Running load generator..."
+    mvn exec:java@load -Dexec.args="--duration=10s --pairs=4 --warmup=2s"
+}
+
 # Function to run tests
 run_tests() {
     echo "Running tests..."
     mvn test
 }
 
+# Function to run JMH benchmarks (results in target/jmh-result.json)
+run_benchmarks() {
+    echo "Running benchmarks..."
+    mvn -P benchmark compile exec:exec@jmh
+}
+
 # Main menu
 while true; do
     echo ""
@@ -62,16 +132,24 @@ while true; do
     echo "1. Build project"
     echo "2. Run single process version"
     echo "3. Run multi-process version"
-    echo "4. Run tests"
-    echo "5. Exit"
+    echo "4. Run multi-process version with class-data sharing"
+    echo "5. Run player mesh"
+    echo "6. Run load generator"
+    echo "7. Run tests"
+    echo "8. Run benchmarks"
+    echo "9. Exit"
     read -p "Enter your choice: " choice
 
     case $choice in
     1) build_project ;;
     2) run_single_process ;;
     3) run_multi_process ;;
-    4) run_tests ;;
-    5)
+    4) run_multi_process_cds ;;
+    5) run_mesh ;;
+    6) run_load ;;
+    7) run_tests ;;
+    8) run_benchmarks ;;
+    9)
         echo "Exiting..."
         exit 0
         ;;
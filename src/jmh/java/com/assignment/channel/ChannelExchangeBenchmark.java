@@ -0,0 +1,131 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.assignment.channel;
+
+import com.assignment.wait.WaitStrategyType;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Round trips through a pair of in-JVM {@link MessageChannel}s, as in {@code SingleProcessApp},
+ * with the responder echoing on its own thread.
+ * <p>
+ * One benchmark operation is {@code hops} consecutive stop-and-wait round trips; the
+ * {@code messages} counter reports individual messages (two per round trip) per second.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ChannelExchangeBenchmark {
+
+    private static final long ECHO_POLL_MS = 10;
+    private static final long REPLY_TIMEOUT_SECONDS = 10;
+
+    @Param({"queue", "ring"})
+    public String channel;
+
+    @Param({"yield", "block"})
+    public String wait;
+
+    @Param({"16", "256", "4096"})
+    public int payloadSize;
+
+    @Param({"1", "10", "100"})
+    public int hops;
+
+    private MessageChannel<String> toResponder;
+    private MessageChannel<String> toInitiator;
+    private String message;
+    private Thread responder;
+    private volatile boolean running;
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Messages {
+        public long messages;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            messages = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ChannelType type = ChannelType.fromName(channel);
+        WaitStrategyType waitType = WaitStrategyType.fromName(wait);
+        toResponder = type.create(1024, waitType.create());
+        toInitiator = type.create(1024, waitType.create());
+        char[] chars = new char[payloadSize];
+        Arrays.fill(chars, 'x');
+        message = new String(chars);
+
+        running = true;
+        responder = new Thread(() -> {
+            try {
+                while (running) {
+                    String received = toResponder.poll(ECHO_POLL_MS, TimeUnit.MILLISECONDS);
+                    if (received != null) {
+                        toInitiator.put(received);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, "benchmark-responder");
+        responder.setDaemon(true);
+        responder.start();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        running = false;
+        responder.join();
+    }
+
+    @Benchmark
+    public String exchange(Messages counter) throws InterruptedException {
+        String reply = null;
+        for (int i = 0; i < hops; i++) {
+            toResponder.put(message);
+            reply = toInitiator.poll(REPLY_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            if (reply == null) {
+                throw new IllegalStateException("Responder stopped replying");
+            }
+        }
+        counter.messages += 2L * hops;
+        return reply;
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.assignment.process.multiple;
+
+import com.assignment.codec.CodecType;
+import com.assignment.codec.Frame;
+import com.assignment.codec.MessageType;
+import com.assignment.shm.SharedMemoryChannel;
+import com.assignment.wait.WaitStrategyType;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ByteChannel;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Round trips over the {@code MultiProcessApp} transports and codecs.
+ * <p>
+ * The responder runs on a thread of the benchmark JVM and echoes each frame unchanged,
+ * so the measurement covers framing, the transport and the wait strategy but not JVM
+ * process start-up. Wait strategies follow the application defaults: {@code block} for
+ * the sockets (loopback TCP and Unix domain) and {@code park} for shared memory. One operation is {@code hops} round trips; the
+ * {@code messages} counter reports messages per second.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class TransportExchangeBenchmark {
+
+    @Param({"tcp", "unix", "shm"})
+    public String transport;
+
+    @Param({"binary", "text"})
+    public String codec;
+
+    @Param({"16", "256", "4096"})
+    public int payloadSize;
+
+    @Param({"1", "10", "100"})
+    public int hops;
+
+    private FrameConnection initiator;
+    private Thread responder;
+    private ByteBuffer payload;
+    private final Frame reply = new Frame();
+    private Path shmPath;
+    private Path socketPath;
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Messages {
+        public long messages;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            messages = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        CodecType codecType = CodecType.fromName(codec);
+        Transport selected = Transport.fromName(transport);
+        WaitStrategyType waitType = selected == Transport.SHM ? WaitStrategyType.PARK : WaitStrategyType.BLOCK;
+
+        ByteChannel initiatorChannel;
+        ByteChannel responderChannel;
+        if (selected == Transport.SHM) {
+            shmPath = Files.createTempFile("player-bench", ".shm");
+            responderChannel = SharedMemoryChannel.create(shmPath, SharedMemoryChannel.DEFAULT_RING_CAPACITY);
+            initiatorChannel = SharedMemoryChannel.connect(shmPath);
+        } else if (selected == Transport.UNIX) {
+            socketPath = UnixDomainSockets.defaultPath("player-bench-" + System.nanoTime());
+            try (ServerSocketChannel server = UnixDomainSockets.bind(socketPath)) {
+                SocketChannel channel = UnixDomainSockets.open();
+                channel.connect(UnixDomainSockets.address(socketPath));
+                initiatorChannel = channel;
+                responderChannel = server.accept();
+            }
+        } else {
+            try (ServerSocketChannel server = ServerSocketChannel.open()) {
+                server.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+                initiatorChannel = SocketTuning.DEFAULTS.apply(SocketChannel.open(server.getLocalAddress()));
+                responderChannel = SocketTuning.DEFAULTS.apply(server.accept());
+            }
+        }
+        initiator = new FrameConnection(initiatorChannel, codecType.codec(), waitType.create());
+        FrameConnection echo = new FrameConnection(responderChannel, codecType.codec(), waitType.create());
+
+        byte[] bytes = new byte[payloadSize];
+        Arrays.fill(bytes, (byte) 'x');
+        payload = ByteBuffer.wrap(bytes);
+
+        responder = new Thread(() -> {
+            Frame frame = new Frame();
+            try (FrameConnection connection = echo) {
+                while (connection.receive(frame)) {
+                    connection.forward(frame);
+                }
+            } catch (IOException e) {
+                // initiator closed
+            }
+        }, "benchmark-responder");
+        responder.setDaemon(true);
+        responder.start();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException, InterruptedException {
+        initiator.close();
+        responder.join(TimeUnit.SECONDS.toMillis(10));
+        if (shmPath != null) {
+            Files.deleteIfExists(shmPath);
+        }
+        if (socketPath != null) {
+            Files.deleteIfExists(socketPath);
+        }
+    }
+
+    @Benchmark
+    public int exchange(Messages counter) throws IOException {
+        for (int i = 0; i < hops; i++) {
+            initiator.send(MessageType.DATA, i, payload);
+            if (!initiator.receive(reply)) {
+                throw new IOException("Responder closed the connection");
+            }
+        }
+        counter.messages += 2L * hops;
+        return reply.senderCounter();
+    }
+}
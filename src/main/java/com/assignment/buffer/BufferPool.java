@@ -0,0 +1,125 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.assignment.buffer;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * Thread-safe pool of {@link ByteBuffer}s in power-of-two size classes.
+ * <p>
+ * Direct buffers are expensive to allocate and are only freed when the collector gets
+ * round to their cleaner, but they let a channel write straight from native memory instead
+ * of copying a heap buffer into a temporary direct one on every call. Connections therefore
+ * take their buffers from a pool when they open or grow and hand them back when they close.
+ * Each size class keeps at most a fixed number of idle buffers, and buffers above
+ * {@link #MAX_POOLED_CAPACITY} are allocated exactly and never retained, so an occasional huge
+ * frame cannot pin memory for the life of the process.
+ */
+public final class BufferPool {
+
+    /** Smallest buffer handed out; smaller requests are rounded up to it. */
+    public static final int MIN_CAPACITY = 4096;
+    /** Largest size class kept for reuse. */
+    public static final int MAX_POOLED_CAPACITY = 1 << 20;
+    /** Idle buffers kept per size class by the {@link #shared()} pool. */
+    public static final int DEFAULT_BUFFERS_PER_CLASS = 16;
+
+    private static final int MIN_SHIFT = Integer.numberOfTrailingZeros(MIN_CAPACITY);
+    private static final int MAX_SHIFT = Integer.numberOfTrailingZeros(MAX_POOLED_CAPACITY);
+    private static final BufferPool SHARED = new BufferPool(true, DEFAULT_BUFFERS_PER_CLASS);
+
+    private final boolean direct;
+    private final ArrayBlockingQueue<ByteBuffer>[] classes;
+
+    /**
+     * @param direct          whether to allocate direct buffers
+     * @param buffersPerClass idle buffers kept per size class
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public BufferPool(boolean direct, int buffersPerClass) {
+        if (buffersPerClass < 1) {
+            throw new IllegalArgumentException("buffersPerClass must be positive: " + buffersPerClass);
+        }
+        this.direct = direct;
+        this.classes = new ArrayBlockingQueue[MAX_SHIFT - MIN_SHIFT + 1];
+        for (int i = 0; i < classes.length; i++) {
+            classes[i] = new ArrayBlockingQueue<>(buffersPerClass);
+        }
+    }
+
+    /**
+     * The process-wide pool of direct buffers used by the socket transports.
+     */
+    public static BufferPool shared() {
+        return SHARED;
+    }
+
+    public boolean isDirect() {
+        return direct;
+    }
+
+    /**
+     * @return a cleared buffer of at least {@code minCapacity} bytes, rounded up to its size class
+     */
+    public ByteBuffer acquire(int minCapacity) {
+        if (minCapacity < 0) {
+            throw new IllegalArgumentException("minCapacity must not be negative: " + minCapacity);
+        }
+        if (minCapacity > MAX_POOLED_CAPACITY) {
+            return allocate(minCapacity);
+        }
+        int capacity = sizeClass(minCapacity);
+        ByteBuffer buffer = classes[Integer.numberOfTrailingZeros(capacity) - MIN_SHIFT].poll();
+        if (buffer == null) {
+            return allocate(capacity);
+        }
+        buffer.clear();
+        return buffer;
+    }
+
+    /**
+     * Returns {@code buffer} for reuse; the caller must not touch it afterwards. Buffers this
+     * pool would not have handed out, and any beyond the per-class limit, are dropped.
+     */
+    public void release(ByteBuffer buffer) {
+        int capacity = buffer.capacity();
+        if (buffer.isDirect() != direct || capacity < MIN_CAPACITY || capacity > MAX_POOLED_CAPACITY
+                || Integer.bitCount(capacity) != 1) {
+            return;
+        }
+        classes[Integer.numberOfTrailingZeros(capacity) - MIN_SHIFT].offer(buffer);
+    }
+
+    /**
+     * @return the number of idle buffers held in {@code capacity}'s size class
+     */
+    public int idle(int capacity) {
+        if (capacity > MAX_POOLED_CAPACITY) {
+            return 0;
+        }
+        return classes[Integer.numberOfTrailingZeros(sizeClass(capacity)) - MIN_SHIFT].size();
+    }
+
+    static int sizeClass(int capacity) {
+        return capacity <= MIN_CAPACITY ? MIN_CAPACITY : Integer.highestOneBit(capacity - 1) << 1;
+    }
+
+    private ByteBuffer allocate(int capacity) {
+        return direct ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+    }
+}
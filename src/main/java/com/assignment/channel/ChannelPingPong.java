@@ -0,0 +1,82 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.assignment.channel;
+
+import com.assignment.wait.WaitStrategyType;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rough two-thread ping-pong comparing every {@link ChannelType}.
+ * <p>
+ * A responder thread echoes each message back through a second channel, so one
+ * round trip is two hops. Usage: {@code ChannelPingPong [roundTrips] [rounds] [waitStrategy]},
+ * where the wait strategy defaults to {@code yield}.
+ */
+public class ChannelPingPong {
+
+    private static final int CAPACITY = 1024;
+    private static final long RECEIVE_TIMEOUT_SECONDS = 10;
+
+    public static void main(String[] args) throws InterruptedException {
+        int roundTrips = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        WaitStrategyType waitType = WaitStrategyType.fromName(args.length > 2 ? args[2] : "yield");
+
+        for (int round = 1; round <= rounds; round++) {
+            for (ChannelType type : ChannelType.values()) {
+                long elapsed = run(type, waitType, roundTrips);
+                System.out.printf("[round %d] %-5s/%s %,d round trips in %,d ms (%,d ns/hop)%n", round, type,
+                        waitType.optionName(), roundTrips, TimeUnit.NANOSECONDS.toMillis(elapsed),
+                        elapsed / (2L * roundTrips));
+            }
+        }
+    }
+
+    static long run(ChannelType type, WaitStrategyType waitType, int roundTrips) throws InterruptedException {
+        MessageChannel<String> ping = type.create(CAPACITY, waitType.create());
+        MessageChannel<String> pong = type.create(CAPACITY, waitType.create());
+
+        Thread responder = new Thread(() -> {
+            try {
+                for (int i = 0; i < roundTrips; i++) {
+                    String message = ping.poll(RECEIVE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                    if (message == null) {
+                        return;
+                    }
+                    pong.put(message);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, "pingpong-responder");
+        responder.setDaemon(true);
+        responder.start();
+
+        String message = "ping";
+        long start = System.nanoTime();
+        for (int i = 0; i < roundTrips; i++) {
+            ping.put(message);
+            if (pong.poll(RECEIVE_TIMEOUT_SECONDS, TimeUnit.SECONDS) == null) {
+                throw new IllegalStateException("Responder stopped echoing after " + i + " round trips");
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        responder.join();
+        return elapsed;
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.assignment.channel;
+
+import com.assignment.wait.WaitStrategy;
+
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Selectable {@link MessageChannel} implementations.
+ */
+public enum ChannelType {
+
+    /** {@link LinkedBlockingQueue}: allocates a node and takes a lock per hop. */
+    QUEUE {
+        @Override
+        public <E> MessageChannel<E> create(int capacity, WaitStrategy waitStrategy) {
+            return new QueueChannel<>(new LinkedBlockingQueue<>(), waitStrategy);
+        }
+    },
+
+    /** Preallocated, padded {@link SpscRingBufferChannel}. */
+    RING {
+        @Override
+        public <E> MessageChannel<E> create(int capacity, WaitStrategy waitStrategy) {
+            return new SpscRingBufferChannel<>(capacity, waitStrategy);
+        }
+    };
+
+    /**
+     * @param capacity     slot count for bounded implementations; rounded up to a power of two
+     * @param waitStrategy receive-side strategy, owned by the new channel
+     */
+    public abstract <E> MessageChannel<E> create(int capacity, WaitStrategy waitStrategy);
+
+    public static ChannelType fromName(String name) {
+        for (ChannelType type : values()) {
+            if (type.name().equalsIgnoreCase(name)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Unknown channel type: " + name + " (expected 'queue' or 'ring')");
+    }
+}
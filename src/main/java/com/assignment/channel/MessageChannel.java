@@ -0,0 +1,51 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.assignment.channel;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One-directional hand-off between two players living in the same JVM.
+ */
+public interface MessageChannel<E> {
+
+    /**
+     * Publishes a message without waiting.
+     *
+     * @return false if the channel is full
+     */
+    boolean offer(E message);
+
+    /**
+     * Removes the next message without waiting.
+     *
+     * @return the message, or null if the channel is empty
+     */
+    E poll();
+
+    /**
+     * Publishes a message, waiting for free space if the channel is full.
+     */
+    void put(E message) throws InterruptedException;
+
+    /**
+     * Removes the next message, waiting up to the given timeout for one to arrive.
+     *
+     * @return the message, or null if the timeout elapsed
+     */
+    E poll(long timeout, TimeUnit unit) throws InterruptedException;
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.assignment.channel;
+
+import com.assignment.wait.BlockingWaitStrategy;
+import com.assignment.wait.WaitStrategy;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link MessageChannel} backed by a {@link BlockingQueue}; the original single-process transport.
+ * <p>
+ * With a blocking {@link WaitStrategy} timed polls wait inside the queue itself; any other
+ * strategy polls the queue without blocking and backs off between attempts.
+ */
+public class QueueChannel<E> implements MessageChannel<E> {
+
+    private final BlockingQueue<E> queue;
+    private final WaitStrategy waitStrategy;
+
+    public QueueChannel() {
+        this(new LinkedBlockingQueue<>(), new BlockingWaitStrategy());
+    }
+
+    public QueueChannel(BlockingQueue<E> queue, WaitStrategy waitStrategy) {
+        this.queue = queue;
+        this.waitStrategy = waitStrategy;
+    }
+
+    @Override
+    public boolean offer(E message) {
+        return queue.offer(message);
+    }
+
+    @Override
+    public E poll() {
+        return queue.poll();
+    }
+
+    @Override
+    public void put(E message) throws InterruptedException {
+        queue.put(message);
+    }
+
+    @Override
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        if (waitStrategy.isBlocking()) {
+            return queue.poll(timeout, unit);
+        }
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        int attempt = 0;
+        E message;
+        while ((message = queue.poll()) == null) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            if (System.nanoTime() - deadline >= 0) {
+                return null;
+            }
+            waitStrategy.idle(attempt++);
+        }
+        return message;
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.assignment.channel;
+
+import com.assignment.wait.SpinYieldWaitStrategy;
+import com.assignment.wait.WaitStrategy;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * Lock-free single-producer/single-consumer ring buffer.
+ * <p>
+ * The slot array is allocated once, so a hand-off never allocates. The producer-owned
+ * {@code tail} and the consumer-owned {@code head} are kept on separate cache lines by
+ * the padding superclasses (the JVM lays out superclass fields first), and each side
+ * caches its last view of the other's index so it only touches the shared line when
+ * the cached view says the buffer is full or empty.
+ * <p>
+ * Only one thread may call {@link #offer}/{@link #put} and only one thread may call
+ * the {@code poll} methods; they may be the same thread. A timed {@link #poll(long, TimeUnit)}
+ * backs off according to the channel's {@link WaitStrategy}; a {@link #put} into a full
+ * buffer always yields. With a blocking strategy the tail is published with a volatile
+ * write rather than a lazy one, which is what lets the strategy skip its lock while the
+ * receiver is not parked.
+ */
+public class SpscRingBufferChannel<E> extends SpscConsumerFields<E> implements MessageChannel<E> {
+
+    long p30, p31, p32, p33, p34, p35, p36, p37;
+
+    private final WaitStrategy waitStrategy;
+    private final boolean blocking;
+
+    public SpscRingBufferChannel(int capacity) {
+        this(capacity, new SpinYieldWaitStrategy());
+    }
+
+    public SpscRingBufferChannel(int capacity, WaitStrategy waitStrategy) {
+        super(capacity);
+        this.waitStrategy = waitStrategy;
+        this.blocking = waitStrategy.isBlocking();
+    }
+
+    public int capacity() {
+        return buffer.length;
+    }
+
+    @Override
+    public boolean offer(E message) {
+        if (message == null) {
+            throw new NullPointerException("message");
+        }
+        long currentTail = tail;
+        if (currentTail - headCache >= buffer.length) {
+            headCache = head;
+            if (currentTail - headCache >= buffer.length) {
+                return false;
+            }
+        }
+        buffer[(int) currentTail & mask] = message;
+        if (blocking) {
+            tail = currentTail + 1;
+        } else {
+            TAIL.lazySet(this, currentTail + 1);
+        }
+        waitStrategy.signal();
+        return true;
+    }
+
+    @Override
+    public E poll() {
+        long currentHead = head;
+        if (currentHead >= tailCache) {
+            tailCache = tail;
+            if (currentHead >= tailCache) {
+                return null;
+            }
+        }
+        int index = (int) currentHead & mask;
+        @SuppressWarnings("unchecked")
+        E message = (E) buffer[index];
+        buffer[index] = null;
+        HEAD.lazySet(this, currentHead + 1);
+        return message;
+    }
+
+    @Override
+    public void put(E message) throws InterruptedException {
+        while (!offer(message)) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            Thread.yield();
+        }
+    }
+
+    @Override
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        E message = poll();
+        if (message != null) {
+            return message;
+        }
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        int attempt = 0;
+        while ((message = poll()) == null) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            if (System.nanoTime() - deadline >= 0) {
+                return null;
+            }
+            waitStrategy.idle(attempt++);
+        }
+        return message;
+    }
+
+    static int roundToPowerOfTwo(int capacity) {
+        if (capacity < 1 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("capacity must be between 1 and 2^30: " + capacity);
+        }
+        return capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicLongFieldUpdater<SpscProducerFields> TAIL =
+            AtomicLongFieldUpdater.newUpdater(SpscProducerFields.class, "tail");
+    @SuppressWarnings("rawtypes")
+    private static final AtomicLongFieldUpdater<SpscConsumerFields> HEAD =
+            AtomicLongFieldUpdater.newUpdater(SpscConsumerFields.class, "head");
+}
+
+abstract class SpscPadding0 {
+    long p00, p01, p02, p03, p04, p05, p06, p07;
+}
+
+abstract class SpscBufferFields<E> extends SpscPadding0 {
+    final Object[] buffer;
+    final int mask;
+
+    SpscBufferFields(int capacity) {
+        int size = SpscRingBufferChannel.roundToPowerOfTwo(capacity);
+        this.buffer = new Object[size];
+        this.mask = size - 1;
+    }
+}
+
+abstract class SpscPadding1<E> extends SpscBufferFields<E> {
+    long p10, p11, p12, p13, p14, p15, p16, p17;
+
+    SpscPadding1(int capacity) {
+        super(capacity);
+    }
+}
+
+abstract class SpscProducerFields<E> extends SpscPadding1<E> {
+    volatile long tail;
+    long headCache;
+
+    SpscProducerFields(int capacity) {
+        super(capacity);
+    }
+}
+
+abstract class SpscPadding2<E> extends SpscProducerFields<E> {
+    long p20, p21, p22, p23, p24, p25, p26, p27;
+
+    SpscPadding2(int capacity) {
+        super(capacity);
+    }
+}
+
+abstract class SpscConsumerFields<E> extends SpscPadding2<E> {
+    volatile long head;
+    long tailCache;
+
+    SpscConsumerFields(int capacity) {
+        super(capacity);
+    }
+}
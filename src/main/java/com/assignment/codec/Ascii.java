@@ -0,0 +1,80 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.assignment.codec;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Allocation-free ASCII number formatting and parsing on {@link ByteBuffer}s.
+ */
+public final class Ascii {
+
+    /** Longest decimal rendering of an int: {@code "-2147483648"}. */
+    public static final int MAX_INT_LENGTH = 11;
+
+    private Ascii() {
+    }
+
+    /**
+     * Writes the decimal digits of {@code value} at {@code dst.position()}.
+     */
+    public static void putInt(ByteBuffer dst, int value) {
+        long remaining = value;
+        if (remaining < 0) {
+            dst.put((byte) '-');
+            remaining = -remaining;
+        }
+        int digits = 1;
+        for (long v = remaining; v >= 10; v /= 10) {
+            digits++;
+        }
+        int end = dst.position() + digits;
+        for (int i = end - 1; i >= dst.position(); i--) {
+            dst.put(i, (byte) ('0' + remaining % 10));
+            remaining /= 10;
+        }
+        dst.position(end);
+    }
+
+    /**
+     * @return the non-negative number at the end of {@code [start, end)}, or 0 if the
+     *         range does not end in a digit
+     * @throws NumberFormatException if the number has more than {@value #MAX_INT_LENGTH}
+     *         digits or does not fit in an int
+     */
+    public static int parseTrailingInt(ByteBuffer src, int start, int end) {
+        int digitsStart = end;
+        while (digitsStart > start && isDigit(src.get(digitsStart - 1))) {
+            digitsStart--;
+            if (end - digitsStart > MAX_INT_LENGTH) {
+                throw new NumberFormatException("Number longer than " + MAX_INT_LENGTH + " digits");
+            }
+        }
+        long value = 0;
+        for (int i = digitsStart; i < end; i++) {
+            value = value * 10 + (src.get(i) - '0');
+        }
+        if (value > Integer.MAX_VALUE) {
+            throw new NumberFormatException("Number out of int range: " + value);
+        }
+        return (int) value;
+    }
+
+    private static boolean isDigit(byte b) {
+        return b >= '0' && b <= '9';
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.assignment.codec;
+
+import java.net.ProtocolException;
+import java.nio.ByteBuffer;
+
+/**
+ * Compact binary framing:
+ * <pre>
+ *   int32  length          bytes that follow this field (type + counter + payload)
+ *   int8   type            {@link MessageType#code()}
+ *   int32  senderCounter   sender's sent count for this message
+ *   byte[] payload         length - 5 bytes
+ * </pre>
+ * All integers are big-endian. Frames are read and written in place; decoding never
+ * allocates.
+ */
+public final class BinaryFrameCodec implements WireCodec {
+
+    public static final BinaryFrameCodec INSTANCE = new BinaryFrameCodec();
+
+    static final int LENGTH_FIELD = 4;
+    static final int HEADER_LENGTH = LENGTH_FIELD + 1 + 4;
+    /** Largest frame accepted from a peer, guarding against corrupt length prefixes. */
+    public static final int MAX_FRAME_LENGTH = 16 * 1024 * 1024;
+
+    private BinaryFrameCodec() {
+    }
+
+    @Override
+    public int maxFramingLength() {
+        return HEADER_LENGTH;
+    }
+
+    @Override
+    public int beginFrame(ByteBuffer dst, MessageType type, int senderCounter) {
+        int frameStart = dst.position();
+        dst.position(frameStart + LENGTH_FIELD);
+        dst.put(type.code());
+        dst.putInt(senderCounter);
+        return frameStart;
+    }
+
+    @Override
+    public void endFrame(ByteBuffer dst, int frameStart) {
+        dst.putInt(frameStart, dst.position() - frameStart - LENGTH_FIELD);
+    }
+
+    @Override
+    public boolean decode(ByteBuffer src, Frame frame) throws ProtocolException {
+        int start = src.position();
+        if (src.remaining() < HEADER_LENGTH) {
+            return false;
+        }
+        int length = src.getInt(start);
+        if (length < HEADER_LENGTH - LENGTH_FIELD || length > MAX_FRAME_LENGTH) {
+            throw new ProtocolException("Invalid frame length: " + length);
+        }
+        if (src.remaining() < LENGTH_FIELD + length) {
+            return false;
+        }
+        MessageType type = MessageType.fromCode(src.get(start + LENGTH_FIELD));
+        if (type == null) {
+            throw new ProtocolException("Unknown message type: " + src.get(start + LENGTH_FIELD));
+        }
+        int senderCounter = src.getInt(start + LENGTH_FIELD + 1);
+        frame.wrap(type, senderCounter, src, start + HEADER_LENGTH, length - (HEADER_LENGTH - LENGTH_FIELD));
+        src.position(start + LENGTH_FIELD + length);
+        return true;
+    }
+}
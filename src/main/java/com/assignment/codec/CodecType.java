@@ -0,0 +1,45 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.assignment.codec;
+
+/**
+ * Selectable {@link WireCodec}s: {@code binary} (default) or the {@code text} compatibility mode.
+ */
+public enum CodecType {
+
+    BINARY(BinaryFrameCodec.INSTANCE),
+    TEXT(TextLineCodec.INSTANCE);
+
+    private final WireCodec codec;
+
+    CodecType(WireCodec codec) {
+        this.codec = codec;
+    }
+
+    public WireCodec codec() {
+        return codec;
+    }
+
+    public static CodecType fromName(String name) {
+        for (CodecType type : values()) {
+            if (type.name().equalsIgnoreCase(name)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Unknown codec: " + name + " (expected 'binary' or 'text')");
+    }
+}
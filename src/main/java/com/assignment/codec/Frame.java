@@ -0,0 +1,82 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.assignment.codec;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reusable view of one decoded frame.
+ * <p>
+ * The payload is not copied out of the buffer it was decoded from; it stays valid only
+ * until that buffer is next read into or compacted. Use {@link #copyPayloadTo(ByteBuffer)}
+ * to keep it, or {@link #payloadAsString()} off the hot path.
+ */
+public final class Frame {
+
+    private MessageType type;
+    private int senderCounter;
+    private ByteBuffer source;
+    private int payloadOffset;
+    private int payloadLength;
+
+    void wrap(MessageType type, int senderCounter, ByteBuffer source, int payloadOffset, int payloadLength) {
+        this.type = type;
+        this.senderCounter = senderCounter;
+        this.source = source;
+        this.payloadOffset = payloadOffset;
+        this.payloadLength = payloadLength;
+    }
+
+    public MessageType type() {
+        return type;
+    }
+
+    public int senderCounter() {
+        return senderCounter;
+    }
+
+    public int payloadLength() {
+        return payloadLength;
+    }
+
+    public byte payloadByte(int index) {
+        return source.get(payloadOffset + index);
+    }
+
+    /**
+     * Appends the payload bytes at {@code dst.position()}.
+     */
+    public void copyPayloadTo(ByteBuffer dst) {
+        ByteBuffer view = source.duplicate();
+        view.limit(payloadOffset + payloadLength).position(payloadOffset);
+        dst.put(view);
+    }
+
+    public String payloadAsString() {
+        byte[] bytes = new byte[payloadLength];
+        for (int i = 0; i < payloadLength; i++) {
+            bytes[i] = source.get(payloadOffset + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String toString() {
+        return type + "[" + senderCounter + "] " + payloadAsString();
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.assignment.codec;
+
+/**
+ * Kind of frame exchanged between players.
+ */
+public enum MessageType {
+
+    /** A ping carrying the whole conversation so far. */
+    DATA((byte) 0),
+
+    /** Asks the peer to close the conversation. */
+    STOP((byte) 1),
+
+    /** Flow control: allows the peer to send {@code senderCounter} more DATA frames. */
+    CREDIT((byte) 2),
+
+    /**
+     * A ping carrying only the newest counter, {@code senderCounter}, of a conversation the
+     * peer already holds; see {@link com.assignment.message.Conversation}.
+     */
+    DELTA((byte) 3);
+
+    private static final MessageType[] BY_CODE = {DATA, STOP, CREDIT, DELTA};
+
+    private final byte code;
+
+    MessageType(byte code) {
+        this.code = code;
+    }
+
+    public byte code() {
+        return code;
+    }
+
+    /**
+     * @return the type for a wire code, or null if the code is unknown
+     */
+    public static MessageType fromCode(byte code) {
+        return code >= 0 && code < BY_CODE.length ? BY_CODE[code] : null;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.assignment.codec;
+
+import java.net.ProtocolException;
+import java.nio.ByteBuffer;
+
+/**
+ * Binary framing for multiplexed connections:
+ * <pre>
+ *   int32  length     bytes that follow this field (type + streamId + sequence + payload)
+ *   int8   type       {@link MuxFrameType#code()}
+ *   int32  streamId   conversation the frame belongs to; 0 for HELLO
+ *   int64  sequence   per-stream message number, starting at 1; the client id for HELLO
+ *   byte[] payload    length - 13 bytes
+ * </pre>
+ * All integers are big-endian, as in {@link BinaryFrameCodec}.
+ */
+public final class MuxCodec {
+
+    static final int LENGTH_FIELD = 4;
+    public static final int HEADER_LENGTH = LENGTH_FIELD + 1 + 4 + 8;
+
+    private MuxCodec() {
+    }
+
+    /**
+     * @throws java.nio.BufferOverflowException if {@code dst} has fewer than {@code HEADER_LENGTH + payload.length}
+     *                                          bytes left
+     */
+    public static void encode(ByteBuffer dst, MuxFrameType type, int streamId, long sequence, byte[] payload) {
+        dst.putInt(HEADER_LENGTH - LENGTH_FIELD + payload.length);
+        dst.put(type.code());
+        dst.putInt(streamId);
+        dst.putLong(sequence);
+        dst.put(payload);
+    }
+
+    /**
+     * Decodes the frame at {@code src}'s position, which is advanced past it.
+     *
+     * @return false if {@code src} does not hold a whole frame yet
+     */
+    public static boolean decode(ByteBuffer src, MuxFrame frame) throws ProtocolException {
+        int start = src.position();
+        if (src.remaining() < HEADER_LENGTH) {
+            return false;
+        }
+        int length = src.getInt(start);
+        if (length < HEADER_LENGTH - LENGTH_FIELD || length > BinaryFrameCodec.MAX_FRAME_LENGTH) {
+            throw new ProtocolException("Invalid frame length: " + length);
+        }
+        if (src.remaining() < LENGTH_FIELD + length) {
+            return false;
+        }
+        MuxFrameType type = MuxFrameType.fromCode(src.get(start + LENGTH_FIELD));
+        if (type == null) {
+            throw new ProtocolException("Unknown frame type: " + src.get(start + LENGTH_FIELD));
+        }
+        int streamId = src.getInt(start + LENGTH_FIELD + 1);
+        long sequence = src.getLong(start + LENGTH_FIELD + 5);
+        frame.wrap(type, streamId, sequence, src, start + HEADER_LENGTH, length - (HEADER_LENGTH - LENGTH_FIELD));
+        src.position(start + LENGTH_FIELD + length);
+        return true;
+    }
+}
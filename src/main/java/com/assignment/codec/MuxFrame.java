@@ -0,0 +1,77 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.assignment.codec;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reusable view of one decoded multiplexed frame.
+ * <p>
+ * The payload is not copied: it stays in the decoder's buffer and is only valid until the
+ * next read into that buffer.
+ */
+public final class MuxFrame {
+
+    private MuxFrameType type;
+    private int streamId;
+    private long sequence;
+    private ByteBuffer source;
+    private int payloadOffset;
+    private int payloadLength;
+
+    void wrap(MuxFrameType type, int streamId, long sequence, ByteBuffer source, int payloadOffset,
+            int payloadLength) {
+        this.type = type;
+        this.streamId = streamId;
+        this.sequence = sequence;
+        this.source = source;
+        this.payloadOffset = payloadOffset;
+        this.payloadLength = payloadLength;
+    }
+
+    public MuxFrameType type() {
+        return type;
+    }
+
+    public int streamId() {
+        return streamId;
+    }
+
+    public long sequence() {
+        return sequence;
+    }
+
+    public int payloadLength() {
+        return payloadLength;
+    }
+
+    /**
+     * @return a copy of the payload, safe to keep after the next read
+     */
+    public byte[] payload() {
+        byte[] bytes = new byte[payloadLength];
+        for (int i = 0; i < payloadLength; i++) {
+            bytes[i] = source.get(payloadOffset + i);
+        }
+        return bytes;
+    }
+
+    public String payloadAsString() {
+        return new String(payload(), StandardCharsets.UTF_8);
+    }
+}
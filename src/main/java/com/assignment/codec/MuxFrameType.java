@@ -0,0 +1,51 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.assignment.codec;
+
+/**
+ * Kind of frame exchanged on a multiplexed connection.
+ */
+public enum MuxFrameType {
+
+    /** First frame on every connection; {@code sequence} carries the client's id, so streams survive reconnects. */
+    HELLO((byte) 0),
+
+    /** A request (client to server) or its reply (server to client), numbered by {@code sequence} within its stream. */
+    DATA((byte) 1),
+
+    /** The client is done with the stream; the server drops its state. */
+    CLOSE((byte) 2);
+
+    private static final MuxFrameType[] BY_CODE = {HELLO, DATA, CLOSE};
+
+    private final byte code;
+
+    MuxFrameType(byte code) {
+        this.code = code;
+    }
+
+    public byte code() {
+        return code;
+    }
+
+    /**
+     * @return the type for a wire code, or null if the code is unknown
+     */
+    public static MuxFrameType fromCode(byte code) {
+        return code >= 0 && code < BY_CODE.length ? BY_CODE[code] : null;
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.assignment.codec;
+
+import java.net.ProtocolException;
+import java.nio.ByteBuffer;
+
+/**
+ * The original newline-delimited text protocol, kept for debugging with tools like
+ * {@code nc}. A message is its payload followed by {@code '\n'}; a stop request is the
+ * line {@code STOP}, a credit grant the line {@code CREDIT <n>} and a delta the line
+ * {@code DELTA <n>}. The sender counter is
+ * not sent separately: on decode it is parsed from the last number in the line, or 0 if
+ * the line does not end in one.
+ * <p>
+ * A message that would read as one of those keywords, or that starts with {@code '\\'}, is
+ * sent with a {@code '\\'} in front, which decoding strips. To know whether it needs one,
+ * {@link #beginFrame} starts every message with that escape and {@link #endFrame} moves the
+ * payload back over it when it does not, a copy this debugging codec accepts for unambiguous
+ * lines.
+ */
+public final class TextLineCodec implements WireCodec {
+
+    public static final TextLineCodec INSTANCE = new TextLineCodec();
+
+    private static final byte[] STOP = {'S', 'T', 'O', 'P'};
+    private static final byte[] CREDIT = {'C', 'R', 'E', 'D', 'I', 'T', ' '};
+    private static final byte[] DELTA = {'D', 'E', 'L', 'T', 'A', ' '};
+    private static final byte ESCAPE = '\\';
+    /** Longest line accepted from a peer, guarding against a stream that never sends a newline. */
+    public static final int MAX_LINE_LENGTH = BinaryFrameCodec.MAX_FRAME_LENGTH;
+
+    private TextLineCodec() {
+    }
+
+    @Override
+    public int maxFramingLength() {
+        return CREDIT.length + Ascii.MAX_INT_LENGTH + 1;
+    }
+
+    @Override
+    public int beginFrame(ByteBuffer dst, MessageType type, int senderCounter) {
+        int frameStart = dst.position();
+        if (type == MessageType.STOP) {
+            dst.put(STOP);
+        } else if (type == MessageType.CREDIT) {
+            dst.put(CREDIT);
+            Ascii.putInt(dst, senderCounter);
+        } else if (type == MessageType.DELTA) {
+            dst.put(DELTA);
+            Ascii.putInt(dst, senderCounter);
+        } else {
+            dst.put(ESCAPE);
+        }
+        return frameStart;
+    }
+
+    @Override
+    public void endFrame(ByteBuffer dst, int frameStart) {
+        int end = dst.position();
+        // Only a message starts with the escape; keep it if the payload after it needs one
+        if (dst.get(frameStart) == ESCAPE && !isAmbiguous(dst, frameStart + 1, end)) {
+            for (int i = frameStart + 1; i < end; i++) {
+                dst.put(i - 1, dst.get(i));
+            }
+            dst.position(end - 1);
+        }
+        dst.put((byte) '\n');
+    }
+
+    @Override
+    public boolean decode(ByteBuffer src, Frame frame) throws ProtocolException {
+        int start = src.position();
+        int scanEnd = (int) Math.min(src.limit(), (long) start + MAX_LINE_LENGTH + 1);
+        for (int i = start; i < scanEnd; i++) {
+            if (src.get(i) == '\n') {
+                int end = i > start && src.get(i - 1) == '\r' ? i - 1 : i;
+                if (end > start && src.get(start) == ESCAPE) {
+                    frame.wrap(MessageType.DATA, counter(src, start, end), src, start + 1, end - start - 1);
+                } else if (end - start == STOP.length && startsWith(src, start, end, STOP)) {
+                    frame.wrap(MessageType.STOP, 0, src, start, 0);
+                } else if (startsWith(src, start, end, CREDIT)) {
+                    frame.wrap(MessageType.CREDIT, counter(src, start, end), src, start, 0);
+                } else if (startsWith(src, start, end, DELTA)) {
+                    frame.wrap(MessageType.DELTA, counter(src, start, end), src, start, 0);
+                } else {
+                    frame.wrap(MessageType.DATA, counter(src, start, end), src, start, end - start);
+                }
+                src.position(i + 1);
+                return true;
+            }
+        }
+        if (src.limit() - start > MAX_LINE_LENGTH) {
+            throw new ProtocolException("No newline within " + MAX_LINE_LENGTH + " bytes");
+        }
+        return false;
+    }
+
+    private static int counter(ByteBuffer src, int start, int end) throws ProtocolException {
+        try {
+            return Ascii.parseTrailingInt(src, start, end);
+        } catch (NumberFormatException e) {
+            throw new ProtocolException(e.getMessage());
+        }
+    }
+
+    /**
+     * Whether a message payload in {@code [start, end)} would decode as something else without
+     * an escape in front.
+     */
+    private static boolean isAmbiguous(ByteBuffer src, int start, int end) {
+        return end > start && src.get(start) == ESCAPE
+                || end - start == STOP.length && startsWith(src, start, end, STOP)
+                || startsWith(src, start, end, CREDIT)
+                || startsWith(src, start, end, DELTA);
+    }
+
+    /**
+     * Case-insensitive match of an upper-case ASCII keyword at the start of the line.
+     */
+    private static boolean startsWith(ByteBuffer src, int start, int end, byte[] keyword) {
+        if (end - start < keyword.length) {
+            return false;
+        }
+        for (int i = 0; i < keyword.length; i++) {
+            byte b = src.get(start + i);
+            if (b != keyword[i] && (b & ~0x20) != keyword[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.assignment.codec;
+
+import java.net.ProtocolException;
+import java.nio.ByteBuffer;
+
+/**
+ * Frames messages directly in caller-owned {@link ByteBuffer}s.
+ * <p>
+ * Encoding is two-phase so payloads can be written straight into the output buffer:
+ * {@link #beginFrame} writes any header, the caller puts the payload bytes, and
+ * {@link #endFrame} completes the frame. Implementations are stateless and may be shared.
+ */
+public interface WireCodec {
+
+    /**
+     * @return upper bound on the bytes a frame adds around its payload
+     */
+    int maxFramingLength();
+
+    /**
+     * Starts a frame at {@code dst.position()}. The caller must have reserved at least
+     * {@link #maxFramingLength()} bytes plus the payload length.
+     *
+     * @return the frame start, to be passed to {@link #endFrame}
+     */
+    int beginFrame(ByteBuffer dst, MessageType type, int senderCounter);
+
+    /**
+     * Completes the frame begun at {@code frameStart}; its payload is everything written since.
+     */
+    void endFrame(ByteBuffer dst, int frameStart);
+
+    /**
+     * Decodes one frame from {@code src}, which is in read mode.
+     *
+     * @return true and advances {@code src} past the frame if a complete frame was
+     *         available; false and leaves {@code src} untouched otherwise
+     * @throws ProtocolException if the bytes cannot be a valid frame
+     */
+    boolean decode(ByteBuffer src, Frame frame) throws ProtocolException;
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.assignment.counter;
+
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * Thread-safe {@code long} counter alone on its cache line.
+ * <p>
+ * The value is surrounded by padding fields (the JVM lays out superclass fields first, so
+ * the padding classes bracket it), which keeps two counters that are updated by different
+ * threads, such as a player's sent and received counts, from invalidating each other's
+ * line. Updates go through a field updater, so counting never allocates.
+ */
+public final class PaddedCounter extends PaddedCounterValue {
+
+    long p10, p11, p12, p13, p14, p15, p16, p17;
+
+    public long get() {
+        return value;
+    }
+
+    public long incrementAndGet() {
+        return VALUE.incrementAndGet(this);
+    }
+
+    /**
+     * Increments unless the counter has reached {@code limit}; safe against any number of
+     * concurrent callers.
+     *
+     * @return the new value, or {@code -1} if the counter had already reached the limit
+     */
+    public long incrementAndGetBounded(long limit) {
+        while (true) {
+            long current = value;
+            if (current >= limit) {
+                return -1;
+            }
+            if (VALUE.compareAndSet(this, current, current + 1)) {
+                return current + 1;
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return Long.toString(value);
+    }
+
+    private static final AtomicLongFieldUpdater<PaddedCounterValue> VALUE =
+            AtomicLongFieldUpdater.newUpdater(PaddedCounterValue.class, "value");
+}
+
+abstract class PaddedCounterPadding {
+    long p00, p01, p02, p03, p04, p05, p06, p07;
+}
+
+abstract class PaddedCounterValue extends PaddedCounterPadding {
+    volatile long value;
+}
@@ -16,46 +16,129 @@
 
  package com.assignment.dto;
 
- import static com.assignment.process.single.SingleProcessApp.MESSAGE_LIMIT;
- import java.util.concurrent.atomic.AtomicInteger;
- 
+ import com.assignment.counter.PaddedCounter;
+ import com.assignment.log.LogSink;
+ import com.assignment.log.LogSinks;
+ import com.assignment.message.Conversation;
+ import com.assignment.metrics.PlayerMetrics;
+
  public class Player {
  
+     /** Messages a player may send unless it is constructed with its own limit. */
+     public static final long DEFAULT_MESSAGE_LIMIT = 10;
+ 
      private final String name;
-     private final AtomicInteger sentCounter = new AtomicInteger(0);
-     private final AtomicInteger receivedCounter = new AtomicInteger(0);
+     private final long messageLimit;
+     private final PaddedCounter sentCounter = new PaddedCounter();
+     private final PaddedCounter receivedCounter = new PaddedCounter();
+     private final LogSink logSink;
+     private final PlayerMetrics metrics;
+     private final boolean recording;
  
      public Player(String name) {
+         this(name, LogSinks.shared());
+     }
+ 
+     public Player(String name, LogSink logSink) {
+         this(name, logSink, PlayerMetrics.fromSystemProperties(name));
+     }
+ 
+     public Player(String name, LogSink logSink, PlayerMetrics metrics) {
+         this(name, DEFAULT_MESSAGE_LIMIT, logSink, metrics);
+     }
+ 
+     public Player(String name, long messageLimit) {
+         this(name, messageLimit, LogSinks.shared(), PlayerMetrics.fromSystemProperties(name));
+     }
+ 
+     /**
+      * @param messageLimit most messages this player will send; further sends are refused
+      */
+     public Player(String name, long messageLimit, LogSink logSink, PlayerMetrics metrics) {
+         if (messageLimit < 0) {
+             throw new IllegalArgumentException("messageLimit must not be negative: " + messageLimit);
+         }
          this.name = name;
+         this.messageLimit = messageLimit;
+         this.logSink = logSink;
+         this.metrics = metrics;
+         this.recording = metrics.isEnabled();
      }
  
      public String getName() {
          return name;
      }
  
-     public int incrementAndGetSentCount() {
-         int currentCount = sentCounter.get();
-         if (currentCount >= MESSAGE_LIMIT) {
-             return currentCount;
+     public long getMessageLimit() {
+         return messageLimit;
+     }
+ 
+     /**
+      * Claims the next send slot; concurrent callers each get a distinct count and the
+      * count never passes the message limit. Only the counting is safe for concurrent
+      * senders: {@link PlayerMetrics} pair sends and receives by one writer each, so a player
+      * sent from by several threads at once must be given {@link PlayerMetrics#disabled} metrics.
+      *
+      * @return the new count, or the limit if every slot is already taken
+      */
+     public long incrementAndGetSentCount() {
+         long count = sentCounter.incrementAndGetBounded(messageLimit);
+         if (count < 0) {
+             return messageLimit;
+         }
+         if (recording) {
+             metrics.onSent(count, receivedCounter.get(), System.nanoTime());
          }
-         return sentCounter.incrementAndGet();
+         return count;
      }
  
-     public int incrementAndGetReceivedCount() {
-         return receivedCounter.incrementAndGet();
+     public long incrementAndGetReceivedCount() {
+         long count = receivedCounter.incrementAndGet();
+         if (recording) {
+             metrics.onReceived(count, sentCounter.get(), System.nanoTime());
+         }
+         return count;
      }
  
-     public int getSentCount() {
+     public long getSentCount() {
          return sentCounter.get();
      }
  
-     public int getReceivedCount() {
+     public long getReceivedCount() {
          return receivedCounter.get();
      }
  
+     /**
+      * Sink for this player's per-message log lines; check {@code isLoggable()} before formatting.
+      */
+     public LogSink logSink() {
+         return logSink;
+     }
+ 
+     /**
+      * Round-trip and service-time distributions, recorded as the counters advance. Unless given
+      * explicitly they are only recorded when a metrics export is configured.
+      */
+     public PlayerMetrics metrics() {
+         return metrics;
+     }
+ 
      public void logMessageReceived(String messageContent) {
-         int count = this.incrementAndGetReceivedCount();
-         System.out.println("[" + this.name + "] Received: " + messageContent + " (Total Received: " + count + ")");
+         logReceived(messageContent);
+     }
+ 
+     /**
+      * Counts a delta-encoded message; its text is only rebuilt if the log sink wants it.
+      */
+     public void logMessageReceived(Conversation message) {
+         logReceived(message);
+     }
+ 
+     private void logReceived(Object messageContent) {
+         long count = this.incrementAndGetReceivedCount();
+         if (logSink.isLoggable()) {
+             logSink.log("[" + this.name + "] Received: " + messageContent + " (Total Received: " + count + ")");
+         }
      }
  }
  
\ No newline at end of file
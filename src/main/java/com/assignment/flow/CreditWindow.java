@@ -0,0 +1,97 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.assignment.flow;
+
+import com.assignment.wait.WaitStrategy;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Credit-based flow control between a sender and a receiver.
+ * <p>
+ * The receiver grants one credit per message it is prepared to buffer; the sender spends
+ * a credit for every message and may not send without one. A slow receiver therefore
+ * throttles the sender at {@code window} messages in flight instead of letting a queue
+ * grow without bound. Grants are batched by {@link #grantBatch(int)} when they have to
+ * travel over the wire.
+ */
+public final class CreditWindow {
+
+    private final AtomicInteger credits;
+    private final WaitStrategy waitStrategy;
+
+    /**
+     * @param initialCredits credits available before the receiver grants any
+     * @param waitStrategy   how {@link #acquire()} waits; also signalled by {@link #grant(int)}
+     */
+    public CreditWindow(int initialCredits, WaitStrategy waitStrategy) {
+        if (initialCredits < 0) {
+            throw new IllegalArgumentException("initialCredits must not be negative: " + initialCredits);
+        }
+        this.credits = new AtomicInteger(initialCredits);
+        this.waitStrategy = waitStrategy;
+    }
+
+    /**
+     * Spends one credit if any is available.
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int available = credits.get();
+            if (available == 0) {
+                return false;
+            }
+            if (credits.compareAndSet(available, available - 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Spends one credit, waiting for the receiver to grant one if necessary.
+     */
+    public void acquire() throws InterruptedException {
+        int attempt = 0;
+        while (!tryAcquire()) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            waitStrategy.idle(attempt++);
+        }
+    }
+
+    /**
+     * Returns {@code count} credits to the sender.
+     */
+    public void grant(int count) {
+        credits.addAndGet(count);
+        waitStrategy.signal();
+    }
+
+    public int available() {
+        return credits.get();
+    }
+
+    /**
+     * @return how many consumed messages a remote receiver should accumulate before sending a
+     *         grant: half the window, so the sender never stalls on a full window while a
+     *         grant is in flight
+     */
+    public static int grantBatch(int window) {
+        return Math.max(1, window / 2);
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.assignment.journal;
+
+/**
+ * When a {@link MappedJournal} forces its appends to disk, named {@code none}, {@code async},
+ * {@code batch} and {@code sync}.
+ * <p>
+ * Appended records are in the page cache as soon as the append returns, so every policy
+ * survives a crash of the process; the policies differ in how much a power loss or kernel
+ * crash can take with it.
+ */
+public enum FsyncPolicy {
+
+    /** Never forces; the kernel writes pages back on its own schedule. */
+    NONE,
+
+    /**
+     * A background thread forces the journal once per interval if anything was appended,
+     * so appends never wait for the disk and one fsync covers every record of the interval.
+     */
+    ASYNC,
+
+    /** The appending thread forces once per batch of records, sharing one fsync between them. */
+    BATCH,
+
+    /** Forces after every record; nothing acknowledged can be lost, at the cost of an fsync each. */
+    SYNC;
+
+    public String optionName() {
+        return name().toLowerCase();
+    }
+
+    public static FsyncPolicy fromName(String name) {
+        for (FsyncPolicy policy : values()) {
+            if (policy.name().equalsIgnoreCase(name)) {
+                return policy;
+            }
+        }
+        throw new IllegalArgumentException("Unknown fsync policy: " + name
+                + " (expected 'none', 'async', 'batch' or 'sync')");
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.assignment.journal;
+
+import com.assignment.codec.Frame;
+import com.assignment.codec.MessageType;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Append-only record of the messages a process sends and receives.
+ * <p>
+ * Every record names the player it belongs to, so players sharing a process can share a
+ * journal; appends are safe from any thread.
+ */
+public interface Journal extends Closeable {
+
+    /** Which way a journaled message travelled, seen from the player named in the record. */
+    enum Direction {
+        SENT, RECEIVED;
+
+        static Direction fromCode(byte code) {
+            return code == 0 ? SENT : RECEIVED;
+        }
+
+        byte code() {
+            return (byte) ordinal();
+        }
+    }
+
+    /**
+     * Appends a message held as text, e.g. an in-process hand-off.
+     *
+     * @param counter the counter the message carries: for a DELTA its only content, otherwise
+     *                the sender's count that ends the payload
+     * @param payload ASCII text; empty for a DELTA
+     */
+    void append(Direction direction, String player, MessageType type, long counter, CharSequence payload);
+
+    /**
+     * Appends a decoded wire frame; its payload is copied, not retained.
+     */
+    void append(Direction direction, String player, Frame frame);
+
+    /**
+     * Forces everything appended so far and releases the journal.
+     */
+    @Override
+    void close() throws IOException;
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.assignment.journal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import static com.assignment.journal.MappedJournal.*;
+
+/**
+ * Reads the records of a {@link MappedJournal} directory in append order.
+ * <p>
+ * Reading stops at the end of each segment's intact records; a damaged record, which only a
+ * crash in the middle of an append leaves behind, ends that segment and is reported by
+ * {@link #damagedSegments()}.
+ */
+public final class JournalReader implements Closeable {
+
+    private final List<Path> segments;
+    private final CRC32 crc = new CRC32();
+    private int nextSegment;
+    private MappedByteBuffer segment;
+    private int position;
+    private int damagedSegments;
+
+    public JournalReader(Path directory) throws IOException {
+        this.segments = MappedJournal.segments(directory);
+    }
+
+    /**
+     * Moves {@code record} to the next record.
+     *
+     * @return false once every segment has been read
+     */
+    public boolean next(JournalRecord record) throws IOException {
+        while (true) {
+            if (segment != null) {
+                int bodyLength = bodyLengthAt(segment, crc, position);
+                if (bodyLength > 0) {
+                    record.wrap(segment, position + RECORD_HEADER_LENGTH, bodyLength);
+                    position += RECORD_HEADER_LENGTH + bodyLength;
+                    return true;
+                }
+                if (bodyLength < 0) {
+                    damagedSegments++;
+                }
+                segment = null;
+            }
+            if (nextSegment == segments.size()) {
+                return false;
+            }
+            open(segments.get(nextSegment++));
+        }
+    }
+
+    /**
+     * @return segments whose records ended in a damaged record rather than cleanly
+     */
+    public int damagedSegments() {
+        return damagedSegments;
+    }
+
+    private void open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (segment.limit() < SEGMENT_HEADER_LENGTH || segment.getInt(0) != MAGIC || segment.getInt(4) != VERSION) {
+            throw new IOException("Not a journal segment: " + path);
+        }
+        position = SEGMENT_HEADER_LENGTH;
+    }
+
+    @Override
+    public void close() {
+        segment = null;
+    }
+}
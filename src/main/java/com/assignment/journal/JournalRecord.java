@@ -0,0 +1,100 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.assignment.journal;
+
+import com.assignment.codec.MessageType;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static com.assignment.journal.MappedJournal.*;
+
+/**
+ * Reusable view of one record read by a {@link JournalReader}; valid until the next read.
+ */
+public final class JournalRecord {
+
+    private ByteBuffer segment;
+    private int body;
+    private int bodyLength;
+
+    void wrap(ByteBuffer segment, int body, int bodyLength) {
+        this.segment = segment;
+        this.body = body;
+        this.bodyLength = bodyLength;
+    }
+
+    /**
+     * @return 1-based position of the record in its journal
+     */
+    public long sequence() {
+        return segment.getLong(body + SEQUENCE_OFFSET);
+    }
+
+    public long timestampMillis() {
+        return segment.getLong(body + TIMESTAMP_OFFSET);
+    }
+
+    public Journal.Direction direction() {
+        return Journal.Direction.fromCode(segment.get(body + DIRECTION_OFFSET));
+    }
+
+    /**
+     * @return the message type, or null for a code this version does not know
+     */
+    public MessageType type() {
+        return MessageType.fromCode(segment.get(body + TYPE_OFFSET));
+    }
+
+    /**
+     * @return the counter the message carried; see {@link Journal#append(Journal.Direction, String, MessageType, long, CharSequence)}
+     */
+    public long counter() {
+        return segment.getLong(body + COUNTER_OFFSET);
+    }
+
+    public String player() {
+        return ascii(body + FIXED_BODY_LENGTH, playerLength());
+    }
+
+    public int payloadLength() {
+        return bodyLength - FIXED_BODY_LENGTH - playerLength();
+    }
+
+    public String payloadAsString() {
+        return ascii(body + FIXED_BODY_LENGTH + playerLength(), payloadLength());
+    }
+
+    private int playerLength() {
+        return segment.get(body + PLAYER_LENGTH_OFFSET) & 0xFF;
+    }
+
+    private String ascii(int offset, int length) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = segment.get(offset + i);
+        }
+        return new String(bytes, StandardCharsets.US_ASCII);
+    }
+
+    @Override
+    public String toString() {
+        return "#" + sequence() + " [" + player() + "] " + direction() + " " + type() + "[" + counter() + "] "
+                + payloadAsString();
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.assignment.journal;
+
+import com.assignment.codec.MessageType;
+import com.assignment.dto.Player;
+import com.assignment.log.NoOpLogSink;
+import com.assignment.message.Conversation;
+import com.assignment.metrics.PlayerMetrics;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Rebuilds players' counters and the message sequence from a journal, e.g. after a crash.
+ * <p>
+ * Counters follow the apps' rules: every sent DATA or DELTA message counts as sent, and every
+ * received DATA, DELTA or STOP counts as received; CREDIT frames are flow control and do not
+ * count. Delta-encoded messages are expanded against the conversation the same player last
+ * sent or received, so the replayed text matches what the player logged.
+ * Usage: {@code JournalReplay <directory> [--summary]}.
+ */
+public final class JournalReplay {
+
+    private final Map<String, Player> players = new LinkedHashMap<>();
+    private final Map<String, Conversation> conversations = new HashMap<>();
+    private long records;
+    private long lastSequence;
+    private int damagedSegments;
+
+    private JournalReplay() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("Usage: JournalReplay <directory> [--summary]");
+            System.exit(1);
+        }
+        boolean summaryOnly = args.length > 1 && "--summary".equals(args[1]);
+        JournalReplay replay = replay(Paths.get(args[0]), summaryOnly ? null : System.out::println);
+
+        System.out.println("--- Replayed " + replay.records() + " records, last sequence " + replay.lastSequence()
+                + " ---");
+        for (Player player : replay.players().values()) {
+            System.out.println("  " + player.getName() + ": Sent " + player.getSentCount() + ", Received "
+                    + player.getReceivedCount());
+        }
+        if (replay.damagedSegments() > 0) {
+            System.out.println("  Ignored a damaged record at the end of " + replay.damagedSegments() + " segment(s)");
+        }
+    }
+
+    /**
+     * @param messages receives one line per record, or null to only rebuild the counters
+     */
+    public static JournalReplay replay(Path directory, Consumer<String> messages) throws IOException {
+        JournalReplay replay = new JournalReplay();
+        JournalRecord record = new JournalRecord();
+        try (JournalReader reader = new JournalReader(directory)) {
+            while (reader.next(record)) {
+                replay.apply(record, messages);
+            }
+            replay.damagedSegments = reader.damagedSegments();
+        }
+        return replay;
+    }
+
+    private void apply(JournalRecord record, Consumer<String> messages) {
+        records++;
+        lastSequence = record.sequence();
+        String name = record.player();
+        Player player = players.computeIfAbsent(name,
+                key -> new Player(key, Long.MAX_VALUE, NoOpLogSink.INSTANCE, PlayerMetrics.disabled(key)));
+        boolean sent = record.direction() == Journal.Direction.SENT;
+        MessageType type = record.type();
+
+        String text;
+        if (type == MessageType.DATA || type == MessageType.DELTA) {
+            if (sent) {
+                player.incrementAndGetSentCount();
+            } else {
+                player.incrementAndGetReceivedCount();
+            }
+            text = type == MessageType.DATA ? data(name, record.payloadAsString())
+                    : delta(name, record.counter(), messages != null);
+        } else {
+            if (type == MessageType.STOP && !sent) {
+                player.incrementAndGetReceivedCount();
+            }
+            text = type == null ? "UNKNOWN" : type == MessageType.STOP ? "STOP" : type + " " + record.counter();
+        }
+        if (messages != null) {
+            messages.accept("#" + record.sequence() + " [" + name + "] " + record.direction() + ": " + text);
+        }
+    }
+
+    private String data(String player, String payload) {
+        try {
+            conversations.put(player, Conversation.parse(payload));
+        } catch (IllegalArgumentException e) {
+            // Not a conversation, e.g. a load-generator payload; a later DELTA cannot extend it
+            conversations.remove(player);
+        }
+        return payload;
+    }
+
+    private String delta(String player, long counter, boolean render) {
+        Conversation conversation = conversations.get(player);
+        if (conversation == null) {
+            return "DELTA " + counter;
+        }
+        conversation = conversation.append(counter);
+        conversations.put(player, conversation);
+        return render ? conversation.toString() : null;
+    }
+
+    /**
+     * @return rebuilt players by name, in order of first appearance
+     */
+    public Map<String, Player> players() {
+        return Collections.unmodifiableMap(players);
+    }
+
+    public long records() {
+        return records;
+    }
+
+    /**
+     * @return sequence of the last intact record, 0 for an empty journal
+     */
+    public long lastSequence() {
+        return lastSequence;
+    }
+
+    public int damagedSegments() {
+        return damagedSegments;
+    }
+}
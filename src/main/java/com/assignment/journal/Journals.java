@@ -0,0 +1,58 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.assignment.journal;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+
+/**
+ * Opens the {@link Journal} configured by system properties.
+ */
+public final class Journals {
+
+    /** System property with the journal root directory; journaling is off unless it is set. */
+    public static final String DIRECTORY_PROPERTY = "player.journal";
+    /** System property selecting the {@link FsyncPolicy}; defaults to {@code async}. */
+    public static final String FSYNC_PROPERTY = "player.journal.fsync";
+    /** System property with the segment file size in bytes; defaults to 64 MiB. */
+    public static final String SEGMENT_SIZE_PROPERTY = "player.journal.segment";
+    /** System property with the records per fsync of the {@code batch} policy; defaults to 64. */
+    public static final String BATCH_PROPERTY = "player.journal.batch";
+    /** System property with the milliseconds between fsyncs of the {@code async} policy; defaults to 10. */
+    public static final String INTERVAL_PROPERTY = "player.journal.interval";
+
+    private Journals() {
+    }
+
+    /**
+     * @param name subdirectory of the journal root for this process, so processes sharing a
+     *             root do not share segments
+     * @return a {@link MappedJournal}, or {@link NoOpJournal#INSTANCE} if journaling is off
+     */
+    public static Journal fromSystemProperties(String name) throws IOException {
+        String root = System.getProperty(DIRECTORY_PROPERTY);
+        if (root == null) {
+            return NoOpJournal.INSTANCE;
+        }
+        return new MappedJournal(Paths.get(root, name),
+                Integer.getInteger(SEGMENT_SIZE_PROPERTY, MappedJournal.DEFAULT_SEGMENT_SIZE),
+                FsyncPolicy.fromName(System.getProperty(FSYNC_PROPERTY, "async")),
+                Integer.getInteger(BATCH_PROPERTY, MappedJournal.DEFAULT_BATCH_SIZE),
+                Long.getLong(INTERVAL_PROPERTY, MappedJournal.DEFAULT_FLUSH_INTERVAL_MILLIS));
+    }
+}
@@ -0,0 +1,387 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.assignment.journal;
+
+import com.assignment.codec.Frame;
+import com.assignment.codec.MessageType;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * {@link Journal} written to a directory of memory-mapped, preallocated segment files.
+ * <p>
+ * An append copies the record into the mapped segment and returns; when the {@link FsyncPolicy}
+ * is {@code async} or {@code none} it never waits for the disk, so it costs a lock, a bulk
+ * copy and a CRC32 of the record. A segment that cannot take the next record is forced and closed,
+ * and a new one is started. Each segment is laid out as:
+ * <pre>
+ *   segment: int magic | int version | long firstSequence | record* | zeros
+ *   record:  int bodyLength | int checksum | body
+ *   body:    long sequence | long timestampMillis | byte direction | byte type | long counter
+ *            | byte playerLength | player | payload
+ * </pre>
+ * The body length is written last and the checksum covers the whole body, so a record
+ * torn by a crash is detected rather than misread. Opening an existing directory resumes
+ * after its last intact record and wipes anything damaged behind it.
+ */
+public final class MappedJournal implements Journal {
+
+    public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+    public static final int DEFAULT_BATCH_SIZE = 64;
+    public static final long DEFAULT_FLUSH_INTERVAL_MILLIS = 10;
+
+    static final String SEGMENT_PREFIX = "segment-";
+    static final String SEGMENT_SUFFIX = ".journal";
+    static final int MAGIC = 0x4A524E4C; // "JRNL"
+    static final int VERSION = 1;
+    static final int SEGMENT_HEADER_LENGTH = 16;
+    static final int RECORD_HEADER_LENGTH = 8;
+    /** Body bytes before the player name. */
+    static final int FIXED_BODY_LENGTH = 27;
+    static final int SEQUENCE_OFFSET = 0;
+    static final int TIMESTAMP_OFFSET = 8;
+    static final int DIRECTION_OFFSET = 16;
+    static final int TYPE_OFFSET = 17;
+    static final int COUNTER_OFFSET = 18;
+    static final int PLAYER_LENGTH_OFFSET = 26;
+    private static final int MAX_PLAYER_LENGTH = 255;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final FsyncPolicy policy;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final Thread flusher;
+    private final CRC32 crc = new CRC32();
+    /** ASCII bytes of the name and payload being appended, copied into the segment in bulk. */
+    private byte[] scratch = new byte[256];
+    private MappedByteBuffer segment;
+    private int segmentIndex;
+    private int position;
+    private int recordStart;
+    private long nextSequence;
+    private int unforced;
+    private boolean dirty;
+    private boolean closed;
+
+    public MappedJournal(Path directory, FsyncPolicy policy) throws IOException {
+        this(directory, DEFAULT_SEGMENT_SIZE, policy, DEFAULT_BATCH_SIZE, DEFAULT_FLUSH_INTERVAL_MILLIS);
+    }
+
+    /**
+     * Opens the journal in {@code directory}, creating it if needed and continuing after the
+     * last intact record if it already holds segments.
+     *
+     * @param segmentSize         bytes per segment file; bounds the largest record
+     * @param batchSize           records per fsync for {@link FsyncPolicy#BATCH}
+     * @param flushIntervalMillis time between fsyncs for {@link FsyncPolicy#ASYNC}
+     */
+    public MappedJournal(Path directory, int segmentSize, FsyncPolicy policy, int batchSize,
+            long flushIntervalMillis) throws IOException {
+        if (segmentSize < SEGMENT_HEADER_LENGTH + RECORD_HEADER_LENGTH + FIXED_BODY_LENGTH) {
+            throw new IllegalArgumentException("segmentSize too small: " + segmentSize);
+        }
+        if (batchSize < 1 || flushIntervalMillis < 1) {
+            throw new IllegalArgumentException("batchSize and flushIntervalMillis must be positive");
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.policy = policy;
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+        Files.createDirectories(directory);
+        List<Path> existing = segments(directory);
+        if (existing.isEmpty()) {
+            startSegment(0, 1);
+        } else {
+            recover(existing.get(existing.size() - 1), existing.size() - 1);
+        }
+        if (policy == FsyncPolicy.ASYNC) {
+            flusher = new Thread(this::flushPeriodically, "journal-flusher");
+            flusher.setDaemon(true);
+            flusher.start();
+        } else {
+            flusher = null;
+        }
+    }
+
+    @Override
+    public synchronized void append(Direction direction, String player, MessageType type, long counter,
+            CharSequence payload) {
+        int length = payload.length();
+        int offset = begin(direction, player, type, counter, length);
+        byte[] bytes = scratch(length);
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) payload.charAt(i);
+        }
+        put(offset, bytes, length);
+        commit(offset + length);
+    }
+
+    @Override
+    public synchronized void append(Direction direction, String player, Frame frame) {
+        int length = frame.payloadLength();
+        int offset = begin(direction, player, frame.type(), frame.senderCounter(), length);
+        byte[] bytes = scratch(length);
+        for (int i = 0; i < length; i++) {
+            bytes[i] = frame.payloadByte(i);
+        }
+        put(offset, bytes, length);
+        commit(offset + length);
+    }
+
+    /**
+     * @return the sequence number the next record will get
+     */
+    public synchronized long nextSequence() {
+        return nextSequence;
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (policy != FsyncPolicy.NONE) {
+                segment.force();
+            }
+        }
+        if (flusher != null) {
+            flusher.interrupt();
+        }
+    }
+
+    /**
+     * Writes the record header fields and the player name.
+     *
+     * @return where the payload starts
+     */
+    private int begin(Direction direction, String player, MessageType type, long counter, int payloadLength) {
+        if (closed) {
+            throw new IllegalStateException("Journal is closed: " + directory);
+        }
+        int playerLength = player.length();
+        if (playerLength > MAX_PLAYER_LENGTH) {
+            throw new IllegalArgumentException("Player name longer than " + MAX_PLAYER_LENGTH + ": " + player);
+        }
+        int recordLength = RECORD_HEADER_LENGTH + FIXED_BODY_LENGTH + playerLength + payloadLength;
+        if (recordLength > segmentSize - SEGMENT_HEADER_LENGTH) {
+            throw new IllegalArgumentException("Record of " + recordLength + " bytes exceeds the segment size");
+        }
+        if (position + recordLength > segmentSize) {
+            try {
+                nextSegment();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot start journal segment in " + directory, e);
+            }
+        }
+        recordStart = position;
+        int body = recordStart + RECORD_HEADER_LENGTH;
+        segment.putLong(body + SEQUENCE_OFFSET, nextSequence);
+        segment.putLong(body + TIMESTAMP_OFFSET, System.currentTimeMillis());
+        segment.put(body + DIRECTION_OFFSET, direction.code());
+        segment.put(body + TYPE_OFFSET, type.code());
+        segment.putLong(body + COUNTER_OFFSET, counter);
+        segment.put(body + PLAYER_LENGTH_OFFSET, (byte) playerLength);
+        int offset = body + FIXED_BODY_LENGTH;
+        byte[] bytes = scratch(playerLength);
+        for (int i = 0; i < playerLength; i++) {
+            bytes[i] = (byte) player.charAt(i);
+        }
+        put(offset, bytes, playerLength);
+        return offset + playerLength;
+    }
+
+    private byte[] scratch(int length) {
+        if (scratch.length < length) {
+            scratch = new byte[Math.max(length, 2 * scratch.length)];
+        }
+        return scratch;
+    }
+
+    private void put(int offset, byte[] bytes, int length) {
+        segment.position(offset);
+        segment.put(bytes, 0, length);
+    }
+
+    /**
+     * Seals the record ending at {@code end} and applies the fsync policy.
+     */
+    private void commit(int end) {
+        int body = recordStart + RECORD_HEADER_LENGTH;
+        segment.putInt(recordStart + 4, checksum(segment, crc, body, end));
+        segment.putInt(recordStart, end - body);
+        position = end;
+        nextSequence++;
+        switch (policy) {
+            case SYNC:
+                segment.force();
+                break;
+            case BATCH:
+                if (++unforced == batchSize) {
+                    segment.force();
+                    unforced = 0;
+                }
+                break;
+            case ASYNC:
+                dirty = true;
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void nextSegment() throws IOException {
+        if (policy != FsyncPolicy.NONE) {
+            segment.force();
+        }
+        startSegment(segmentIndex + 1, nextSequence);
+    }
+
+    private void startSegment(int index, long firstSequence) throws IOException {
+        map(index);
+        segment.putInt(0, MAGIC);
+        segment.putInt(4, VERSION);
+        segment.putLong(8, firstSequence);
+        position = SEGMENT_HEADER_LENGTH;
+        nextSequence = firstSequence;
+        unforced = 0;
+    }
+
+    /**
+     * Reopens the newest segment and positions after its last intact record.
+     */
+    private void recover(Path last, int index) throws IOException {
+        if (Files.size(last) != segmentSize) {
+            throw new IOException("Segment " + last + " is not " + segmentSize + " bytes; was the segment size changed?");
+        }
+        map(index);
+        if (segment.getInt(0) != MAGIC || segment.getInt(4) != VERSION) {
+            throw new IOException("Not a journal segment: " + last);
+        }
+        nextSequence = segment.getLong(8);
+        position = SEGMENT_HEADER_LENGTH;
+        int bodyLength;
+        while ((bodyLength = bodyLengthAt(segment, crc, position)) > 0) {
+            position += RECORD_HEADER_LENGTH + bodyLength;
+            nextSequence++;
+        }
+        if (bodyLength < 0) {
+            // A torn tail: wipe it so new records are not followed by stale bytes
+            for (int i = position; i < segmentSize; i++) {
+                segment.put(i, (byte) 0);
+            }
+        }
+    }
+
+    private void map(int index) throws IOException {
+        segmentIndex = index;
+        Path path = directory.resolve(segmentName(index));
+        // The mapping stays valid after the file is closed
+        try (RandomAccessFile raf = new RandomAccessFile(path.toFile(), "rw")) {
+            raf.setLength(segmentSize);
+            segment = raf.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        }
+    }
+
+    private void flushPeriodically() {
+        while (true) {
+            try {
+                Thread.sleep(flushIntervalMillis);
+            } catch (InterruptedException e) {
+                return;
+            }
+            MappedByteBuffer toForce;
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                if (!dirty) {
+                    continue;
+                }
+                dirty = false;
+                toForce = segment;
+            }
+            toForce.force();
+        }
+    }
+
+    static String segmentName(int index) {
+        return String.format("%s%08d%s", SEGMENT_PREFIX, index, SEGMENT_SUFFIX);
+    }
+
+    /**
+     * @return the segment files of {@code directory} in append order
+     */
+    static List<Path> segments(Path directory) throws IOException {
+        List<Path> segments = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory,
+                SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            for (Path path : stream) {
+                segments.add(path);
+            }
+        }
+        Collections.sort(segments);
+        return segments;
+    }
+
+    /**
+     * @return the body length of the intact record at {@code position}, 0 at the clean end of
+     *         the segment, or -1 if the bytes there are a damaged record
+     */
+    static int bodyLengthAt(ByteBuffer segment, CRC32 crc, int position) {
+        if (position + RECORD_HEADER_LENGTH > segment.limit()) {
+            return 0;
+        }
+        int bodyLength = segment.getInt(position);
+        if (bodyLength == 0 && segment.getInt(position + 4) == 0) {
+            return 0;
+        }
+        int body = position + RECORD_HEADER_LENGTH;
+        if (bodyLength < FIXED_BODY_LENGTH || bodyLength > segment.limit() - body
+                || checksum(segment, crc, body, body + bodyLength) != segment.getInt(position + 4)) {
+            return -1;
+        }
+        return bodyLength;
+    }
+
+    /**
+     * CRC32 of {@code [from, to)}; moves the buffer's position and leaves its limit at capacity.
+     */
+    static int checksum(ByteBuffer buffer, CRC32 crc, int from, int to) {
+        crc.reset();
+        buffer.limit(to).position(from);
+        crc.update(buffer);
+        buffer.limit(buffer.capacity());
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.assignment.journal;
+
+import com.assignment.codec.Frame;
+import com.assignment.codec.MessageType;
+
+/**
+ * Journal that records nothing, used when journaling is off.
+ */
+public final class NoOpJournal implements Journal {
+
+    public static final NoOpJournal INSTANCE = new NoOpJournal();
+
+    private NoOpJournal() {
+    }
+
+    @Override
+    public void append(Direction direction, String player, MessageType type, long counter, CharSequence payload) {
+    }
+
+    @Override
+    public void append(Direction direction, String player, Frame frame) {
+    }
+
+    @Override
+    public void close() {
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.assignment.log;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hands events to a background writer thread so logging costs the caller one queue offer.
+ * <p>
+ * The queue is bounded: when it is full the event is dropped rather than blocking the
+ * messaging thread, and the writer reports how many events were lost in its next batch.
+ * The writer drains up to {@code batchSize} events at a time and flushes the underlying
+ * {@link Writer} once per batch. Once {@link #close()} has started every event is either
+ * still written or counted as dropped, never silently lost.
+ */
+public final class AsyncLogSink implements LogSink {
+
+    public static final int DEFAULT_CAPACITY = 8192;
+    public static final int DEFAULT_BATCH_SIZE = 256;
+    private static final long IDLE_POLL_MS = 50;
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
+    private final Writer out;
+    private final BlockingQueue<String> queue;
+    private final int batchSize;
+    private final AtomicLong dropped = new AtomicLong();
+    private final Thread writer;
+    /** Drops already reported; only touched by the writer thread. */
+    private long reportedDrops;
+    private volatile boolean running = true;
+
+    public AsyncLogSink(Writer out) {
+        this(out, DEFAULT_CAPACITY, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * @param out       destination, written and flushed only by the writer thread; not closed by this sink
+     * @param capacity  events that may wait for the writer before new ones are dropped
+     * @param batchSize most events written between two flushes
+     */
+    public AsyncLogSink(Writer out, int capacity, int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+        }
+        this.out = out;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.writer = new Thread(this::drain, "log-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    @Override
+    public boolean isLoggable() {
+        return true;
+    }
+
+    @Override
+    public void log(String event) {
+        if (!running || !queue.offer(event)) {
+            dropped.incrementAndGet();
+        } else if (!running && queue.remove(event)) {
+            // close() started during the offer and may already have drained the queue for the last time
+            dropped.incrementAndGet();
+        }
+    }
+
+    @Override
+    public long droppedEvents() {
+        return dropped.get();
+    }
+
+    /**
+     * Stops accepting events, waits for the writer to drain the queue, then writes whatever
+     * was offered while it was stopping.
+     */
+    @Override
+    public void close() {
+        running = false;
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            // The writer may still be running, so the queue is left to it
+            Thread.currentThread().interrupt();
+            return;
+        }
+        List<String> rest = new ArrayList<>();
+        queue.drainTo(rest);
+        try {
+            write(rest);
+        } catch (IOException e) {
+            dropped.addAndGet(rest.size());
+        }
+    }
+
+    private void drain() {
+        List<String> batch = new ArrayList<>(batchSize);
+        try {
+            while (running || !queue.isEmpty()) {
+                String first = queue.poll(IDLE_POLL_MS, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    queue.drainTo(batch, batchSize - 1);
+                }
+                write(batch);
+                batch.clear();
+            }
+            write(batch);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            running = false;
+            System.err.println("[" + writer.getName() + "] Logging stopped: " + e.getMessage());
+        }
+    }
+
+    private void write(List<String> batch) throws IOException {
+        for (String event : batch) {
+            out.write(event);
+            out.write(LINE_SEPARATOR);
+        }
+        long drops = dropped.get();
+        if (drops != reportedDrops) {
+            out.write("[" + writer.getName() + "] Dropped " + (drops - reportedDrops) + " event(s): queue full");
+            out.write(LINE_SEPARATOR);
+            reportedDrops = drops;
+        } else if (batch.isEmpty()) {
+            return;
+        }
+        out.flush();
+    }
+}
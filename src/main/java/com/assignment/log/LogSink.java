@@ -0,0 +1,59 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.assignment.log;
+
+import java.io.Closeable;
+
+/**
+ * Destination for the per-message log lines of the players.
+ * <p>
+ * Callers check {@link #isLoggable()} before building an event, so sinks that discard
+ * events also save the string formatting:
+ * <pre>{@code
+ * if (sink.isLoggable()) {
+ *     sink.log("[" + name + "] Received: " + content);
+ * }
+ * }</pre>
+ * Implementations are safe to share between threads.
+ */
+public interface LogSink extends Closeable {
+
+    /**
+     * @return whether the next event should be formatted and passed to {@link #log(String)};
+     *         sampling sinks count every call
+     */
+    boolean isLoggable();
+
+    /**
+     * Records one preformatted event, without a line terminator.
+     */
+    void log(String event);
+
+    /**
+     * @return events discarded because the sink could not keep up
+     */
+    default long droppedEvents() {
+        return 0;
+    }
+
+    /**
+     * Writes out anything still buffered.
+     */
+    @Override
+    default void close() {
+    }
+}
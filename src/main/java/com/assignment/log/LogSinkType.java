@@ -0,0 +1,74 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.assignment.log;
+
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+
+/**
+ * Selectable {@link LogSink} implementations, named {@code console}, {@code none},
+ * {@code sampled} and {@code async}.
+ */
+public enum LogSinkType {
+
+    CONSOLE {
+        @Override
+        public LogSink create() {
+            return ConsoleLogSink.INSTANCE;
+        }
+    },
+
+    NONE {
+        @Override
+        public LogSink create() {
+            return NoOpLogSink.INSTANCE;
+        }
+    },
+
+    /** Every {@value LogSinks#SAMPLE_RATE_PROPERTY}-th event, printed to the console. */
+    SAMPLED {
+        @Override
+        public LogSink create() {
+            return new SampledLogSink(ConsoleLogSink.INSTANCE,
+                    Integer.getInteger(LogSinks.SAMPLE_RATE_PROPERTY, DEFAULT_SAMPLE_RATE));
+        }
+    },
+
+    /** All events, written to standard output in batches by a background thread. */
+    ASYNC {
+        @Override
+        public LogSink create() {
+            return new AsyncLogSink(new BufferedWriter(new OutputStreamWriter(System.out)),
+                    Integer.getInteger(LogSinks.QUEUE_CAPACITY_PROPERTY, AsyncLogSink.DEFAULT_CAPACITY),
+                    AsyncLogSink.DEFAULT_BATCH_SIZE);
+        }
+    };
+
+    static final int DEFAULT_SAMPLE_RATE = 100;
+
+    public abstract LogSink create();
+
+    public static LogSinkType fromName(String name) {
+        for (LogSinkType type : values()) {
+            if (type.name().equalsIgnoreCase(name)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Unknown log sink: " + name
+                + " (expected 'console', 'none', 'sampled' or 'async')");
+    }
+}
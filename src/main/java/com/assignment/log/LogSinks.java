@@ -0,0 +1,49 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.assignment.log;
+
+/**
+ * The process-wide {@link LogSink} used by players that are not given one explicitly.
+ */
+public final class LogSinks {
+
+    /** System property selecting the {@link LogSinkType}; defaults to {@code console}. */
+    public static final String LOG_PROPERTY = "player.log";
+    /** System property with the sampling rate of the {@code sampled} sink; defaults to 100. */
+    public static final String SAMPLE_RATE_PROPERTY = "player.log.sample";
+    /** System property with the queue capacity of the {@code async} sink. */
+    public static final String QUEUE_CAPACITY_PROPERTY = "player.log.queue";
+
+    private LogSinks() {
+    }
+
+    /**
+     * @return the sink chosen by {@value #LOG_PROPERTY}, created on first use and closed by a
+     *         shutdown hook so buffered events are written before the JVM exits
+     */
+    public static LogSink shared() {
+        return Holder.SHARED;
+    }
+
+    private static final class Holder {
+        static final LogSink SHARED = LogSinkType.fromName(System.getProperty(LOG_PROPERTY, "console")).create();
+
+        static {
+            Runtime.getRuntime().addShutdownHook(new Thread(SHARED::close, "log-sink-shutdown"));
+        }
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.assignment.log;
+
+/**
+ * Discards everything; callers skip formatting entirely.
+ */
+public final class NoOpLogSink implements LogSink {
+
+    public static final NoOpLogSink INSTANCE = new NoOpLogSink();
+
+    private NoOpLogSink() {
+    }
+
+    @Override
+    public boolean isLoggable() {
+        return false;
+    }
+
+    @Override
+    public void log(String event) {
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.assignment.log;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Passes one in every {@code rate} events to a delegate sink, starting with the first.
+ */
+public final class SampledLogSink implements LogSink {
+
+    private final LogSink delegate;
+    private final int rate;
+    private final AtomicLong candidates = new AtomicLong();
+
+    public SampledLogSink(LogSink delegate, int rate) {
+        if (rate < 1) {
+            throw new IllegalArgumentException("rate must be positive: " + rate);
+        }
+        this.delegate = delegate;
+        this.rate = rate;
+    }
+
+    @Override
+    public boolean isLoggable() {
+        return candidates.getAndIncrement() % rate == 0 && delegate.isLoggable();
+    }
+
+    @Override
+    public void log(String event) {
+        delegate.log(event);
+    }
+
+    @Override
+    public long droppedEvents() {
+        return delegate.droppedEvents();
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+}
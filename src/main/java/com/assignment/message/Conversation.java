@@ -0,0 +1,117 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.assignment.message;
+
+/**
+ * Delta-encoded form of the growing ping-pong message {@code "ping 1 1 2 2 ..."}.
+ * <p>
+ * Each hop appends one counter, and a conversation is an immutable, append-only list that
+ * points back at the one it extends. Appending costs one small node whatever the length,
+ * a hop only needs to carry the newest counter, and the full text is rebuilt on demand by
+ * {@link #toString()}. Because nodes are immutable, a conversation can be handed to another
+ * thread without copying.
+ */
+public final class Conversation {
+
+    private final Conversation previous;
+    /** Leading word of the text; only set on the first node. */
+    private final String root;
+    private final long counter;
+    private final int length;
+
+    private Conversation(Conversation previous, String root, long counter, int length) {
+        this.previous = previous;
+        this.root = root;
+        this.counter = counter;
+        this.length = length;
+    }
+
+    /**
+     * @return the one-counter conversation {@code root + " " + counter}, e.g. {@code "ping 1"}
+     */
+    public static Conversation start(String root, long counter) {
+        return new Conversation(null, root, counter, 1);
+    }
+
+    /**
+     * Parses the text form; the inverse of {@link #toString()}.
+     *
+     * @throws IllegalArgumentException if the text is not a word followed by one or more integers
+     */
+    public static Conversation parse(String text) {
+        String[] parts = text.trim().split(" +");
+        if (parts.length < 2) {
+            throw new IllegalArgumentException("Expected a word followed by counters: " + text);
+        }
+        try {
+            Conversation conversation = start(parts[0], Long.parseLong(parts[1]));
+            for (int i = 2; i < parts.length; i++) {
+                conversation = conversation.append(Long.parseLong(parts[i]));
+            }
+            return conversation;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Expected a word followed by counters: " + text, e);
+        }
+    }
+
+    /**
+     * @return this conversation followed by {@code next}; this one is unchanged
+     */
+    public Conversation append(long next) {
+        return new Conversation(this, null, next, length + 1);
+    }
+
+    /**
+     * @return the newest counter, the only part that changes from one hop to the next
+     */
+    public long counter() {
+        return counter;
+    }
+
+    /**
+     * @return number of counters
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * Appends the full text form to {@code out}.
+     */
+    public StringBuilder appendTo(StringBuilder out) {
+        long[] counters = new long[length];
+        Conversation node = this;
+        for (int i = length - 1; i > 0; i--) {
+            counters[i] = node.counter;
+            node = node.previous;
+        }
+        counters[0] = node.counter;
+        out.append(node.root);
+        for (long value : counters) {
+            out.append(' ').append(value);
+        }
+        return out;
+    }
+
+    /**
+     * @return the text form, e.g. {@code "ping 1 1 2 2"}
+     */
+    @Override
+    public String toString() {
+        return appendTo(new StringBuilder(8 + 4 * length)).toString();
+    }
+}
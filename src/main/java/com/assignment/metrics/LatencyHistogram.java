@@ -0,0 +1,195 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.assignment.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size log-linear histogram of nanosecond latencies, in the style of HdrHistogram.
+ * <p>
+ * Values below {@value #SUB_BUCKET_COUNT} are counted exactly; above that every power-of-two
+ * range is split into {@value #HALF_SUB_BUCKET_COUNT} equal buckets. A percentile reports the
+ * highest value of its bucket, at most 1/{@value #HALF_SUB_BUCKET_COUNT} (about 3.1%) above the
+ * true value. Values beyond {@link #MAX_TRACKABLE_NANOS} land in the last bucket, although
+ * {@link Snapshot#getMax()} stays exact. The counts are allocated up front, so
+ * {@link #record(long)} never allocates and may be called from any thread.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 6;
+    static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    static final int HALF_SUB_BUCKET_COUNT = SUB_BUCKET_COUNT / 2;
+    /** Highest value with its own bucket: 2^40 ns, about 18 minutes. */
+    public static final long MAX_TRACKABLE_NANOS = (1L << 40) - 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(indexOf(MAX_TRACKABLE_NANOS) + 1);
+    private final AtomicLong totalNanos = new AtomicLong();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    /**
+     * Counts one latency; negative values (clock skew between threads) count as zero.
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts.incrementAndGet(indexOf(Math.min(value, MAX_TRACKABLE_NANOS)));
+        totalNanos.addAndGet(value);
+        long max;
+        while (value > (max = maxNanos.get()) && !maxNanos.compareAndSet(max, value)) {
+            // lost a race with a larger or concurrent update; re-read
+        }
+    }
+
+    public void reset() {
+        for (int i = 0; i < counts.length(); i++) {
+            counts.set(i, 0);
+        }
+        totalNanos.set(0);
+        maxNanos.set(0);
+    }
+
+    /**
+     * Copies the current distribution. Samples recorded while the copy is taken may or may not
+     * be included.
+     */
+    public Snapshot snapshot() {
+        return snapshot(this);
+    }
+
+    /**
+     * Copies the combined distribution of {@code histograms}, as if every value had been recorded
+     * into one histogram. Lets writers on different threads record into histograms of their own.
+     */
+    public static Snapshot snapshot(LatencyHistogram... histograms) {
+        long[] copy = new long[indexOf(MAX_TRACKABLE_NANOS) + 1];
+        long count = 0;
+        long total = 0;
+        long max = 0;
+        for (LatencyHistogram histogram : histograms) {
+            for (int i = 0; i < copy.length; i++) {
+                long bucket = histogram.counts.get(i);
+                copy[i] += bucket;
+                count += bucket;
+            }
+            total += histogram.totalNanos.get();
+            max = Math.max(max, histogram.maxNanos.get());
+        }
+        return new Snapshot(count, count == 0 ? 0 : total / count,
+                valueAtPercentile(copy, count, max, 50.0),
+                valueAtPercentile(copy, count, max, 99.0),
+                valueAtPercentile(copy, count, max, 99.9), max);
+    }
+
+    static int indexOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - (SUB_BUCKET_BITS - 1);
+        int subBucket = (int) (value >>> shift) - HALF_SUB_BUCKET_COUNT;
+        return SUB_BUCKET_COUNT + (shift - 1) * HALF_SUB_BUCKET_COUNT + subBucket;
+    }
+
+    /**
+     * @return the highest value that maps to {@code index}
+     */
+    static long highestValueAt(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = (index - SUB_BUCKET_COUNT) / HALF_SUB_BUCKET_COUNT + 1;
+        long subBucket = (index - SUB_BUCKET_COUNT) % HALF_SUB_BUCKET_COUNT + HALF_SUB_BUCKET_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+
+    private static long valueAtPercentile(long[] counts, long total, long max, double percentile) {
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * total));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(highestValueAt(i), max);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Immutable summary of a histogram, in nanoseconds. The getters let JMX expose it as
+     * composite data.
+     */
+    public static final class Snapshot {
+
+        private final long count;
+        private final long mean;
+        private final long p50;
+        private final long p99;
+        private final long p999;
+        private final long max;
+
+        Snapshot(long count, long mean, long p50, long p99, long p999, long max) {
+            this.count = count;
+            this.mean = mean;
+            this.p50 = p50;
+            this.p99 = p99;
+            this.p999 = p999;
+            this.max = max;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getMean() {
+            return mean;
+        }
+
+        public long getP50() {
+            return p50;
+        }
+
+        public long getP99() {
+            return p99;
+        }
+
+        public long getP999() {
+            return p999;
+        }
+
+        public long getMax() {
+            return max;
+        }
+
+        String toJson() {
+            return "{\"count\":" + count + ",\"mean\":" + mean + ",\"p50\":" + p50 + ",\"p99\":" + p99
+                    + ",\"p999\":" + p999 + ",\"max\":" + max + "}";
+        }
+
+        @Override
+        public String toString() {
+            return String.format("n=%d p50=%.1fus p99=%.1fus p99.9=%.1fus max=%.1fus", count, micros(p50),
+                    micros(p99), micros(p999), micros(max));
+        }
+
+        private static double micros(long nanos) {
+            return nanos / (double) TimeUnit.MICROSECONDS.toNanos(1);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.assignment.metrics;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Publishes {@link PlayerMetrics} as a periodically rewritten JSON file and/or as JMX MBeans
+ * named {@code com.assignment:type=Player,name=<player>}.
+ * <p>
+ * The JSON file is replaced atomically on every snapshot and written once more on
+ * {@link #close()}, so it always holds the final distributions of a finished run. With
+ * neither output configured the exporter does nothing.
+ */
+public final class MetricsExporter implements Closeable {
+
+    /** System property with the JSON file to write; unset disables the file export. */
+    public static final String FILE_PROPERTY = "player.metrics.file";
+    /** System property with the JSON snapshot period in milliseconds; defaults to 1000. */
+    public static final String PERIOD_PROPERTY = "player.metrics.period";
+    /** System property that registers the MBeans when {@code true}. */
+    public static final String JMX_PROPERTY = "player.metrics.jmx";
+
+    private static final String DOMAIN = "com.assignment";
+
+    private final List<PlayerMetrics> metrics;
+    private final Path file;
+    private final ScheduledExecutorService scheduler;
+    private final List<ObjectName> registered = new ArrayList<>();
+
+    /**
+     * @param file         JSON destination, or {@code null} for none
+     * @param periodMillis snapshot period for the file; 0 writes it only on close
+     * @param jmx          whether to register an MBean per player
+     */
+    public MetricsExporter(List<PlayerMetrics> metrics, Path file, long periodMillis, boolean jmx)
+            throws IOException {
+        this.metrics = new ArrayList<>(metrics);
+        this.file = file;
+        if (jmx) {
+            registerMBeans();
+        }
+        if (file != null && periodMillis > 0) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(task -> {
+                Thread thread = new Thread(task, "metrics-exporter");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.scheduleAtFixedRate(this::writeQuietly, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+        } else {
+            scheduler = null;
+        }
+    }
+
+    /**
+     * Creates an exporter configured by {@value #FILE_PROPERTY}, {@value #PERIOD_PROPERTY} and
+     * {@value #JMX_PROPERTY}.
+     */
+    public static MetricsExporter fromSystemProperties(PlayerMetrics... metrics) throws IOException {
+        String file = System.getProperty(FILE_PROPERTY);
+        return new MetricsExporter(Arrays.asList(metrics), file == null ? null : Paths.get(file),
+                Long.getLong(PERIOD_PROPERTY, 1000), Boolean.getBoolean(JMX_PROPERTY));
+    }
+
+    /**
+     * @return whether the system properties ask for a JSON file or for MBeans
+     */
+    public static boolean isConfigured() {
+        return System.getProperty(FILE_PROPERTY) != null || Boolean.getBoolean(JMX_PROPERTY);
+    }
+
+    /**
+     * @return every player's distributions as one JSON document
+     */
+    public String toJson() {
+        StringBuilder json = new StringBuilder("{\"timestampMillis\":").append(System.currentTimeMillis())
+                .append(",\"unit\":\"ns\",\"players\":[");
+        for (int i = 0; i < metrics.size(); i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append(metrics.get(i).toJson());
+        }
+        return json.append("]}").toString();
+    }
+
+    /**
+     * Replaces the JSON file with a fresh snapshot.
+     */
+    public void write() throws IOException {
+        if (file == null) {
+            return;
+        }
+        Path directory = file.toAbsolutePath().getParent();
+        Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            Files.write(temp, toJson().getBytes(StandardCharsets.UTF_8));
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        for (ObjectName name : registered) {
+            try {
+                server.unregisterMBean(name);
+            } catch (JMException ignored) {
+                // already gone
+            }
+        }
+        registered.clear();
+        write();
+    }
+
+    private void registerMBeans() throws IOException {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        for (PlayerMetrics playerMetrics : metrics) {
+            try {
+                ObjectName name = new ObjectName(DOMAIN + ":type=Player,name="
+                        + ObjectName.quote(playerMetrics.getPlayerName()));
+                server.registerMBean(playerMetrics, name);
+                registered.add(name);
+            } catch (JMException e) {
+                throw new IOException("Cannot register metrics MBean for " + playerMetrics.getPlayerName(), e);
+            }
+        }
+    }
+
+    private void writeQuietly() {
+        try {
+            write();
+        } catch (IOException e) {
+            System.err.println("[metrics-exporter] Cannot write " + file + ": " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.assignment.metrics;
+
+/**
+ * Latency distributions of one player, fed from its send and receive counters.
+ * <p>
+ * Message {@code n} in one direction pairs with message {@code n} in the other: when a
+ * player's n-th receive follows its n-th send, the gap is a <em>round trip</em> (the
+ * initiator's view); when its n-th send follows its n-th receive, the gap is the
+ * <em>service time</em> spent producing the reply (the responder's view). This holds for
+ * stop-and-wait and, since replies keep their order, for pipelined exchanges with fewer
+ * than {@value #TIMESTAMP_SLOTS} messages (or the configured maximum) in flight.
+ * <p>
+ * Timestamps are kept in preallocated rings, so recording never allocates. Sends and
+ * receives must each be recorded by one thread at a time, as the players already do; a
+ * player with several concurrent senders must use {@link #disabled} metrics instead, since
+ * the unsynchronized rings would pair timestamps written by different threads.
+ * <p>
+ * Many players can share the histograms of one aggregate. A {@link #striped} aggregate
+ * spreads them over several histogram pairs, merged whenever it is read, so players running
+ * on different threads do not all contend on the same counters.
+ * <p>
+ * Players whose distributions nobody reads get {@link #disabled} metrics, which own no
+ * histograms or rings; {@link #fromSystemProperties} picks those unless an export is
+ * configured.
+ */
+public final class PlayerMetrics implements PlayerMetricsMXBean {
+
+    static final int TIMESTAMP_SLOTS = 1024;
+
+    /** Read by every disabled instance and never recorded into. */
+    private static final LatencyHistogram EMPTY = new LatencyHistogram();
+
+    private final String playerName;
+    private final int mask;
+    private final long[] sentAt;
+    private final long[] receivedAt;
+    private final LatencyHistogram roundTrip;
+    private final LatencyHistogram serviceTime;
+    /** Every histogram pair read by this instance; just its own pair unless it is a striped aggregate. */
+    private final LatencyHistogram[] roundTripStripes;
+    private final LatencyHistogram[] serviceTimeStripes;
+    private final boolean enabled;
+
+    public PlayerMetrics(String playerName) {
+        this(playerName, TIMESTAMP_SLOTS, new LatencyHistogram(), new LatencyHistogram());
+    }
+
+    /**
+     * Metrics for one of many players that record into the histograms of {@code aggregate}
+     * instead of owning a pair, which keeps large populations of players small.
+     *
+     * @param maxInFlight most messages this player has outstanding at once
+     */
+    public PlayerMetrics(String playerName, int maxInFlight, PlayerMetrics aggregate) {
+        this(playerName, maxInFlight, aggregate, 0);
+    }
+
+    /**
+     * Like {@link #PlayerMetrics(String, int, PlayerMetrics)}, recording into stripe
+     * {@code index} modulo the stripe count of a {@link #striped} aggregate.
+     */
+    public PlayerMetrics(String playerName, int maxInFlight, PlayerMetrics aggregate, int index) {
+        this(playerName, Integer.highestOneBit(Math.max(1, maxInFlight) * 2 - 1) * 2,
+                aggregate.roundTripStripes[index % aggregate.roundTripStripes.length],
+                aggregate.serviceTimeStripes[index % aggregate.serviceTimeStripes.length]);
+    }
+
+    private PlayerMetrics(String playerName, int slots, LatencyHistogram roundTrip, LatencyHistogram serviceTime) {
+        this(playerName, slots, roundTrip, serviceTime, new LatencyHistogram[] {roundTrip},
+                new LatencyHistogram[] {serviceTime});
+    }
+
+    private PlayerMetrics(String playerName, int slots, LatencyHistogram roundTrip, LatencyHistogram serviceTime,
+            LatencyHistogram[] roundTripStripes, LatencyHistogram[] serviceTimeStripes) {
+        this.playerName = playerName;
+        this.mask = slots - 1;
+        this.sentAt = new long[slots];
+        this.receivedAt = new long[slots];
+        this.roundTrip = roundTrip;
+        this.serviceTime = serviceTime;
+        this.roundTripStripes = roundTripStripes;
+        this.serviceTimeStripes = serviceTimeStripes;
+        this.enabled = slots > 0;
+    }
+
+    /**
+     * Metrics that record nothing and always read as empty.
+     */
+    public static PlayerMetrics disabled(String playerName) {
+        return new PlayerMetrics(playerName, 0, EMPTY, EMPTY);
+    }
+
+    /**
+     * Recording metrics if {@link MetricsExporter#isConfigured()}, otherwise {@link #disabled} ones.
+     */
+    public static PlayerMetrics fromSystemProperties(String playerName) {
+        return MetricsExporter.isConfigured() ? new PlayerMetrics(playerName) : disabled(playerName);
+    }
+
+    /**
+     * An aggregate for many players that spreads their samples over {@code stripes} histogram
+     * pairs and merges them when read. It records nothing itself.
+     */
+    public static PlayerMetrics striped(String playerName, int stripes) {
+        if (stripes < 1) {
+            throw new IllegalArgumentException("stripes must be positive: " + stripes);
+        }
+        LatencyHistogram[] roundTrips = new LatencyHistogram[stripes];
+        LatencyHistogram[] serviceTimes = new LatencyHistogram[stripes];
+        for (int i = 0; i < stripes; i++) {
+            roundTrips[i] = new LatencyHistogram();
+            serviceTimes[i] = new LatencyHistogram();
+        }
+        return new PlayerMetrics(playerName, 1, roundTrips[0], serviceTimes[0], roundTrips, serviceTimes);
+    }
+
+    /**
+     * @param sequence    1-based number of the message just sent
+     * @param receivedSoFar messages received before this send
+     */
+    public void onSent(long sequence, long receivedSoFar, long nanoTime) {
+        if (!enabled) {
+            return;
+        }
+        int slot = (int) sequence & mask;
+        sentAt[slot] = nanoTime;
+        if (sequence <= receivedSoFar) {
+            serviceTime.record(nanoTime - receivedAt[slot]);
+        }
+    }
+
+    /**
+     * @param sequence  1-based number of the message just received
+     * @param sentSoFar messages sent before this receive
+     */
+    public void onReceived(long sequence, long sentSoFar, long nanoTime) {
+        if (!enabled) {
+            return;
+        }
+        int slot = (int) sequence & mask;
+        receivedAt[slot] = nanoTime;
+        if (sequence <= sentSoFar) {
+            roundTrip.record(nanoTime - sentAt[slot]);
+        }
+    }
+
+    /**
+     * @return false for {@link #disabled} metrics, whose callers may skip taking timestamps
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public String getPlayerName() {
+        return playerName;
+    }
+
+    @Override
+    public LatencyHistogram.Snapshot getRoundTrip() {
+        return LatencyHistogram.snapshot(roundTripStripes);
+    }
+
+    @Override
+    public LatencyHistogram.Snapshot getServiceTime() {
+        return LatencyHistogram.snapshot(serviceTimeStripes);
+    }
+
+    @Override
+    public void reset() {
+        for (LatencyHistogram histogram : roundTripStripes) {
+            histogram.reset();
+        }
+        for (LatencyHistogram histogram : serviceTimeStripes) {
+            histogram.reset();
+        }
+    }
+
+    String toJson() {
+        return "{\"player\":\"" + playerName.replace("\\", "\\\\").replace("\"", "\\\"") + "\",\"roundTrip\":"
+                + getRoundTrip().toJson() + ",\"serviceTime\":" + getServiceTime().toJson() + "}";
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.assignment.process.mesh;
+
+import com.assignment.metrics.MetricsExporter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs a {@link PlayerMesh} configured by system properties and prints its throughput and
+ * round-trip latency.
+ */
+public class MeshApp {
+
+    /** System property with the number of players; defaults to 1000. */
+    public static final String PLAYERS_PROPERTY = "player.mesh.players";
+    /**
+     * System property selecting the {@link Topology}: {@code ring} (default), {@code random-pair} or
+     * {@code all-to-all}.
+     */
+    public static final String TOPOLOGY_PROPERTY = "player.mesh.topology";
+    /** System property with the pings each player sends; defaults to 10. */
+    public static final String ROUNDS_PROPERTY = "player.mesh.rounds";
+    /** System property selecting the {@link ThreadMode}: {@code auto} (default), {@code virtual}, {@code platform}. */
+    public static final String THREADS_PROPERTY = "player.mesh.threads";
+
+    // The metrics exporter is a resource only to be closed; javac warns about any unreferenced one
+    @SuppressWarnings("try")
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int playerCount = Integer.getInteger(PLAYERS_PROPERTY, 1000);
+        Topology topology = Topology.fromName(System.getProperty(TOPOLOGY_PROPERTY, "ring"));
+        int rounds = Integer.getInteger(ROUNDS_PROPERTY, 10);
+        ThreadMode threadMode = ThreadMode.fromName(System.getProperty(THREADS_PROPERTY, "auto"));
+
+        System.out.println("--- Starting Mesh (players: " + playerCount + ", topology: " + topology.optionName()
+                + ", rounds: " + rounds + ", threads: " + threadMode.name().toLowerCase() + ", virtual threads "
+                + (ThreadMode.virtualThreadsAvailable() ? "available" : "unavailable") + ") ---");
+
+        PlayerMesh mesh = new PlayerMesh(playerCount, topology, rounds, threadMode);
+        long elapsed;
+        try (MetricsExporter ignored = MetricsExporter.fromSystemProperties(mesh.metrics())) {
+            elapsed = mesh.run();
+        }
+
+        long messages = 2 * mesh.pongsSent();
+        System.out.println("--- Mesh Finished ---");
+        System.out.println("  Messages: " + messages + " in " + TimeUnit.NANOSECONDS.toMillis(elapsed) + " ms ("
+                + (elapsed == 0 ? 0 : messages * TimeUnit.SECONDS.toNanos(1) / elapsed) + " msg/s)");
+        System.out.println("  Round Trip: " + mesh.metrics().getRoundTrip());
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.assignment.process.mesh;
+
+/**
+ * Ping or pong travelling between mesh players. A ping is turned around in place into its
+ * pong, so one object serves a whole round trip.
+ */
+final class MeshMessage {
+
+    /** Tells a player the mesh is finished. */
+    static final MeshMessage STOP = new MeshMessage(-1, 0);
+
+    boolean pong;
+    /** Index of the player that sent this message. */
+    int from;
+    /** The originator's sent count for this ping. */
+    final long sequence;
+
+    MeshMessage(int from, long sequence) {
+        this.from = from;
+        this.sequence = sequence;
+    }
+}
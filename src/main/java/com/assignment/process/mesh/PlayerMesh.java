@@ -0,0 +1,195 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.assignment.process.mesh;
+
+import com.assignment.channel.MessageChannel;
+import com.assignment.channel.QueueChannel;
+import com.assignment.dto.Player;
+import com.assignment.log.LogSink;
+import com.assignment.log.LogSinks;
+import com.assignment.metrics.PlayerMetrics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runs N players in one JVM, each on its own thread with its own inbox.
+ * <p>
+ * Every player sends {@code rounds} pings, one at a time, to peers chosen by the
+ * {@link Topology}, and answers every ping it receives with a pong. A player's
+ * {@link Player} counters track the conversations it starts (pings sent, pongs received),
+ * so its round-trip latencies land in the aggregate {@link #metrics()}. That aggregate is
+ * striped, and the pong count is a {@link LongAdder}, so players on different threads do
+ * not contend on shared counters and the mesh measures messaging rather than its own
+ * bookkeeping. Players keep answering until every player has received all of its pongs.
+ * <p>
+ * Inboxes are {@link java.util.concurrent.LinkedBlockingQueue}s, which park rather than
+ * spin while empty; on virtual threads a waiting player therefore holds no carrier thread.
+ */
+public class PlayerMesh {
+
+    private static final long POLL_TIMEOUT_MS = 100;
+
+    private final Topology topology;
+    private final int rounds;
+    private final ThreadMode threadMode;
+    private final Player[] players;
+    private final List<MessageChannel<MeshMessage>> inboxes;
+    private final PlayerMetrics metrics;
+    private final LongAdder pongsSent = new LongAdder();
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    private CountDownLatch finished;
+
+    public PlayerMesh(int playerCount, Topology topology, int rounds, ThreadMode threadMode) {
+        this(playerCount, topology, rounds, threadMode, LogSinks.shared());
+    }
+
+    public PlayerMesh(int playerCount, Topology topology, int rounds, ThreadMode threadMode, LogSink logSink) {
+        if (playerCount < 2) {
+            throw new IllegalArgumentException("A mesh needs at least 2 players: " + playerCount);
+        }
+        if (rounds < 1) {
+            throw new IllegalArgumentException("rounds must be positive: " + rounds);
+        }
+        this.topology = topology;
+        this.rounds = rounds;
+        this.threadMode = threadMode;
+        this.players = new Player[playerCount];
+        this.inboxes = new ArrayList<>(playerCount);
+        // A few histogram pairs per processor keep concurrently running players apart
+        this.metrics = PlayerMetrics.striped("mesh",
+                Math.min(playerCount, 4 * Runtime.getRuntime().availableProcessors()));
+        for (int i = 0; i < playerCount; i++) {
+            String name = "player-" + i;
+            players[i] = new Player(name, rounds, logSink, new PlayerMetrics(name, 1, metrics, i));
+            inboxes.add(new QueueChannel<>());
+        }
+    }
+
+    /**
+     * Starts every player and waits until all conversations have completed.
+     *
+     * @return elapsed nanoseconds from the first start to the last pong
+     */
+    public long run() throws InterruptedException {
+        finished = new CountDownLatch(players.length);
+        ExecutorService executor = threadMode.newExecutor();
+        long start = System.nanoTime();
+        long elapsed;
+        try {
+            for (int i = 0; i < players.length; i++) {
+                int index = i;
+                executor.execute(() -> runPlayer(index));
+            }
+            while (!finished.await(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                checkFailure();
+            }
+            elapsed = System.nanoTime() - start;
+        } finally {
+            for (MessageChannel<MeshMessage> inbox : inboxes) {
+                inbox.offer(MeshMessage.STOP);
+            }
+            executor.shutdown();
+            if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        }
+        checkFailure();
+        return elapsed;
+    }
+
+    public List<Player> players() {
+        List<Player> list = new ArrayList<>(players.length);
+        Collections.addAll(list, players);
+        return list;
+    }
+
+    /**
+     * Round trips of every player, aggregated.
+     */
+    public PlayerMetrics metrics() {
+        return metrics;
+    }
+
+    /**
+     * @return pings answered; equals pings sent once {@link #run()} has returned
+     */
+    public long pongsSent() {
+        return pongsSent.sum();
+    }
+
+    private void runPlayer(int index) {
+        Player player = players[index];
+        MessageChannel<MeshMessage> inbox = inboxes.get(index);
+        try {
+            sendPing(index, player);
+            while (true) {
+                MeshMessage message = inbox.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                if (message == null) {
+                    continue;
+                }
+                if (message == MeshMessage.STOP) {
+                    return;
+                }
+                if (message.pong) {
+                    long received = player.incrementAndGetReceivedCount();
+                    if (player.logSink().isLoggable()) {
+                        player.logSink().log("[" + player.getName() + "] Received pong " + message.sequence
+                                + " from player-" + message.from + " (Total Received: " + received + ")");
+                    }
+                    if (received < rounds) {
+                        sendPing(index, player);
+                    } else {
+                        finished.countDown();
+                    }
+                } else {
+                    int origin = message.from;
+                    message.pong = true;
+                    message.from = index;
+                    pongsSent.increment();
+                    inboxes.get(origin).put(message);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException | Error e) {
+            failure.compareAndSet(null, e);
+        }
+    }
+
+    private void sendPing(int index, Player player) throws InterruptedException {
+        long sequence = player.incrementAndGetSentCount();
+        int peer = topology.peer(index, sequence, players.length);
+        if (player.logSink().isLoggable()) {
+            player.logSink().log("[" + player.getName() + "] Sent: ping " + sequence + " to player-" + peer);
+        }
+        inboxes.get(peer).put(new MeshMessage(index, sequence));
+    }
+
+    private void checkFailure() {
+        Throwable cause = failure.get();
+        if (cause != null) {
+            throw new IllegalStateException("Mesh player failed", cause);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.assignment.process.mesh;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Threads that run the mesh players, one per player.
+ * <p>
+ * Virtual threads are looked up reflectively, so the project still builds for Java 8 and
+ * picks them up when it runs on Java 21 or later.
+ */
+public enum ThreadMode {
+
+    /** Virtual threads when the runtime has them, platform threads otherwise. */
+    AUTO {
+        @Override
+        public ExecutorService newExecutor() {
+            return (virtualThreadsAvailable() ? VIRTUAL : PLATFORM).newExecutor();
+        }
+    },
+
+    /** One virtual thread per player; requires Java 21+. */
+    VIRTUAL {
+        @Override
+        public ExecutorService newExecutor() {
+            if (!virtualThreadsAvailable()) {
+                throw new UnsupportedOperationException("Virtual threads require Java 21 or later (running "
+                        + System.getProperty("java.version") + ")");
+            }
+            try {
+                return (ExecutorService) NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR.invokeExact();
+            } catch (Throwable e) {
+                throw new IllegalStateException("Cannot create a virtual thread executor", e);
+            }
+        }
+    },
+
+    /**
+     * One daemon platform thread per player. Each costs a kernel thread and its stack, so
+     * this mode tops out at a few thousand players.
+     */
+    PLATFORM {
+        @Override
+        public ExecutorService newExecutor() {
+            AtomicInteger threads = new AtomicInteger();
+            ThreadFactory factory = task -> {
+                Thread thread = new Thread(task, "mesh-player-" + threads.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            };
+            return Executors.newCachedThreadPool(factory);
+        }
+    };
+
+    private static final MethodHandle NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR;
+
+    static {
+        MethodHandle handle = null;
+        try {
+            handle = MethodHandles.lookup().findStatic(Executors.class, "newVirtualThreadPerTaskExecutor",
+                    MethodType.methodType(ExecutorService.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            // before Java 21: platform threads only
+        }
+        NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR = handle;
+    }
+
+    /**
+     * Creates an executor that starts a new thread for every submitted task.
+     */
+    public abstract ExecutorService newExecutor();
+
+    public static boolean virtualThreadsAvailable() {
+        return NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR != null;
+    }
+
+    public static ThreadMode fromName(String name) {
+        for (ThreadMode mode : values()) {
+            if (mode.name().equalsIgnoreCase(name)) {
+                return mode;
+            }
+        }
+        throw new IllegalArgumentException("Unknown thread mode: " + name
+                + " (expected 'auto', 'virtual' or 'platform')");
+    }
+}
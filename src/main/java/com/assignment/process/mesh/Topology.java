@@ -0,0 +1,73 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.assignment.process.mesh;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Who a mesh player pings next. Every ping is answered by its target, so each topology is a
+ * set of concurrent ping-pong conversations with a different communication pattern.
+ */
+public enum Topology {
+
+    /** Always the next player, wrapping around: each player talks to one neighbour. */
+    RING {
+        @Override
+        int peer(int self, long round, int players) {
+            return (self + 1) % players;
+        }
+    },
+
+    /** A uniformly random other player for every ping. */
+    RANDOM_PAIR {
+        @Override
+        int peer(int self, long round, int players) {
+            int offset = 1 + ThreadLocalRandom.current().nextInt(players - 1);
+            return (self + offset) % players;
+        }
+    },
+
+    /** Every other player in turn, so with enough rounds each pair talks. */
+    ALL_TO_ALL {
+        @Override
+        int peer(int self, long round, int players) {
+            return (self + 1 + (int) ((round - 1) % (players - 1))) % players;
+        }
+    };
+
+    /**
+     * @param self    index of the sending player
+     * @param round   1-based number of the ping being sent
+     * @param players size of the mesh, at least 2
+     * @return index of the player to ping, never {@code self}
+     */
+    abstract int peer(int self, long round, int players);
+
+    public String optionName() {
+        return name().toLowerCase().replace('_', '-');
+    }
+
+    public static Topology fromName(String name) {
+        for (Topology topology : values()) {
+            if (topology.optionName().equalsIgnoreCase(name) || topology.name().equalsIgnoreCase(name)) {
+                return topology;
+            }
+        }
+        throw new IllegalArgumentException("Unknown topology: " + name
+                + " (expected 'ring', 'random-pair' or 'all-to-all')");
+    }
+}
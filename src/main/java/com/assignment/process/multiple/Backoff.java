@@ -0,0 +1,59 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.assignment.process.multiple;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Exponential backoff between reconnect attempts.
+ * <p>
+ * The ceiling doubles after every attempt up to a maximum, and each delay is drawn from the
+ * upper half of the current ceiling, so clients dropped by the same responder restart do not
+ * all reconnect in the same instant. Not thread-safe.
+ */
+public final class Backoff {
+
+    private final long initialNanos;
+    private final long maxNanos;
+    private long ceilingNanos;
+
+    public Backoff(long initialNanos, long maxNanos) {
+        if (initialNanos <= 0 || maxNanos < initialNanos) {
+            throw new IllegalArgumentException("Backoff needs 0 < initial <= max: " + initialNanos + ", " + maxNanos);
+        }
+        this.initialNanos = initialNanos;
+        this.maxNanos = maxNanos;
+        this.ceilingNanos = initialNanos;
+    }
+
+    /**
+     * @return how long to wait before the next attempt
+     */
+    public long nextDelayNanos() {
+        long ceiling = ceilingNanos;
+        ceilingNanos = Math.min(maxNanos, ceiling * 2);
+        long half = ceiling / 2;
+        return half + ThreadLocalRandom.current().nextLong(ceiling - half + 1);
+    }
+
+    /**
+     * Starts over from the initial delay, after a successful connect.
+     */
+    public void reset() {
+        ceilingNanos = initialNanos;
+    }
+}
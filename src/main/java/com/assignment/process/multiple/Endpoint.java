@@ -0,0 +1,191 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.assignment.process.multiple;
+
+import com.assignment.shm.SharedMemoryChannel;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.InetSocketAddress;
+import java.nio.channels.ByteChannel;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Where the responder process is reached: a host and port over TCP, a socket file over a Unix
+ * domain socket, or a channel file over shared memory.
+ * <p>
+ * Endpoints are immutable. Binding an ephemeral port or reading the port another process
+ * published yields a new endpoint, which the caller passes on to whatever needs it.
+ */
+final class Endpoint {
+
+    private final Transport transport;
+    private final String host;
+    private final int port;
+    private final Path unixPath;
+    private final Path shmPath;
+
+    private Endpoint(Transport transport, String host, int port, Path unixPath, Path shmPath) {
+        this.transport = transport;
+        this.host = host;
+        this.port = port;
+        this.unixPath = unixPath;
+        this.shmPath = shmPath;
+    }
+
+    /**
+     * Reads the {@code player.host}, {@code player.port}, {@code player.unix.path} and
+     * {@code player.shm.path} system properties.
+     */
+    static Endpoint fromSystemProperties(Transport transport) {
+        String unixPath = System.getProperty(MultiProcessApp.UNIX_PATH_PROPERTY);
+        String shmPath = System.getProperty(MultiProcessApp.SHM_PATH_PROPERTY);
+        return new Endpoint(transport,
+                System.getProperty(MultiProcessApp.HOST_PROPERTY, "localhost"),
+                Integer.getInteger(MultiProcessApp.PORT_PROPERTY, 8080),
+                unixPath != null ? Paths.get(unixPath) : UnixDomainSockets.defaultPath("dual-process-messenger"),
+                shmPath != null ? Paths.get(shmPath) : SharedMemoryChannel.defaultPath("dual-process-messenger"));
+    }
+
+    Transport transport() {
+        return transport;
+    }
+
+    int port() {
+        return port;
+    }
+
+    Path shmPath() {
+        return shmPath;
+    }
+
+    /**
+     * Binds a server socket here; over TCP, {@link #boundTo} then gives the port actually bound.
+     */
+    ServerSocketChannel listen(SocketTuning tuning) throws IOException {
+        if (transport == Transport.UNIX) {
+            return UnixDomainSockets.bind(unixPath);
+        }
+        ServerSocketChannel serverChannel = ServerSocketChannel.open();
+        try {
+            tuning.applyReceiveBuffer(serverChannel);
+            serverChannel.bind(new InetSocketAddress(port));
+        } catch (IOException e) {
+            serverChannel.close();
+            throw e;
+        }
+        return serverChannel;
+    }
+
+    /**
+     * @return this endpoint with the port {@code serverChannel} is bound to, which differs from the
+     *         configured one when an ephemeral port was asked for
+     */
+    Endpoint boundTo(ServerSocketChannel serverChannel) throws IOException {
+        if (transport != Transport.TCP) {
+            return this;
+        }
+        return withPort(((InetSocketAddress) serverChannel.getLocalAddress()).getPort());
+    }
+
+    Endpoint withPort(int port) {
+        return port == this.port ? this : new Endpoint(transport, host, port, unixPath, shmPath);
+    }
+
+    /**
+     * Connects to the responder listening here.
+     *
+     * @throws ConnectException if nobody is, including a missing socket file
+     */
+    ByteChannel connect(SocketTuning tuning) throws IOException {
+        if (transport == Transport.SHM) {
+            return SharedMemoryChannel.connect(shmPath);
+        }
+        boolean unix = transport == Transport.UNIX;
+        if (unix && !Files.exists(unixPath)) {
+            // Report a missing socket file the way TCP reports a closed port
+            throw new ConnectException("No socket file at " + unixPath);
+        }
+        SocketChannel channel = unix ? UnixDomainSockets.open() : SocketChannel.open();
+        try {
+            tuning.apply(channel).connect(
+                    unix ? UnixDomainSockets.address(unixPath) : new InetSocketAddress(host, port));
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        return channel;
+    }
+
+    /**
+     * Removes the socket file a Unix domain socket server leaves behind; nothing to do for the
+     * other transports.
+     */
+    void deleteSocketFile() throws IOException {
+        if (transport == Transport.UNIX) {
+            Files.deleteIfExists(unixPath);
+        }
+    }
+
+    /**
+     * @return what a ready file carries: the port over TCP, as the host is the initiator's to
+     *         choose, and the file otherwise
+     */
+    String published() {
+        return transport == Transport.TCP ? Integer.toString(port) : toString();
+    }
+
+    /**
+     * @return this endpoint as {@code published} by a responder's ready file
+     */
+    Endpoint fromPublished(String published) {
+        return transport == Transport.TCP ? withPort(Integer.parseInt(published.trim())) : this;
+    }
+
+    /**
+     * @return how logs name the endpoint: {@code host:port} or the file
+     */
+    @Override
+    public String toString() {
+        switch (transport) {
+            case SHM:
+                return shmPath.toString();
+            case UNIX:
+                return unixPath.toString();
+            default:
+                return host + ":" + port;
+        }
+    }
+
+    /**
+     * @return how a listening responder names the endpoint
+     */
+    String describeListening() {
+        switch (transport) {
+            case SHM:
+                return "shared memory " + shmPath;
+            case UNIX:
+                return "unix socket " + unixPath;
+            default:
+                return "port " + port;
+        }
+    }
+}
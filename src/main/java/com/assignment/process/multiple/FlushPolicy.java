@@ -0,0 +1,55 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.assignment.process.multiple;
+
+/**
+ * When a {@link FrameConnection} writes the frames it has encoded to its channel, named
+ * {@code immediate}, {@code count} and {@code time}.
+ * <p>
+ * Frames queue up in the connection's write buffers until a flush, so a batching policy turns
+ * a burst of pipelined sends into one (gathering) write. Whatever the policy, a connection
+ * flushes before it waits for a frame and when it closes, so a stop-and-wait exchange never
+ * stalls on a reply the peer has not been sent.
+ */
+public enum FlushPolicy {
+
+    /** Writes every frame as soon as it is encoded: one syscall per frame. */
+    IMMEDIATE,
+
+    /** Writes once a batch of frames has been encoded. */
+    COUNT,
+
+    /**
+     * Writes once the oldest unwritten frame is older than the flush delay, from a timer thread
+     * if nothing else is sent by then.
+     */
+    TIME;
+
+    public String optionName() {
+        return name().toLowerCase();
+    }
+
+    public static FlushPolicy fromName(String name) {
+        for (FlushPolicy policy : values()) {
+            if (policy.name().equalsIgnoreCase(name)) {
+                return policy;
+            }
+        }
+        throw new IllegalArgumentException("Unknown flush policy: " + name
+                + " (expected 'immediate', 'count' or 'time')");
+    }
+}
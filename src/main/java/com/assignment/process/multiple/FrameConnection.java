@@ -0,0 +1,430 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.assignment.process.multiple;
+
+import com.assignment.buffer.BufferPool;
+import com.assignment.codec.Ascii;
+import com.assignment.codec.Frame;
+import com.assignment.codec.MessageType;
+import com.assignment.codec.WireCodec;
+import com.assignment.journal.Journal;
+import com.assignment.journal.NoOpJournal;
+import com.assignment.wait.WaitStrategy;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ByteChannel;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.SelectableChannel;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends and receives {@link WireCodec} frames over a {@link ByteChannel}.
+ * <p>
+ * Both directions use pooled direct buffers, taken from the {@link BufferPool} when the connection
+ * opens and replaced by a larger one only when a frame does not fit, so a steady conversation
+ * neither allocates nor builds Strings, and writes go to the channel without a copy into native
+ * memory. Sent frames are written according to the connection's {@link FlushPolicy}; when a batch
+ * outgrows the write buffer the next frames go into further pooled buffers, and the flush hands
+ * them all to the channel in one gathering write. For selectable channels a
+ * blocking {@link WaitStrategy} keeps the channel in blocking mode and reads park in the
+ * kernel; any other strategy switches it to non-blocking mode and polls it, idling
+ * between empty reads. With a {@link Journal} every frame sent or received is appended to
+ * it under the owning player's name.
+ * <p>
+ * Under {@link FlushPolicy#TIME} a shared timer thread writes a batch once its oldest frame is
+ * due, so the delay holds even if the owner sends nothing more and does not wait for a reply.
+ * That is why the write side is synchronized; a connection is otherwise used by one thread.
+ */
+class FrameConnection implements Closeable {
+
+    private static final int INITIAL_BUFFER_SIZE = 8192;
+    /** Most write buffers one flush gathers; a batch that would need more is flushed early. */
+    private static final int MAX_GATHERED_BUFFERS = 16;
+
+    private final ByteChannel channel;
+    private final WireCodec codec;
+    private final WaitStrategy waitStrategy;
+    private final Journal journal;
+    private final String player;
+    /** Whether frames are journaled, which needs a real journal. */
+    private final boolean journaling;
+    /** Scratch frame for journaling outgoing frames; only used with a journal. */
+    private final Frame sentFrame;
+    private final BufferPool pool = BufferPool.shared();
+    private final FlushPolicy flushPolicy;
+    private final int flushBatch;
+    private final long flushDelayNanos;
+    private ByteBuffer readBuffer = pool.acquire(INITIAL_BUFFER_SIZE);
+    /** Write buffers holding unwritten frames, in order; {@code writeBuffer} is the last of them. */
+    private final ByteBuffer[] pending = new ByteBuffer[MAX_GATHERED_BUFFERS];
+    private int pendingBuffers = 1;
+    private ByteBuffer writeBuffer = pending[0] = pool.acquire(INITIAL_BUFFER_SIZE);
+    private int pendingFrames;
+    private long oldestPendingNanos;
+    /** Whether a timer task will look at this connection's pending frames. */
+    private boolean flushScheduled;
+    /** A timed flush that failed, reported to the owner by its next send or flush. */
+    private IOException flushFailure;
+    private boolean closed;
+
+    FrameConnection(ByteChannel channel, WireCodec codec, WaitStrategy waitStrategy) throws IOException {
+        this(channel, codec, waitStrategy, NoOpJournal.INSTANCE, null, SocketTuning.DEFAULTS);
+    }
+
+    FrameConnection(ByteChannel channel, WireCodec codec, WaitStrategy waitStrategy, Journal journal,
+            String player) throws IOException {
+        this(channel, codec, waitStrategy, journal, player, SocketTuning.DEFAULTS);
+    }
+
+    /**
+     * @param player name journaled with each frame
+     * @param tuning supplies the flush policy; socket options are the caller's to apply
+     */
+    FrameConnection(ByteChannel channel, WireCodec codec, WaitStrategy waitStrategy, Journal journal,
+            String player, SocketTuning tuning) throws IOException {
+        this.channel = channel;
+        this.codec = codec;
+        this.waitStrategy = waitStrategy;
+        this.journal = journal;
+        this.player = player;
+        this.journaling = journal != NoOpJournal.INSTANCE;
+        this.sentFrame = journaling ? new Frame() : null;
+        this.flushPolicy = tuning.flushPolicy();
+        this.flushBatch = tuning.flushBatch();
+        this.flushDelayNanos = tuning.flushDelayNanos();
+        if (channel instanceof SelectableChannel) {
+            ((SelectableChannel) channel).configureBlocking(waitStrategy.isBlocking());
+        }
+        readBuffer.flip();
+    }
+
+    /**
+     * Waits for the next frame, first writing any frames still held back by the flush policy.
+     *
+     * @return false once the peer has closed the connection
+     */
+    boolean receive(Frame frame) throws IOException {
+        int attempt = 0;
+        while (!codec.decode(readBuffer, frame)) {
+            flushPending();
+            readBuffer.compact();
+            if (!readBuffer.hasRemaining()) {
+                readBuffer.flip();
+                readBuffer = grow(readBuffer, readBuffer.capacity() * 2);
+            }
+            int read = channel.read(readBuffer);
+            readBuffer.flip();
+            if (read < 0) {
+                return false;
+            }
+            if (read == 0) {
+                if (Thread.currentThread().isInterrupted()) {
+                    throw new IOException("Interrupted while waiting for a message");
+                }
+                waitStrategy.idle(attempt++);
+            } else {
+                attempt = 0;
+            }
+        }
+        if (journaling) {
+            journal.append(Journal.Direction.RECEIVED, player, frame);
+        }
+        return true;
+    }
+
+    /**
+     * Sends a DATA frame whose payload is {@code prefix}, a space and {@code counter}.
+     */
+    synchronized void send(Frame prefix, long counter) throws IOException {
+        int wireCounter = wireCounter(counter);
+        ensureWritable(prefix.payloadLength() + 1);
+        int frameStart = codec.beginFrame(writeBuffer, MessageType.DATA, wireCounter);
+        prefix.copyPayloadTo(writeBuffer);
+        appendCounter(wireCounter);
+        codec.endFrame(writeBuffer, frameStart);
+        frameWritten();
+    }
+
+    /**
+     * Sends a DATA frame whose payload is the ASCII {@code prefix}, a space and {@code counter}.
+     */
+    synchronized void send(byte[] prefix, long counter) throws IOException {
+        int wireCounter = wireCounter(counter);
+        ensureWritable(prefix.length + 1);
+        int frameStart = codec.beginFrame(writeBuffer, MessageType.DATA, wireCounter);
+        writeBuffer.put(prefix);
+        appendCounter(wireCounter);
+        codec.endFrame(writeBuffer, frameStart);
+        frameWritten();
+    }
+
+    /**
+     * Sends a frame with an arbitrary payload; {@code payload}'s position is left unchanged.
+     */
+    synchronized void send(MessageType type, int counter, ByteBuffer payload) throws IOException {
+        ensureWritable(payload.remaining());
+        int frameStart = codec.beginFrame(writeBuffer, type, counter);
+        int position = payload.position();
+        writeBuffer.put(payload);
+        payload.position(position);
+        codec.endFrame(writeBuffer, frameStart);
+        frameWritten();
+    }
+
+    /**
+     * Sends {@code frame} on unchanged: same type, counter and payload.
+     */
+    synchronized void forward(Frame frame) throws IOException {
+        ensureWritable(frame.payloadLength());
+        int frameStart = codec.beginFrame(writeBuffer, frame.type(), frame.senderCounter());
+        frame.copyPayloadTo(writeBuffer);
+        codec.endFrame(writeBuffer, frameStart);
+        frameWritten();
+    }
+
+    /**
+     * Grants the peer {@code credits} more DATA frames.
+     */
+    synchronized void sendCredit(int credits) throws IOException {
+        ensureWritable(0);
+        codec.endFrame(writeBuffer, codec.beginFrame(writeBuffer, MessageType.CREDIT, credits));
+        frameWritten();
+    }
+
+    /**
+     * Sends the newest counter of a conversation the peer already holds.
+     */
+    synchronized void sendDelta(long counter) throws IOException {
+        ensureWritable(0);
+        codec.endFrame(writeBuffer, codec.beginFrame(writeBuffer, MessageType.DELTA, wireCounter(counter)));
+        frameWritten();
+    }
+
+    synchronized void sendStop() throws IOException {
+        ensureWritable(0);
+        codec.endFrame(writeBuffer, codec.beginFrame(writeBuffer, MessageType.STOP, 0));
+        frameWritten();
+    }
+
+    /**
+     * Players count in {@code long}s but the frame header carries an int32 counter.
+     *
+     * @throws ArithmeticException if {@code counter} does not fit the header
+     */
+    static int wireCounter(long counter) {
+        return Math.toIntExact(counter);
+    }
+
+    private void appendCounter(int counter) {
+        writeBuffer.put((byte) ' ');
+        Ascii.putInt(writeBuffer, counter);
+    }
+
+    /**
+     * Makes room for the next frame: a frame never spans two write buffers, so one that does not
+     * fit after the frames already held goes into a fresh pooled buffer.
+     */
+    private void ensureWritable(int payloadLength) throws IOException {
+        int needed = payloadLength + Ascii.MAX_INT_LENGTH + codec.maxFramingLength();
+        if (writeBuffer.remaining() >= needed) {
+            return;
+        }
+        if (writeBuffer.position() > 0) {
+            if (pendingBuffers == MAX_GATHERED_BUFFERS) {
+                flush();
+                if (writeBuffer.remaining() >= needed) {
+                    return;
+                }
+            } else {
+                writeBuffer = pending[pendingBuffers++] = pool.acquire(Math.max(INITIAL_BUFFER_SIZE, needed));
+                return;
+            }
+        }
+        pool.release(writeBuffer);
+        writeBuffer = pending[pendingBuffers - 1] = pool.acquire(needed);
+    }
+
+    /**
+     * Applies the flush policy to the frame just encoded.
+     */
+    private void frameWritten() throws IOException {
+        pendingFrames++;
+        switch (flushPolicy) {
+            case COUNT:
+                if (pendingFrames >= flushBatch) {
+                    flush();
+                }
+                break;
+            case TIME:
+                long now = System.nanoTime();
+                if (pendingFrames == 1) {
+                    oldestPendingNanos = now;
+                }
+                if (now - oldestPendingNanos >= flushDelayNanos) {
+                    flush();
+                } else if (!flushScheduled) {
+                    flushScheduled = true;
+                    scheduleTimedFlush(oldestPendingNanos + flushDelayNanos - now);
+                }
+                break;
+            default:
+                flush();
+        }
+    }
+
+    private synchronized void flushPending() throws IOException {
+        if (pendingFrames > 0 || flushFailure != null) {
+            flush();
+        }
+    }
+
+    private void scheduleTimedFlush(long delayNanos) {
+        FlushTimer.INSTANCE.schedule(this::timedFlush, delayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Runs on the timer thread: writes the pending frames once the oldest is due, or looks again
+     * when the frames it was scheduled for went out and newer ones are waiting.
+     */
+    private synchronized void timedFlush() {
+        flushScheduled = false;
+        if (closed || pendingFrames == 0) {
+            return;
+        }
+        long wait = oldestPendingNanos + flushDelayNanos - System.nanoTime();
+        if (wait > 0) {
+            flushScheduled = true;
+            scheduleTimedFlush(wait);
+            return;
+        }
+        try {
+            flush();
+        } catch (IOException e) {
+            flushFailure = e;
+        }
+    }
+
+    /**
+     * Writes every frame held back by the flush policy, with one gathering write when they fill
+     * more than one buffer. The frames are journaled once they have been written; if the write
+     * fails they are dropped, and the buffers are ready for the next frame either way.
+     */
+    synchronized void flush() throws IOException {
+        if (flushFailure != null) {
+            IOException failure = flushFailure;
+            flushFailure = null;
+            throw failure;
+        }
+        // A failed write loses the batch; close() must not try to send it again
+        pendingFrames = 0;
+        for (int i = 0; i < pendingBuffers; i++) {
+            pending[i].flip();
+        }
+        try {
+            int attempt = 0;
+            ByteBuffer last = pending[pendingBuffers - 1];
+            if (pendingBuffers == 1 || !(channel instanceof GatheringByteChannel)) {
+                for (int i = 0; i < pendingBuffers; i++) {
+                    while (pending[i].hasRemaining()) {
+                        if (channel.write(pending[i]) == 0) {
+                            waitStrategy.idle(attempt++);
+                        }
+                    }
+                }
+            } else {
+                GatheringByteChannel gathering = (GatheringByteChannel) channel;
+                while (last.hasRemaining()) {
+                    if (gathering.write(pending, 0, pendingBuffers) == 0) {
+                        waitStrategy.idle(attempt++);
+                    }
+                }
+            }
+            if (journaling) {
+                journalWritten();
+            }
+        } finally {
+            pending[0].clear();
+            for (int i = 1; i < pendingBuffers; i++) {
+                pool.release(pending[i]);
+                pending[i] = null;
+            }
+            pendingBuffers = 1;
+            writeBuffer = pending[0];
+        }
+    }
+
+    /**
+     * Journals the frames in the pending buffers, which have just been written out in full.
+     */
+    private void journalWritten() throws IOException {
+        for (int i = 0; i < pendingBuffers; i++) {
+            ByteBuffer buffer = pending[i];
+            buffer.rewind();
+            while (codec.decode(buffer, sentFrame)) {
+                journal.append(Journal.Direction.SENT, player, sentFrame);
+            }
+        }
+    }
+
+    /**
+     * Daemon thread shared by every connection using the {@code time} policy, started on first use.
+     */
+    private static final class FlushTimer {
+        static final ScheduledExecutorService INSTANCE = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "frame-flush-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * @param buffer in read mode and returned to the pool; the result is in write mode with the contents copied
+     */
+    private ByteBuffer grow(ByteBuffer buffer, int capacity) {
+        ByteBuffer grown = pool.acquire(capacity);
+        grown.put(buffer);
+        pool.release(buffer);
+        return grown;
+    }
+
+    /**
+     * Writes any frames held back by the flush policy, then closes the channel.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            if (pendingFrames > 0) {
+                flush();
+            }
+        } finally {
+            channel.close();
+            for (int i = 0; i < pendingBuffers; i++) {
+                pool.release(pending[i]);
+                pending[i] = null;
+            }
+            pool.release(readBuffer);
+        }
+    }
+}
@@ -0,0 +1,247 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.assignment.process.multiple;
+
+import com.assignment.codec.CodecType;
+import com.assignment.wait.WaitStrategyType;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Settings for a {@link LoadGenerator} run, read from an optional properties file and
+ * {@code --key=value} command-line options, the command line winning.
+ * <p>
+ * A run is bounded either by a total message count or by a duration, after an unmeasured
+ * warmup. Durations take an {@code ms}, {@code s} or {@code m} suffix and default to seconds.
+ * With a target rate the generator is open-loop: each message has an intended send time
+ * fixed in advance, and latency is measured from that time, so a stalled responder shows
+ * up as latency instead of silently lowering the send rate.
+ */
+public final class LoadConfig {
+
+    /** Option naming a properties file with defaults for every other option. */
+    public static final String CONFIG_OPTION = "config";
+    /** Total measured messages across all pairs; defaults to 100000 unless a duration is given. */
+    public static final String MESSAGES_OPTION = "messages";
+    /** Measured run length; an alternative to a message count. */
+    public static final String DURATION_OPTION = "duration";
+    /** Bytes of payload in each ping, before the counter; defaults to 16. */
+    public static final String PAYLOAD_OPTION = "payload";
+    /** Concurrent initiator/responder pairs, one connection each; defaults to 1. */
+    public static final String PAIRS_OPTION = "pairs";
+    /** Unmeasured run time before measuring starts; defaults to 1s. */
+    public static final String WARMUP_OPTION = "warmup";
+    /** Target messages per second across all pairs; 0 (default) sends each ping as soon as the last reply arrives. */
+    public static final String RATE_OPTION = "rate";
+    /** Responder host; without one the generator starts its own {@link SelectorResponder}. */
+    public static final String HOST_OPTION = "host";
+    /** Responder port when a host is given; defaults to 8080. */
+    public static final String PORT_OPTION = "port";
+    /** Wire {@link CodecType}; defaults to {@code binary}. */
+    public static final String CODEC_OPTION = "codec";
+    /** Receive-side {@link WaitStrategyType}; defaults to {@code block}. */
+    public static final String WAIT_OPTION = "wait";
+
+    private static final Set<String> OPTIONS = new HashSet<>(Arrays.asList(CONFIG_OPTION, MESSAGES_OPTION,
+            DURATION_OPTION, PAYLOAD_OPTION, PAIRS_OPTION, WARMUP_OPTION, RATE_OPTION, HOST_OPTION, PORT_OPTION,
+            CODEC_OPTION, WAIT_OPTION));
+
+    private final long messages;
+    private final long durationNanos;
+    private final int payloadSize;
+    private final int pairs;
+    private final long warmupNanos;
+    private final long rate;
+    private final String host;
+    private final int port;
+    private final CodecType codecType;
+    private final WaitStrategyType waitType;
+
+    private LoadConfig(Properties options) {
+        String duration = options.getProperty(DURATION_OPTION);
+        if (duration != null && options.getProperty(MESSAGES_OPTION) != null) {
+            throw new IllegalArgumentException("Give either --" + MESSAGES_OPTION + " or --" + DURATION_OPTION
+                    + ", not both");
+        }
+        this.durationNanos = duration == null ? 0 : parseDuration(duration);
+        this.messages = duration == null ? Long.parseLong(options.getProperty(MESSAGES_OPTION, "100000")) : 0;
+        this.payloadSize = Integer.parseInt(options.getProperty(PAYLOAD_OPTION, "16"));
+        this.pairs = Integer.parseInt(options.getProperty(PAIRS_OPTION, "1"));
+        this.warmupNanos = parseDuration(options.getProperty(WARMUP_OPTION, "1s"));
+        this.rate = Long.parseLong(options.getProperty(RATE_OPTION, "0"));
+        this.host = options.getProperty(HOST_OPTION);
+        this.port = Integer.parseInt(options.getProperty(PORT_OPTION, "8080"));
+        this.codecType = CodecType.fromName(options.getProperty(CODEC_OPTION, "binary"));
+        this.waitType = WaitStrategyType.fromName(options.getProperty(WAIT_OPTION, "block"));
+
+        if (duration == null ? messages < 1 : durationNanos < 1) {
+            throw new IllegalArgumentException("The run must send at least one message");
+        }
+        if (payloadSize < 1) {
+            throw new IllegalArgumentException("payload must be positive: " + payloadSize);
+        }
+        if (pairs < 1) {
+            throw new IllegalArgumentException("pairs must be positive: " + pairs);
+        }
+        if (rate < 0) {
+            throw new IllegalArgumentException("rate must not be negative: " + rate);
+        }
+    }
+
+    /**
+     * Reads {@code --key=value} options, loading the {@code --config} file first if one is named.
+     * A {@code --messages} or {@code --duration} option replaces whichever of the two the file sets,
+     * so only options given in the same place conflict.
+     *
+     * @throws IllegalArgumentException for an unknown or malformed option
+     */
+    public static LoadConfig parse(String... args) throws IOException {
+        Properties commandLine = new Properties();
+        for (String arg : args) {
+            int equals = arg.indexOf('=');
+            if (!arg.startsWith("--") || equals < 0) {
+                throw new IllegalArgumentException("Expected --option=value: " + arg);
+            }
+            commandLine.setProperty(arg.substring(2, equals), arg.substring(equals + 1));
+        }
+        Properties options = new Properties();
+        String file = commandLine.getProperty(CONFIG_OPTION);
+        if (file != null) {
+            try (InputStream in = Files.newInputStream(Paths.get(file))) {
+                options.load(in);
+            }
+            if (commandLine.getProperty(MESSAGES_OPTION) != null
+                    || commandLine.getProperty(DURATION_OPTION) != null) {
+                // The run bound is one setting: a count or duration given here replaces either from the file
+                options.remove(MESSAGES_OPTION);
+                options.remove(DURATION_OPTION);
+            }
+        }
+        options.putAll(commandLine);
+        return fromProperties(options);
+    }
+
+    /**
+     * @throws IllegalArgumentException for an unknown or malformed option
+     */
+    public static LoadConfig fromProperties(Properties options) {
+        for (String name : options.stringPropertyNames()) {
+            if (!OPTIONS.contains(name)) {
+                throw new IllegalArgumentException("Unknown option: " + name + " (expected one of " + OPTIONS + ")");
+            }
+        }
+        return new LoadConfig(options);
+    }
+
+    /**
+     * @param text e.g. {@code 500ms}, {@code 30s}, {@code 2m} or {@code 10} (seconds)
+     * @return the duration in nanoseconds
+     */
+    static long parseDuration(String text) {
+        String value = text.trim().toLowerCase(Locale.ROOT);
+        TimeUnit unit = TimeUnit.SECONDS;
+        if (value.endsWith("ms")) {
+            unit = TimeUnit.MILLISECONDS;
+            value = value.substring(0, value.length() - 2);
+        } else if (value.endsWith("s")) {
+            value = value.substring(0, value.length() - 1);
+        } else if (value.endsWith("m")) {
+            unit = TimeUnit.MINUTES;
+            value = value.substring(0, value.length() - 1);
+        }
+        try {
+            long amount = Long.parseLong(value.trim());
+            if (amount < 0) {
+                throw new IllegalArgumentException("Durations must not be negative: " + text);
+            }
+            return unit.toNanos(amount);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Expected a duration such as 500ms, 30s or 2m: " + text, e);
+        }
+    }
+
+    /**
+     * @return total measured messages, or 0 when the run is bounded by {@link #durationNanos()}
+     */
+    public long messages() {
+        return messages;
+    }
+
+    /**
+     * @return measured run length, or 0 when the run is bounded by {@link #messages()}
+     */
+    public long durationNanos() {
+        return durationNanos;
+    }
+
+    public int payloadSize() {
+        return payloadSize;
+    }
+
+    public int pairs() {
+        return pairs;
+    }
+
+    public long warmupNanos() {
+        return warmupNanos;
+    }
+
+    /**
+     * @return target messages per second across all pairs, or 0 for closed-loop
+     */
+    public long rate() {
+        return rate;
+    }
+
+    /**
+     * @return the responder's host, or null to start an embedded responder
+     */
+    public String host() {
+        return host;
+    }
+
+    public int port() {
+        return port;
+    }
+
+    public CodecType codecType() {
+        return codecType;
+    }
+
+    public WaitStrategyType waitType() {
+        return waitType;
+    }
+
+    @Override
+    public String toString() {
+        return (messages > 0 ? "messages: " + messages : "duration: " + TimeUnit.NANOSECONDS.toMillis(durationNanos)
+                + " ms") + ", payload: " + payloadSize + " B, pairs: " + pairs + ", warmup: "
+                + TimeUnit.NANOSECONDS.toMillis(warmupNanos) + " ms, rate: " + (rate > 0 ? rate + " msg/s" : "closed-loop")
+                + ", responder: " + (host == null ? "embedded" : host + ":" + port) + ", codec: "
+                + codecType.name().toLowerCase() + ", wait: " + waitType.optionName();
+    }
+}
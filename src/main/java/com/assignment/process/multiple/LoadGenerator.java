@@ -0,0 +1,268 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.assignment.process.multiple;
+
+import com.assignment.codec.Frame;
+import com.assignment.dto.Player;
+import com.assignment.journal.NoOpJournal;
+import com.assignment.log.NoOpLogSink;
+import com.assignment.metrics.LatencyHistogram;
+import com.assignment.metrics.PlayerMetrics;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Soak and throughput driver: runs {@link LoadConfig#pairs()} initiators, each on its own
+ * connection and thread, against a responder and prints a throughput and latency summary.
+ * <p>
+ * Without a configured host the generator starts an embedded {@link SelectorResponder} on
+ * a loopback port whose players never reach their message limit. Every ping carries a
+ * fixed-size payload rather than the growing conversation, so the cost per message stays
+ * constant however long the run. Usage: {@code LoadGenerator [--option=value ...]}, see
+ * {@link LoadConfig} for the options.
+ */
+public class LoadGenerator {
+
+    private static final byte FILLER = 'x';
+    /** Closer than this to the next send time the pacer yields instead of parking. */
+    private static final long SPIN_THRESHOLD_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final LoadConfig config;
+    /** Reply time minus intended send time; equals {@link #roundTrip} when closed-loop. */
+    private final LatencyHistogram latency = new LatencyHistogram();
+    /** Reply time minus actual send time. */
+    private final LatencyHistogram roundTrip = new LatencyHistogram();
+    private final AtomicLong measured = new AtomicLong();
+    private final AtomicLong lastMeasuredReply = new AtomicLong();
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    public LoadGenerator(LoadConfig config) {
+        this.config = config;
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        LoadConfig config;
+        try {
+            config = LoadConfig.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println("Error: " + e.getMessage());
+            System.exit(1);
+            return;
+        }
+        System.out.println("--- Starting Load (" + config + ") ---");
+        Summary summary = new LoadGenerator(config).run();
+        System.out.println("--- Load Finished ---");
+        summary.print(System.out);
+    }
+
+    /**
+     * Connects every pair, runs the warmup and the measured phase, and stops the pairs.
+     *
+     * @throws IllegalStateException if a pair failed
+     */
+    public Summary run() throws IOException, InterruptedException {
+        SelectorResponder responder = null;
+        List<FrameConnection> connections = new ArrayList<>(config.pairs());
+        SocketTuning tuning = SocketTuning.fromSystemProperties();
+        try {
+            InetSocketAddress address;
+            if (config.host() == null) {
+                int loops = Math.min(config.pairs(), Runtime.getRuntime().availableProcessors());
+                responder = new SelectorResponder(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), loops,
+                        config.codecType().codec(), 1, Long.MAX_VALUE, tuning);
+                address = responder.start();
+            } else {
+                address = new InetSocketAddress(config.host(), config.port());
+            }
+            for (int i = 0; i < config.pairs(); i++) {
+                SocketChannel channel = tuning.apply(SocketChannel.open());
+                try {
+                    channel.connect(address);
+                } catch (IOException e) {
+                    channel.close();
+                    throw e;
+                }
+                connections.add(new FrameConnection(channel, config.codecType().codec(), config.waitType().create(),
+                        NoOpJournal.INSTANCE, null, tuning));
+            }
+
+            Thread[] threads = new Thread[config.pairs()];
+            long start = System.nanoTime();
+            for (int i = 0; i < threads.length; i++) {
+                int index = i;
+                threads[i] = new Thread(() -> runPair(index, connections.get(index), start), "load-pair-" + i);
+                threads[i].start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            Throwable cause = failure.get();
+            if (cause != null) {
+                throw new IllegalStateException("Load pair failed", cause);
+            }
+            long elapsed = Math.max(0, lastMeasuredReply.get() - (start + config.warmupNanos()));
+            return new Summary(measured.get(), elapsed, config.payloadSize(), latency.snapshot(),
+                    roundTrip.snapshot());
+        } finally {
+            for (FrameConnection connection : connections) {
+                connection.close();
+            }
+            if (responder != null) {
+                responder.close();
+            }
+        }
+    }
+
+    private void runPair(int index, FrameConnection connection, long start) {
+        String name = "load-" + index;
+        Player player = new Player(name, Long.MAX_VALUE, NoOpLogSink.INSTANCE, PlayerMetrics.disabled(name));
+        byte[] payload = new byte[config.payloadSize()];
+        Arrays.fill(payload, FILLER);
+        Frame reply = new Frame();
+
+        int pairs = config.pairs();
+        long quota = config.messages() / pairs + (index < config.messages() % pairs ? 1 : 0);
+        long interval = config.rate() > 0 ? Math.max(1, TimeUnit.SECONDS.toNanos(1) * pairs / config.rate()) : 0;
+        long measureStart = start + config.warmupNanos();
+        boolean timed = config.durationNanos() > 0;
+        long measureEnd = measureStart + config.durationNanos();
+        // Stagger the pairs' schedules so an open-loop run does not send in bursts
+        long intended = start + interval * index / pairs;
+        long count = 0;
+        try {
+            while (timed || count < quota) {
+                if (interval > 0) {
+                    if (timed && intended - measureEnd >= 0) {
+                        break;
+                    }
+                    pace(intended);
+                }
+                long sent = System.nanoTime();
+                long scheduled = interval > 0 ? intended : sent;
+                if (timed && scheduled - measureEnd >= 0) {
+                    break;
+                }
+                connection.send(payload, player.incrementAndGetSentCount());
+                if (!connection.receive(reply)) {
+                    throw new IOException("Responder closed the connection after " + player.getSentCount()
+                            + " messages");
+                }
+                player.incrementAndGetReceivedCount();
+                long now = System.nanoTime();
+                if (scheduled - measureStart >= 0) {
+                    latency.record(now - scheduled);
+                    roundTrip.record(now - sent);
+                    lastMeasuredReply.accumulateAndGet(now, Math::max);
+                    count++;
+                }
+                intended += interval;
+            }
+            connection.sendStop();
+        } catch (IOException | RuntimeException | Error e) {
+            failure.compareAndSet(null, e);
+        } finally {
+            measured.addAndGet(count);
+        }
+    }
+
+    /**
+     * Waits until {@code intended}; returns at once if the schedule is already behind.
+     */
+    private static void pace(long intended) {
+        long remaining;
+        while ((remaining = intended - System.nanoTime()) > 0) {
+            if (remaining > SPIN_THRESHOLD_NANOS) {
+                LockSupport.parkNanos(remaining - SPIN_THRESHOLD_NANOS);
+            } else {
+                Thread.yield();
+            }
+        }
+    }
+
+    /**
+     * Outcome of the measured phase of a run.
+     */
+    public static final class Summary {
+
+        private final long messages;
+        private final long elapsedNanos;
+        private final int payloadSize;
+        private final LatencyHistogram.Snapshot latency;
+        private final LatencyHistogram.Snapshot roundTrip;
+
+        Summary(long messages, long elapsedNanos, int payloadSize, LatencyHistogram.Snapshot latency,
+                LatencyHistogram.Snapshot roundTrip) {
+            this.messages = messages;
+            this.elapsedNanos = elapsedNanos;
+            this.payloadSize = payloadSize;
+            this.latency = latency;
+            this.roundTrip = roundTrip;
+        }
+
+        /**
+         * @return round trips completed in the measured phase
+         */
+        public long getMessages() {
+            return messages;
+        }
+
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        /**
+         * @return round trips per second over the measured phase
+         */
+        public double getThroughput() {
+            return elapsedNanos == 0 ? 0 : messages * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+        }
+
+        /**
+         * @return reply time minus intended send time, which includes any time spent behind schedule
+         */
+        public LatencyHistogram.Snapshot getLatency() {
+            return latency;
+        }
+
+        /**
+         * @return reply time minus actual send time
+         */
+        public LatencyHistogram.Snapshot getRoundTrip() {
+            return roundTrip;
+        }
+
+        public void print(PrintStream out) {
+            double throughput = getThroughput();
+            out.printf("  Messages: %d in %d ms (%.0f msg/s, %.2f MB/s of payload)%n", messages,
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos), throughput, throughput * payloadSize / 1e6);
+            out.println("  Latency: " + latency);
+            out.println("  Round Trip: " + roundTrip);
+        }
+    }
+}
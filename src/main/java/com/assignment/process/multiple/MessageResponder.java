@@ -0,0 +1,113 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.assignment.process.multiple;
+
+import com.assignment.codec.Frame;
+import com.assignment.codec.MessageType;
+import com.assignment.dto.Player;
+import com.assignment.flow.CreditWindow;
+import com.assignment.message.Conversation;
+
+import java.io.IOException;
+
+/**
+ * The responder's side of the single-conversation protocol, whichever transport carries it.
+ */
+final class MessageResponder {
+
+    private MessageResponder() {
+    }
+
+    /**
+     * Replies to every message in arrival order, in the encoding it arrived in: a full DATA message gets the
+     * whole conversation back, a DELTA only this player's counter. A pipelined initiator opens by asking for
+     * credits; the responder then drives flow control: it grants the smaller of that and {@code window}, and
+     * returns credits in batches as it consumes messages.
+     */
+    static void respond(Player player, FrameConnection connection, int window) throws IOException {
+        Frame received = new Frame();
+        // Zero until the initiator asks for credits; a stop-and-wait initiator never does
+        int grantBatch = 0;
+        int consumed = 0;
+        // Last full message and our reply counter, from which a switch to delta encoding continues
+        String lastContent = null;
+        long lastReply = 0;
+        Conversation conversation = null;
+        // Loop reading messages from the initiator
+        while (connection.receive(received)) {
+            if (received.type() == MessageType.CREDIT) {
+                int granted = Math.min(received.senderCounter(), window);
+                grantBatch = CreditWindow.grantBatch(granted);
+                connection.sendCredit(granted);
+                continue;
+            }
+            if (received.type() == MessageType.DELTA) {
+                if (conversation == null) {
+                    if (lastContent == null) {
+                        System.err.println("[" + player.getName() + "] Error: Delta received before a full message.");
+                        break;
+                    }
+                    conversation = Conversation.parse(lastContent + " " + lastReply);
+                }
+                conversation = conversation.append(received.senderCounter());
+                player.logMessageReceived(conversation);
+
+                // Prepare the reply: only this player's next sent count
+                long sentCount = player.incrementAndGetSentCount();
+                conversation = conversation.append(sentCount);
+                if (player.logSink().isLoggable()) {
+                    player.logSink().log("[" + player.getName() + "] SENDING: " + conversation
+                            + " (Sent Count: " + player.getSentCount() + ")");
+                }
+                connection.sendDelta(sentCount);
+            } else {
+                String receivedContent = received.type() == MessageType.STOP ? "STOP" : received.payloadAsString();
+                // Use logMessageReceived from the Player POJO
+                player.logMessageReceived(receivedContent);
+
+                // Optional check for a stop signal
+                if (received.type() == MessageType.STOP) {
+                    System.out.println("[" + player.getName() + "] Received STOP signal. Closing connection.");
+                    break;
+                }
+
+                // Prepare the reply: received content + this player's next sent count
+                long sentCount = player.incrementAndGetSentCount();
+                if (player.logSink().isLoggable()) {
+                    player.logSink().log("[" + player.getName() + "] SENDING: " + receivedContent + " " + sentCount
+                            + " (Sent Count: " + player.getSentCount() + ")");
+                }
+                connection.send(received, sentCount);
+                lastContent = receivedContent;
+                lastReply = sentCount;
+                conversation = null;
+            }
+
+            if (grantBatch > 0 && ++consumed == grantBatch) {
+                connection.sendCredit(consumed);
+                consumed = 0;
+            }
+
+            // Optional check for termination condition
+            if (player.getReceivedCount() >= Player.DEFAULT_MESSAGE_LIMIT) {
+                System.out.println("[" + player.getName() + "] Processed " + Player.DEFAULT_MESSAGE_LIMIT
+                        + " messages. Waiting for initiator to close or send STOP.");
+            }
+        }
+        System.out.println("[" + player.getName() + "] Connection closed by initiator or STOP received.");
+    }
+}
@@ -16,15 +16,89 @@
 
  package com.assignment.process.multiple;
 
+ import com.assignment.codec.CodecType;
+ import com.assignment.codec.Frame;
+ import com.assignment.codec.MessageType;
  import com.assignment.dto.Player;
+ import com.assignment.journal.Journal;
+ import com.assignment.journal.Journals;
+ import com.assignment.message.Conversation;
+ import com.assignment.metrics.MetricsExporter;
+ import com.assignment.wait.WaitStrategyType;
  import java.io.*;
  import java.net.*;
+ import java.nio.channels.ServerSocketChannel;
+ import java.nio.channels.SocketChannel;
+ import java.nio.charset.StandardCharsets;
+ import java.util.concurrent.TimeUnit;
  
  public class MultiProcessApp {
-     private static final int PORT = 8080;
-     private static final String HOST = "localhost";
+     /** System property with the responder's TCP port; defaults to 8080. */
+     public static final String PORT_PROPERTY = "player.port";
+     /** System property with the host the initiator connects to; defaults to {@code localhost}. */
+     public static final String HOST_PROPERTY = "player.host";
      private static final int MESSAGE_LIMIT = 10;
+     private static final byte[] PING = "ping".getBytes(StandardCharsets.US_ASCII);
+     /**
+      * System property selecting the receive-side {@link WaitStrategyType}; defaults to {@code block},
+      * or {@code park} for the shared-memory transport, which has no kernel wake-up to block on.
+      */
+     public static final String WAIT_PROPERTY = "player.wait";
+     /** System property selecting the {@link Transport}: {@code tcp} (default), {@code shm} or {@code unix}. */
+     public static final String TRANSPORT_PROPERTY = "player.transport";
+     /** System property with the Unix domain socket file; defaults to a file in the temporary directory. */
+     public static final String UNIX_PATH_PROPERTY = "player.unix.path";
+     /** System property with the shared-memory channel file; defaults to a file under /dev/shm. */
+     public static final String SHM_PATH_PROPERTY = "player.shm.path";
+     /** System property with the per-direction shared-memory ring size in bytes (power of two). */
+     public static final String SHM_CAPACITY_PROPERTY = "player.shm.capacity";
+     /** System property selecting the wire {@link CodecType}: {@code binary} (default) or {@code text}. */
+     public static final String CODEC_PROPERTY = "player.codec";
+     /** System property selecting the responder implementation: {@code blocking} (default) or {@code selector}. */
+     public static final String RESPONDER_PROPERTY = "player.responder";
+     /** System property with the number of selector event loops; defaults to the available processors. */
+     public static final String RESPONDER_LOOPS_PROPERTY = "player.responder.loops";
+     /**
+      * System property with the number of pings the initiator may have in flight, granted by the responder as
+      * credits. The default of 1 is the original stop-and-wait exchange; the initiator gets the smaller of the
+      * two processes' values.
+      */
+     public static final String WINDOW_PROPERTY = "player.window";
+     /**
+      * System property with the initiator's message encoding: {@code full} (default) sends the whole conversation
+      * every hop, {@code delta} only the newest counter. The responder answers in whichever form it receives.
+      */
+     public static final String ENCODING_PROPERTY = "player.encoding";
+     /**
+      * System property with the number of conversations the initiator multiplexes over one persistent connection
+      * ({@link MuxClient}); 0 (default) runs the single-conversation protocol. A responder started with any value
+      * above 0 serves multiplexed clients ({@link MuxServer}) until it is stopped.
+      */
+     public static final String STREAMS_PROPERTY = "player.streams";
+     /** System property with the first reconnect delay of a multiplexed initiator in ms; defaults to 50. */
+     public static final String RECONNECT_INITIAL_PROPERTY = "player.reconnect.initial";
+     /** System property with the longest reconnect delay of a multiplexed initiator in ms; defaults to 2000. */
+     public static final String RECONNECT_MAX_PROPERTY = "player.reconnect.max";
+     /** System property with how long a multiplexed initiator keeps failing to connect before it gives up, in ms. */
+     public static final String RECONNECT_TIMEOUT_PROPERTY = "player.reconnect.timeout";
+     /**
+      * System property with a ready file: the responder writes its endpoint there once it accepts connections (the
+      * bound port for TCP, so {@code player.port=0} works), and an initiator given the same file waits for it
+      * instead of assuming the responder is up.
+      */
+     public static final String READY_FILE_PROPERTY = "player.ready.file";
+     /** System property with how long an initiator waits for the ready file, in ms; defaults to 30000. */
+     public static final String READY_TIMEOUT_PROPERTY = "player.ready.timeout";
+     /** System property with how long the initiator retries a refused connection, in ms; defaults to 5000. */
+     public static final String CONNECT_TIMEOUT_PROPERTY = "player.connect.timeout";
+     /**
+      * System property with the number of round trips each process runs over a private connection before the real
+      * exchange, to have the hot path compiled when measured traffic starts; defaults to 0.
+      */
+     public static final String WARMUP_PROPERTY = "player.warmup";
  
+     // The metrics exporter is a resource only to be closed; javac warns about any unreferenced one
+     @SuppressWarnings("try")
      public static void main(String[] args) throws IOException {
          if (args.length == 0) {
              System.err.println("Error: Role required ('initiator' or 'responder').");
@@ -32,56 +106,143 @@
          }
          String role = args[0];
          Player player = new Player(role);
+         Transport transport = Transport.fromName(System.getProperty(TRANSPORT_PROPERTY, "tcp"));
+         WaitStrategyType waitType = WaitStrategyType.fromName(
+                 System.getProperty(WAIT_PROPERTY, transport == Transport.SHM ? "park" : "block"));
+         CodecType codecType = CodecType.fromName(System.getProperty(CODEC_PROPERTY, "binary"));
+         int window = Integer.getInteger(WINDOW_PROPERTY, 1);
+         boolean deltaEncoding = "delta".equalsIgnoreCase(System.getProperty(ENCODING_PROPERTY, "full"));
+         SocketTuning tuning = SocketTuning.fromSystemProperties();
+         int streams = Integer.getInteger(STREAMS_PROPERTY, 0);
+         if (streams > 0 && transport == Transport.SHM) {
+             System.err.println("Error: Multiplexed streams need a socket transport ('tcp' or 'unix').");
+             System.exit(1);
+         }
  
-         System.out.println("[" + player.getName() + " Process] Starting...");
+         System.out.println("[" + player.getName() + " Process] Starting (transport: " + transport.name().toLowerCase()
+                 + ", wait: " + waitType.optionName() + ", codec: " + codecType.name().toLowerCase()
+                 + ", window: " + window + ", encoding: " + (deltaEncoding ? "delta" : "full") + ", " + tuning
+                 + ")...");
  
+         Endpoint endpoint = Endpoint.fromSystemProperties(transport);
+         Rendezvous rendezvous = Rendezvous.fromSystemProperties();
+         boolean responder = "responder".equalsIgnoreCase(role);
+         if (responder) {
+             // A signal left by an earlier run must not release the initiator before we are listening
+             rendezvous.clear();
+         }
+         int warmupRoundTrips = Integer.getInteger(WARMUP_PROPERTY, 0);
+         if (warmupRoundTrips > 0) {
+             long elapsed = Warmup.run(transport, codecType, waitType, warmupRoundTrips);
+             System.out.println("[" + player.getName() + " Process] Warmed up with " + warmupRoundTrips
+                     + " round trips in " + TimeUnit.NANOSECONDS.toMillis(elapsed) + " ms.");
+         }
          if ("initiator".equalsIgnoreCase(role)) {
-             initiateCommunication(player);
-         } else if ("responder".equalsIgnoreCase(role)) {
-             respondToCommunication(player);
-         } else {
-             System.err.println("Error: Invalid role specified: " + role);
-             System.exit(1);
+             endpoint = rendezvous.awaitResponder(player, endpoint);
+         }
+ 
+         try (MetricsExporter ignored = MetricsExporter.fromSystemProperties(player.metrics());
+                 Journal journal = Journals.fromSystemProperties(role.toLowerCase())) {
+             if ("initiator".equalsIgnoreCase(role) && streams > 0) {
+                 MuxConversations.initiate(player, endpoint, rendezvous, streams, tuning);
+             } else if (responder && streams > 0) {
+                 MuxConversations.serve(player, endpoint, rendezvous, tuning);
+             } else if ("initiator".equalsIgnoreCase(role)) {
+                 initiateCommunication(player, endpoint, rendezvous, waitType, codecType, window, deltaEncoding,
+                         journal, tuning);
+             } else if (responder) {
+                 if (transport == Transport.SHM) {
+                     SharedMemoryResponder.respond(player, endpoint, rendezvous, waitType, codecType, window, journal,
+                             tuning);
+                 } else if (transport == Transport.TCP
+                         && "selector".equalsIgnoreCase(System.getProperty(RESPONDER_PROPERTY, "blocking"))) {
+                     serveWithSelector(player, endpoint, rendezvous, codecType, window, tuning);
+                 } else {
+                     respondToCommunication(player, endpoint, rendezvous, waitType, codecType, window, journal,
+                             tuning);
+                 }
+             } else {
+                 System.err.println("Error: Invalid role specified: " + role);
+                 System.exit(1);
+             }
+         } finally {
+             if (responder) {
+                 rendezvous.clear();
+             }
          }
          System.out.println("[" + player.getName() + " Process] Finished. Sent: " + player.getSentCount()
-                 + ", Received: " + player.getReceivedCount());
+                 + ", Received: " + player.getReceivedCount() + ", Dropped log events: "
+                 + player.logSink().droppedEvents());
+         if (player.metrics().isEnabled()) {
+             System.out.println("[" + player.getName() + " Process] Round trip: " + player.metrics().getRoundTrip());
+             System.out.println("[" + player.getName() + " Process] Service time: "
+                     + player.metrics().getServiceTime());
+         }
      }
  
      /**
       * Runs the initiator logic: connects, sends initial message, loops
       * send/receive.
       */
-     private static void initiateCommunication(Player player) throws IOException {
-         System.out.println("[" + player.getName() + "] Attempting to connect to " + HOST + ":" + PORT + "...");
-         try (Socket socket = new Socket(HOST, PORT);
-                 PrintWriter out = new PrintWriter(socket.getOutputStream(), true);
-                 BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream()))) {
+     private static void initiateCommunication(Player player, Endpoint endpoint, Rendezvous rendezvous,
+             WaitStrategyType waitType, CodecType codecType, int window, boolean deltaEncoding, Journal journal,
+             SocketTuning tuning) throws IOException {
+         System.out.println("[" + player.getName() + "] Attempting to connect to " + endpoint + "...");
+         try (FrameConnection connection = new FrameConnection(rendezvous.connectWithRetry(endpoint, tuning),
+                 codecType.codec(), waitType.create(), journal, player.getName(), tuning)) {
  
              System.out.println("[" + player.getName() + "] Connection established.");
  
+             if (window > 1) {
+                 initiatePipelined(player, connection, window);
+                 return;
+             }
+ 
              // Prepare and send the very first message
-             String currentMessageContent = "ping " + player.incrementAndGetSentCount();
-             System.out.println("[" + player.getName() + "] SENDING: " + currentMessageContent + " (Sent Count: "
-                     + player.getSentCount() + ")");
-             out.println(currentMessageContent);
+             long sentCount = player.incrementAndGetSentCount();
+             if (player.logSink().isLoggable()) {
+                 player.logSink().log("[" + player.getName() + "] SENDING: ping " + sentCount + " (Sent Count: "
+                         + player.getSentCount() + ")");
+             }
+             connection.send(PING, sentCount);
+             // With delta encoding both sides keep the conversation and only exchange the newest counter
+             Conversation conversation = Conversation.start("ping", sentCount);
  
              // Loop until 10 replies are received
+             Frame reply = new Frame();
              while (player.getReceivedCount() < MESSAGE_LIMIT) {
                  // Wait for the reply from the Responder
-                 String replyContent = in.readLine();
-                 if (replyContent == null) {
+                 if (!connection.receive(reply)) {
                      System.err.println("[" + player.getName() + "] Error: Connection closed by responder prematurely.");
                      break;
                  }
-                 player.logMessageReceived(replyContent);
+                 String replyContent = null;
+                 if (deltaEncoding) {
+                     conversation = conversation.append(reply.senderCounter());
+                     player.logMessageReceived(conversation);
+                 } else {
+                     replyContent = reply.payloadAsString();
+                     player.logMessageReceived(replyContent);
+                 }
  
                  // Check if we need to send another message (stop after receiving 10th reply)
                  if (player.getReceivedCount() < MESSAGE_LIMIT) {
                      // Prepare next message based on the reply, adding our next sent count
-                     currentMessageContent = replyContent + " " + player.incrementAndGetSentCount();
-                     System.out.println("[" + player.getName() + "] SENDING: " + currentMessageContent + " (Sent Count: "
-                             + player.getSentCount() + ")");
-                     out.println(currentMessageContent);
+                     sentCount = player.incrementAndGetSentCount();
+                     if (deltaEncoding) {
+                         conversation = conversation.append(sentCount);
+                         if (player.logSink().isLoggable()) {
+                             player.logSink().log("[" + player.getName() + "] SENDING: " + conversation
+                                     + " (Sent Count: " + player.getSentCount() + ")");
+                         }
+                         connection.sendDelta(sentCount);
+                     } else {
+                         if (player.logSink().isLoggable()) {
+                             player.logSink().log("[" + player.getName() + "] SENDING: " + replyContent + " "
+                                     + sentCount + " (Sent Count: " + player.getSentCount() + ")");
+                         }
+                         connection.send(reply, sentCount);
+                     }
                  } else {
                      System.out.println("[" + player.getName() + "] Received " + MESSAGE_LIMIT
                              + " replies. Stopping communication.");
@@ -89,55 +250,110 @@
              }
  
          } catch (ConnectException e) {
-             System.err.println("[" + player.getName() + "] Error: Connection refused. Is the responder running on port "
-                     + PORT + "?");
+             System.err.println("[" + player.getName() + "] Error: Connection refused. Is the responder running "
+                     + (endpoint.transport() == Transport.TCP ? "on port " + endpoint.port() : "on " + endpoint) + "?");
          } catch (IOException e) {
              System.err.println("[" + player.getName() + "] I/O Error: " + e.getMessage());
              throw e;
          }
      }
  
-     
-     private static void respondToCommunication(Player player) throws IOException {
-         System.out.println("[" + player.getName() + "] Listening on port " + PORT + "...");
-         try (ServerSocket serverSocket = new ServerSocket(PORT);
-                 Socket clientSocket = serverSocket.accept(); // Wait for initiator connection
-                 PrintWriter out = new PrintWriter(clientSocket.getOutputStream(), true);
-                 BufferedReader in = new BufferedReader(new InputStreamReader(clientSocket.getInputStream()))) {
- 
-             System.out.println("[" + player.getName() + "] Initiator connected from "
-                     + clientSocket.getRemoteSocketAddress() + ".");
- 
-             String receivedContent;
-             // Loop reading messages from the initiator
-             while ((receivedContent = in.readLine()) != null) {
-                 // Use logMessageReceived from the Player POJO
-                 player.logMessageReceived(receivedContent);
- 
-                 // Optional check for a stop signal
-                 if ("STOP".equalsIgnoreCase(receivedContent)) {
-                     System.out.println("[" + player.getName() + "] Received STOP signal. Closing connection.");
-                     break;
-                 }
  
-                 // Prepare the reply: received content + this player's next sent count
-                 String replyContent = receivedContent + " " + player.incrementAndGetSentCount();
-                 System.out.println("[" + player.getName() + "] SENDING: " + replyContent + " (Sent Count: "
-                         + player.getSentCount() + ")");
-                 out.println(replyContent);
+     /**
+      * Runs the responder logic: accepts one initiator, over TCP or a Unix domain socket, and echoes
+      * each message back with its own sent count appended.
+      */
+     private static void respondToCommunication(Player player, Endpoint endpoint, Rendezvous rendezvous,
+             WaitStrategyType waitType, CodecType codecType, int window, Journal journal, SocketTuning tuning)
+             throws IOException {
+         try (ServerSocketChannel serverChannel = endpoint.listen(tuning)) {
+             Endpoint bound = endpoint.boundTo(serverChannel);
+             System.out.println("[" + player.getName() + "] Listening on " + bound.describeListening() + "...");
+             rendezvous.signalReady(player, bound);
+             SocketChannel clientChannel = tuning.apply(serverChannel.accept()); // Wait for initiator connection
+             System.out.println("[" + player.getName() + "] Initiator connected"
+                     + (endpoint.transport() == Transport.TCP ? " from " + clientChannel.getRemoteAddress() : "")
+                     + ".");
  
-                 // Optional check for termination condition
-                 if (player.getReceivedCount() >= MESSAGE_LIMIT) {
-                     System.out.println("[" + player.getName() + "] Processed " + MESSAGE_LIMIT
-                             + " messages. Waiting for initiator to close or send STOP.");
-                 }
+             try (FrameConnection connection = new FrameConnection(clientChannel, codecType.codec(),
+                     waitType.create(), journal, player.getName(), tuning)) {
+                 MessageResponder.respond(player, connection, window);
              }
-             System.out.println("[" + player.getName() + "] Connection closed by initiator or STOP received.");
- 
          } catch (IOException e) {
              System.err.println("[" + player.getName() + "] I/O Error: " + e.getMessage());
              throw e;
+         } finally {
+             endpoint.deleteSocketFile();
+         }
+     }
+ 
+ 
+     /**
+      * Pipelined initiator: asks the responder for {@code window} credits in an opening CREDIT frame, then
+      * sends independent pings ("ping N") as long as it holds credits, so up to the granted window of them
+      * are in flight, and checks that replies come back in order.
+      *
+      * @throws ProtocolException on a reply other than the next one expected
+      */
+     private static void initiatePipelined(Player player, FrameConnection connection, int window)
+             throws IOException {
+         connection.sendCredit(window);
+         Frame frame = new Frame();
+         int credits = 0;
+         boolean granted = false;
+         int expected = 1;
+         while (player.getReceivedCount() < MESSAGE_LIMIT) {
+             // Spend every credit we hold before waiting
+             while (credits > 0 && player.getSentCount() < MESSAGE_LIMIT) {
+                 long sentCount = player.incrementAndGetSentCount();
+                 credits--;
+                 if (player.logSink().isLoggable()) {
+                     player.logSink().log("[" + player.getName() + "] SENDING: ping " + sentCount + " (Sent Count: "
+                             + player.getSentCount() + ", In Flight: " + (sentCount - player.getReceivedCount()) + ")");
+                 }
+                 connection.send(PING, sentCount);
+             }
+ 
+             if (!connection.receive(frame)) {
+                 System.err.println("[" + player.getName() + "] Error: Connection closed by responder prematurely.");
+                 return;
+             }
+             if (frame.type() == MessageType.CREDIT) {
+                 if (!granted && frame.senderCounter() < window) {
+                     System.out.println("[" + player.getName() + "] Responder granted a window of "
+                             + frame.senderCounter() + " instead of " + window + ".");
+                 }
+                 granted = true;
+                 credits += frame.senderCounter();
+                 continue;
+             }
+             String replyContent = frame.payloadAsString();
+             player.logMessageReceived(replyContent);
+             String expectedContent = "ping " + expected + " " + expected;
+             if (!expectedContent.equals(replyContent)) {
+                 throw new ProtocolException("Out-of-order reply: " + replyContent + ", expected: " + expectedContent);
+             }
+             expected++;
+         }
+         System.out.println("[" + player.getName() + "] Received " + MESSAGE_LIMIT + " replies. Stopping communication.");
+     }
+ 
+ 
+     /**
+      * Runs a {@link SelectorResponder} serving any number of initiators until the process is stopped.
+      */
+     private static void serveWithSelector(Player player, Endpoint endpoint, Rendezvous rendezvous,
+             CodecType codecType, int window, SocketTuning tuning) throws IOException {
+         int loops = Integer.getInteger(RESPONDER_LOOPS_PROPERTY, Runtime.getRuntime().availableProcessors());
+         try (SelectorResponder responder = new SelectorResponder(new InetSocketAddress(endpoint.port()), loops,
+                 codecType.codec(), window, Player.DEFAULT_MESSAGE_LIMIT, tuning)) {
+             Endpoint bound = endpoint.withPort(responder.start().getPort());
+             System.out.println("[" + player.getName() + "] Listening on " + bound.describeListening() + " with "
+                     + loops + " selector event loop(s)...");
+             rendezvous.signalReady(player, bound);
+             responder.awaitTermination();
+         } catch (InterruptedException e) {
+             Thread.currentThread().interrupt();
          }
      }
  }
- 
\ No newline at end of file
@@ -0,0 +1,344 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.assignment.process.multiple;
+
+import com.assignment.buffer.BufferPool;
+import com.assignment.codec.MuxCodec;
+import com.assignment.codec.MuxFrame;
+import com.assignment.codec.MuxFrameType;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ByteChannel;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Client end of a long-lived connection carrying many {@link MuxStream}s, framed by {@link MuxCodec}.
+ * <p>
+ * One reader thread owns the connection: it connects, announces the client with a HELLO
+ * frame, resends every stream's unacknowledged request and then dispatches replies to their
+ * streams by stream id. When the connection drops, or the server closes it, the reader
+ * reconnects with exponential {@link Backoff}; it gives up, failing every waiting request,
+ * once a reconnect has been failing for longer than the reconnect timeout. Requests are
+ * written by the threads that make them, under one lock, so the streams share a single
+ * socket without a hand-off to a writer thread.
+ */
+public final class MuxClient implements Closeable {
+
+    /**
+     * Opens a fresh blocking channel to the server.
+     */
+    public interface Connector {
+        ByteChannel connect() throws IOException;
+    }
+
+    private static final int INITIAL_BUFFER_SIZE = 8192;
+    private static final byte[] NO_PAYLOAD = new byte[0];
+
+    private final Connector connector;
+    private final Backoff backoff;
+    private final long reconnectTimeoutNanos;
+    private final long clientId = ThreadLocalRandom.current().nextLong();
+    private final Map<Integer, MuxStream> streams = new ConcurrentHashMap<>();
+    private final AtomicInteger nextStreamId = new AtomicInteger();
+    private final AtomicLong connects = new AtomicLong();
+    private final BufferPool pool = BufferPool.shared();
+    private final Thread reader;
+    private final Object writeLock = new Object();
+    // Guarded by writeLock
+    private ByteChannel channel;
+    private ByteBuffer writeBuffer = pool.acquire(INITIAL_BUFFER_SIZE);
+    // Owned by the reader thread
+    private ByteBuffer readBuffer = pool.acquire(INITIAL_BUFFER_SIZE);
+    private volatile IOException failure;
+    private volatile boolean closed;
+
+    /**
+     * @param reconnectTimeoutNanos how long connecting may keep failing before the client gives up
+     */
+    public MuxClient(Connector connector, long initialBackoffNanos, long maxBackoffNanos,
+            long reconnectTimeoutNanos) {
+        this.connector = connector;
+        this.backoff = new Backoff(initialBackoffNanos, maxBackoffNanos);
+        this.reconnectTimeoutNanos = reconnectTimeoutNanos;
+        this.reader = new Thread(this::run, "mux-client-reader");
+        this.reader.setDaemon(true);
+    }
+
+    /**
+     * Starts connecting in the background; streams may be used straight away and their first
+     * requests go out once the connection is up.
+     */
+    public void start() {
+        reader.start();
+    }
+
+    public MuxStream openStream() {
+        MuxStream stream = new MuxStream(this, nextStreamId.incrementAndGet());
+        streams.put(stream.id(), stream);
+        return stream;
+    }
+
+    /**
+     * @return connections made so far; more than one means the client has reconnected
+     */
+    public long getConnects() {
+        return connects.get();
+    }
+
+    public int getOpenStreams() {
+        return streams.size();
+    }
+
+    void send(int streamId, long sequence, byte[] payload) {
+        synchronized (writeLock) {
+            if (channel == null || closed) {
+                return; // resent once connected
+            }
+            try {
+                encode(MuxFrameType.DATA, streamId, sequence, payload);
+                flush();
+            } catch (IOException e) {
+                // The reader sees the closed channel and reconnects, resending the request
+                closeChannel();
+            }
+        }
+    }
+
+    void closeStream(MuxStream stream) {
+        if (streams.remove(stream.id()) == null) {
+            return;
+        }
+        synchronized (writeLock) {
+            if (channel == null || closed) {
+                return;
+            }
+            try {
+                encode(MuxFrameType.CLOSE, stream.id(), 0, NO_PAYLOAD);
+                flush();
+            } catch (IOException e) {
+                closeChannel();
+            }
+        }
+    }
+
+    /**
+     * @throws IOException if the client failed or was closed
+     */
+    void checkUsable() throws IOException {
+        IOException cause = failure;
+        if (cause != null) {
+            throw new IOException("Multiplexed connection failed: " + cause.getMessage(), cause);
+        }
+        if (closed) {
+            throw new IOException("Multiplexed client closed");
+        }
+    }
+
+    private void run() {
+        MuxFrame frame = new MuxFrame();
+        try {
+            ByteChannel connected;
+            while ((connected = connect()) != null) {
+                try {
+                    attach(connected);
+                    readUntilClosed(connected, frame);
+                } catch (IOException e) {
+                    if (!closed) {
+                        System.err.println("[" + reader.getName() + "] Connection lost: " + e.getMessage()
+                                + "; reconnecting");
+                    }
+                } finally {
+                    detach(connected);
+                }
+            }
+        } catch (IOException e) {
+            failure = e;
+        } finally {
+            for (MuxStream stream : streams.values()) {
+                stream.wakeUp();
+            }
+        }
+    }
+
+    /**
+     * @return a connected channel, or null once the client is closed
+     * @throws IOException if connecting kept failing for longer than the reconnect timeout
+     */
+    private ByteChannel connect() throws IOException {
+        long deadline = System.nanoTime() + reconnectTimeoutNanos;
+        IOException last = null;
+        while (!closed) {
+            try {
+                ByteChannel connected = connector.connect();
+                backoff.reset();
+                return connected;
+            } catch (IOException e) {
+                last = e;
+            }
+            long delay = backoff.nextDelayNanos();
+            if (System.nanoTime() + delay - deadline > 0) {
+                throw new IOException("Could not connect within "
+                        + TimeUnit.NANOSECONDS.toMillis(reconnectTimeoutNanos) + " ms", last);
+            }
+            LockSupport.parkNanos(this, delay);
+        }
+        return null;
+    }
+
+    /**
+     * Makes {@code connected} the current channel and resumes every stream with a pending request.
+     */
+    private void attach(ByteChannel connected) throws IOException {
+        synchronized (writeLock) {
+            if (closed) {
+                throw new IOException("Multiplexed client closed");
+            }
+            channel = connected;
+            connects.incrementAndGet();
+            writeBuffer.clear();
+            encode(MuxFrameType.HELLO, 0, clientId, NO_PAYLOAD);
+            for (MuxStream stream : streams.values()) {
+                long sequence;
+                byte[] payload;
+                // Read both at once: a request abandoned in between must not lend its sequence to the next
+                synchronized (stream) {
+                    sequence = stream.pendingSequence();
+                    payload = stream.pendingPayload();
+                }
+                if (sequence != 0 && payload != null) {
+                    encode(MuxFrameType.DATA, stream.id(), sequence, payload);
+                }
+            }
+            flush();
+        }
+    }
+
+    private void detach(ByteChannel connected) {
+        synchronized (writeLock) {
+            if (channel == connected) {
+                channel = null;
+            }
+        }
+        try {
+            connected.close();
+        } catch (IOException ignored) {
+            // already gone
+        }
+    }
+
+    private void readUntilClosed(ByteChannel connected, MuxFrame frame) throws IOException {
+        readBuffer.clear().flip();
+        while (true) {
+            while (MuxCodec.decode(readBuffer, frame)) {
+                if (frame.type() == MuxFrameType.DATA) {
+                    MuxStream stream = streams.get(frame.streamId());
+                    if (stream != null) {
+                        stream.onReply(frame.sequence(), frame.payload());
+                    }
+                }
+            }
+            readBuffer.compact();
+            if (!readBuffer.hasRemaining()) {
+                readBuffer.flip();
+                ByteBuffer grown = pool.acquire(readBuffer.capacity() * 2);
+                grown.put(readBuffer);
+                pool.release(readBuffer);
+                readBuffer = grown;
+            }
+            int read = connected.read(readBuffer);
+            readBuffer.flip();
+            if (read < 0) {
+                throw new IOException("Server closed the connection");
+            }
+        }
+    }
+
+    /**
+     * Appends a frame to the write buffer, flushing or growing it first if the frame does not fit.
+     */
+    private void encode(MuxFrameType type, int streamId, long sequence, byte[] payload) throws IOException {
+        int needed = MuxCodec.HEADER_LENGTH + payload.length;
+        if (writeBuffer.remaining() < needed && writeBuffer.position() > 0) {
+            flush();
+        }
+        if (writeBuffer.remaining() < needed) {
+            pool.release(writeBuffer);
+            writeBuffer = pool.acquire(needed);
+        }
+        MuxCodec.encode(writeBuffer, type, streamId, sequence, payload);
+    }
+
+    private void flush() throws IOException {
+        writeBuffer.flip();
+        try {
+            while (writeBuffer.hasRemaining()) {
+                channel.write(writeBuffer);
+            }
+        } finally {
+            writeBuffer.clear();
+        }
+    }
+
+    private void closeChannel() {
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+            // already gone
+        }
+    }
+
+    /**
+     * Closes the connection and stops reconnecting; waiting requests fail.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        synchronized (writeLock) {
+            if (channel != null) {
+                closeChannel();
+            }
+        }
+        LockSupport.unpark(reader);
+        if (reader.isAlive() && reader != Thread.currentThread()) {
+            try {
+                reader.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        for (MuxStream stream : streams.values()) {
+            stream.wakeUp();
+        }
+        synchronized (writeLock) {
+            pool.release(writeBuffer);
+        }
+        if (!reader.isAlive()) {
+            pool.release(readBuffer);
+        }
+    }
+}
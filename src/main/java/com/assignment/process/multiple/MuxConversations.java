@@ -0,0 +1,152 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.assignment.process.multiple;
+
+import com.assignment.dto.Player;
+import com.assignment.metrics.PlayerMetrics;
+
+import java.io.IOException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * The multi-process roles when {@code player.streams} is above 0: the initiator runs that many
+ * conversations over one {@link MuxClient} connection, and the responder serves them with a
+ * {@link MuxServer} until it is stopped.
+ */
+final class MuxConversations {
+
+    private MuxConversations() {
+    }
+
+    /**
+     * Runs {@code streams} independent conversations, each on its own thread and {@link MuxStream}, over one
+     * {@link MuxClient} connection that reconnects and resumes them if the responder goes away. Every
+     * reconnect takes the port from the ready file again, as a restarted responder may publish a new one.
+     */
+    static void initiate(Player player, Endpoint endpoint, Rendezvous rendezvous, int streams,
+            SocketTuning tuning) throws IOException {
+        System.out.println("[" + player.getName() + "] Multiplexing " + streams
+                + " conversations over one connection to " + endpoint + "...");
+        AtomicReference<Endpoint> current = new AtomicReference<>(endpoint);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        AtomicLong sent = new AtomicLong();
+        AtomicLong received = new AtomicLong();
+        try (MuxClient client = new MuxClient(() -> {
+            Endpoint published = rendezvous.refresh(current.get());
+            current.set(published);
+            return published.connect(tuning);
+        },
+                TimeUnit.MILLISECONDS.toNanos(Long.getLong(MultiProcessApp.RECONNECT_INITIAL_PROPERTY, 50)),
+                TimeUnit.MILLISECONDS.toNanos(Long.getLong(MultiProcessApp.RECONNECT_MAX_PROPERTY, 2000)),
+                TimeUnit.MILLISECONDS.toNanos(Long.getLong(MultiProcessApp.RECONNECT_TIMEOUT_PROPERTY, 30_000)))) {
+            client.start();
+            Thread[] threads = new Thread[streams];
+            for (int i = 0; i < streams; i++) {
+                MuxStream stream = client.openStream();
+                Player streamPlayer = new Player(player.getName() + "-" + stream.id(), player.logSink());
+                threads[i] = new Thread(() -> {
+                    try {
+                        converse(streamPlayer, stream);
+                    } catch (Throwable e) {
+                        failure.compareAndSet(null, e);
+                    } finally {
+                        sent.addAndGet(streamPlayer.getSentCount());
+                        received.addAndGet(streamPlayer.getReceivedCount());
+                    }
+                }, streamPlayer.getName());
+                threads[i].start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            System.out.println("[" + player.getName() + "] " + streams + " conversations finished over "
+                    + client.getConnects() + " connection(s). Sent: " + sent + ", Received: " + received);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        Throwable cause = failure.get();
+        if (cause != null) {
+            System.err.println("[" + player.getName() + "] Error: " + cause.getMessage());
+            throw cause instanceof IOException ? (IOException) cause : new IOException(cause);
+        }
+    }
+
+    /**
+     * One multiplexed conversation: the same growing ping as the single-connection protocol, ten replies long.
+     */
+    private static void converse(Player player, MuxStream stream) throws IOException, InterruptedException {
+        try (MuxStream conversation = stream) {
+            String content = "ping " + player.incrementAndGetSentCount();
+            while (true) {
+                if (player.logSink().isLoggable()) {
+                    player.logSink().log("[" + player.getName() + "] SENDING: " + content + " (Sent Count: "
+                            + player.getSentCount() + ")");
+                }
+                String reply = conversation.request(content);
+                player.logMessageReceived(reply);
+                if (player.getReceivedCount() >= Player.DEFAULT_MESSAGE_LIMIT) {
+                    break;
+                }
+                content = reply + " " + player.incrementAndGetSentCount();
+            }
+            System.out.println("[" + player.getName() + "] Received " + Player.DEFAULT_MESSAGE_LIMIT
+                    + " replies. Stopping communication.");
+        }
+    }
+
+    /**
+     * Serves multiplexed initiators until the process is stopped. Every stream gets its own {@link Player},
+     * as every connection does in the other responders, recording into this player's metrics. A reply is the
+     * request plus the request's sequence, which in a stop-and-wait conversation is this side's sent count,
+     * so a restarted responder continues each resumed conversation with the right counter.
+     */
+    static void serve(Player player, Endpoint endpoint, Rendezvous rendezvous, SocketTuning tuning)
+            throws IOException {
+        MuxServer.HandlerFactory handlers = (clientId, streamId) -> {
+            String name = player.getName() + "-" + streamId;
+            Player streamPlayer = new Player(name, player.logSink(), player.metrics().isEnabled()
+                    ? new PlayerMetrics(name, 1, player.metrics()) : PlayerMetrics.disabled(name));
+            return (id, sequence, request) -> {
+                String received = new String(request, StandardCharsets.UTF_8);
+                streamPlayer.logMessageReceived(received);
+                String reply = received + " " + sequence;
+                streamPlayer.incrementAndGetSentCount();
+                if (streamPlayer.logSink().isLoggable()) {
+                    streamPlayer.logSink().log("[" + streamPlayer.getName() + "] SENDING: " + reply
+                            + " (Sent Count: " + streamPlayer.getSentCount() + ")");
+                }
+                return reply.getBytes(StandardCharsets.UTF_8);
+            };
+        };
+        ServerSocketChannel serverChannel = endpoint.listen(tuning);
+        try (MuxServer server = new MuxServer(serverChannel, handlers, tuning)) {
+            Endpoint bound = endpoint.boundTo(serverChannel);
+            server.start();
+            System.out.println("[" + player.getName() + "] Serving multiplexed conversations on " + bound + "...");
+            rendezvous.signalReady(player, bound);
+            server.awaitTermination();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            endpoint.deleteSocketFile();
+        }
+    }
+}
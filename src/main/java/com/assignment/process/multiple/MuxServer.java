@@ -0,0 +1,360 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.assignment.process.multiple;
+
+import com.assignment.buffer.BufferPool;
+import com.assignment.codec.MuxCodec;
+import com.assignment.codec.MuxFrame;
+import com.assignment.codec.MuxFrameType;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.ProtocolException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Server end of {@link MuxClient} connections: keeps accepting clients and answers every
+ * stream's requests through a {@link Handler}, shared or {@link HandlerFactory one per stream}.
+ * <p>
+ * Each connection is served by its own thread, which handles every frame of a read before
+ * writing the replies in one go. Stream state is kept per client id rather than per
+ * connection, so a client that reconnects finds its streams where it left them: a request
+ * the server already answered is answered again from the stored reply instead of being
+ * handled twice. After a restart of the server itself that state is gone, and resent
+ * requests are simply handled as new. A client that stays away longer than the grace period
+ * with streams still open is taken for dead: its state is dropped when the next connection
+ * is accepted.
+ */
+public final class MuxServer implements Closeable {
+
+    /**
+     * Produces the reply to one request; called from connection threads, concurrently for different streams.
+     */
+    public interface Handler {
+        byte[] reply(int streamId, long sequence, byte[] request);
+    }
+
+    /**
+     * Creates the {@link Handler} of each stream when its first request arrives. A stream's handler is
+     * called for one request at a time, so it may keep per-stream state without locking.
+     */
+    public interface HandlerFactory {
+        Handler open(long clientId, int streamId);
+    }
+
+    /** How long a disconnected client's open streams are kept for it to reconnect by default. */
+    public static final long DEFAULT_CLIENT_GRACE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final ServerSocketChannel serverChannel;
+    private final HandlerFactory handlers;
+    private final SocketTuning tuning;
+    private final long clientGraceNanos;
+    private final BufferPool pool = BufferPool.shared();
+    private final Map<Long, ClientState> clients = new ConcurrentHashMap<>();
+    private final Set<SocketChannel> connections = ConcurrentHashMap.newKeySet();
+    private final AtomicLong acceptedConnections = new AtomicLong();
+    private final AtomicLong handledRequests = new AtomicLong();
+    private final AtomicLong repeatedReplies = new AtomicLong();
+    private final Thread acceptor;
+    private volatile boolean running;
+
+    /**
+     * Answers every stream through the same {@code handler}.
+     *
+     * @param serverChannel bound, blocking listening channel, closed with the server
+     * @param tuning        socket options for accepted connections
+     */
+    public MuxServer(ServerSocketChannel serverChannel, Handler handler, SocketTuning tuning) {
+        this(serverChannel, (clientId, streamId) -> handler, tuning);
+    }
+
+    /**
+     * Answers each stream through its own handler from {@code handlers}.
+     *
+     * @param serverChannel bound, blocking listening channel, closed with the server
+     * @param tuning        socket options for accepted connections
+     */
+    public MuxServer(ServerSocketChannel serverChannel, HandlerFactory handlers, SocketTuning tuning) {
+        this(serverChannel, handlers, tuning, DEFAULT_CLIENT_GRACE_NANOS);
+    }
+
+    /**
+     * @param serverChannel    bound, blocking listening channel, closed with the server
+     * @param tuning           socket options for accepted connections
+     * @param clientGraceNanos how long a client with open streams may stay disconnected before its
+     *                         state is dropped; should exceed the clients' reconnect timeout
+     */
+    public MuxServer(ServerSocketChannel serverChannel, HandlerFactory handlers, SocketTuning tuning,
+            long clientGraceNanos) {
+        this.serverChannel = serverChannel;
+        this.handlers = handlers;
+        this.tuning = tuning;
+        this.clientGraceNanos = clientGraceNanos;
+        this.acceptor = new Thread(this::acceptLoop, "mux-server-acceptor");
+        this.acceptor.setDaemon(true);
+    }
+
+    public void start() {
+        running = true;
+        acceptor.start();
+    }
+
+    /**
+     * Blocks until {@link #close()} is called from another thread.
+     */
+    public void awaitTermination() throws InterruptedException {
+        acceptor.join();
+    }
+
+    public long getAcceptedConnections() {
+        return acceptedConnections.get();
+    }
+
+    public long getHandledRequests() {
+        return handledRequests.get();
+    }
+
+    /**
+     * @return requests answered from a stored reply because a reconnecting client sent them again
+     */
+    public long getRepeatedReplies() {
+        return repeatedReplies.get();
+    }
+
+    public int getOpenStreams() {
+        int open = 0;
+        for (ClientState client : clients.values()) {
+            open += client.streams.size();
+        }
+        return open;
+    }
+
+    private void acceptLoop() {
+        try {
+            while (running) {
+                SocketChannel channel = tuning.apply(serverChannel.accept());
+                expireClients();
+                long id = acceptedConnections.incrementAndGet();
+                connections.add(channel);
+                Thread thread = new Thread(() -> serve(channel), "mux-server-connection-" + id);
+                thread.setDaemon(true);
+                thread.start();
+            }
+        } catch (ClosedChannelException e) {
+            // closed by close()
+        } catch (IOException e) {
+            if (running) {
+                System.err.println("[" + acceptor.getName() + "] Accept failed: " + e.getMessage());
+            }
+        }
+    }
+
+    private void serve(SocketChannel channel) {
+        ByteBuffer readBuffer = pool.acquire(BUFFER_SIZE);
+        ByteBuffer writeBuffer = pool.acquire(BUFFER_SIZE);
+        MuxFrame frame = new MuxFrame();
+        Map<Integer, StreamState> streams = null;
+        long clientId = 0;
+        boolean attached = false;
+        try {
+            readBuffer.flip();
+            while (running) {
+                while (MuxCodec.decode(readBuffer, frame)) {
+                    if (frame.type() == MuxFrameType.HELLO) {
+                        if (attached) {
+                            throw new ProtocolException("Second HELLO on one connection");
+                        }
+                        clientId = frame.sequence();
+                        streams = attach(clientId);
+                        attached = true;
+                    } else if (streams == null) {
+                        throw new ProtocolException("Frame before HELLO: " + frame.type());
+                    } else if (frame.type() == MuxFrameType.CLOSE) {
+                        streams.remove(frame.streamId());
+                    } else {
+                        byte[] reply = onRequest(clientId, streams, frame);
+                        if (reply != null) {
+                            writeBuffer = encodeReply(channel, writeBuffer, frame, reply);
+                        }
+                    }
+                }
+                flush(channel, writeBuffer);
+                readBuffer.compact();
+                if (!readBuffer.hasRemaining()) {
+                    readBuffer.flip();
+                    ByteBuffer grown = pool.acquire(readBuffer.capacity() * 2);
+                    grown.put(readBuffer);
+                    pool.release(readBuffer);
+                    readBuffer = grown;
+                }
+                int read = channel.read(readBuffer);
+                readBuffer.flip();
+                if (read < 0) {
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            if (running) {
+                System.err.println("[" + Thread.currentThread().getName() + "] Connection failed: " + e.getMessage());
+            }
+        } finally {
+            connections.remove(channel);
+            if (attached) {
+                detach(clientId);
+            }
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+                // already gone
+            }
+            pool.release(readBuffer);
+            pool.release(writeBuffer);
+        }
+    }
+
+    /**
+     * Counts a connection for {@code clientId}, creating its state on its first.
+     *
+     * @return the client's streams
+     */
+    private Map<Integer, StreamState> attach(long clientId) {
+        return clients.compute(clientId, (id, client) -> {
+            ClientState attached = client == null ? new ClientState() : client;
+            attached.connections++;
+            return attached;
+        }).streams;
+    }
+
+    /**
+     * Drops a client's state once its last connection has gone with no stream open, otherwise
+     * starts its grace period.
+     */
+    private void detach(long clientId) {
+        clients.computeIfPresent(clientId, (id, client) -> {
+            if (--client.connections > 0) {
+                return client;
+            }
+            if (client.streams.isEmpty()) {
+                return null;
+            }
+            client.disconnectedAt = System.nanoTime();
+            return client;
+        });
+    }
+
+    /**
+     * Drops the state of clients that have been disconnected for longer than the grace period.
+     */
+    private void expireClients() {
+        long now = System.nanoTime();
+        for (Long clientId : clients.keySet()) {
+            clients.computeIfPresent(clientId, (id, client) ->
+                    client.connections == 0 && now - client.disconnectedAt >= clientGraceNanos ? null : client);
+        }
+    }
+
+    /**
+     * @return the reply to send, or null for a request older than the stream's last one
+     */
+    private byte[] onRequest(long clientId, Map<Integer, StreamState> streams, MuxFrame frame) {
+        StreamState state = streams.computeIfAbsent(frame.streamId(),
+                id -> new StreamState(handlers.open(clientId, id)));
+        synchronized (state) {
+            long sequence = frame.sequence();
+            if (sequence == state.lastSequence) {
+                repeatedReplies.incrementAndGet();
+                return state.lastReply;
+            }
+            if (sequence < state.lastSequence) {
+                return null;
+            }
+            state.lastReply = state.handler.reply(frame.streamId(), sequence, frame.payload());
+            state.lastSequence = sequence;
+            handledRequests.incrementAndGet();
+            return state.lastReply;
+        }
+    }
+
+    private ByteBuffer encodeReply(SocketChannel channel, ByteBuffer writeBuffer, MuxFrame request, byte[] reply)
+            throws IOException {
+        int needed = MuxCodec.HEADER_LENGTH + reply.length;
+        if (writeBuffer.remaining() < needed) {
+            flush(channel, writeBuffer);
+            if (writeBuffer.remaining() < needed) {
+                pool.release(writeBuffer);
+                writeBuffer = pool.acquire(needed);
+            }
+        }
+        MuxCodec.encode(writeBuffer, MuxFrameType.DATA, request.streamId(), request.sequence(), reply);
+        return writeBuffer;
+    }
+
+    private static void flush(SocketChannel channel, ByteBuffer writeBuffer) throws IOException {
+        writeBuffer.flip();
+        while (writeBuffer.hasRemaining()) {
+            channel.write(writeBuffer);
+        }
+        writeBuffer.clear();
+    }
+
+    /**
+     * Stops accepting and drops every connection; clients start reconnecting.
+     */
+    @Override
+    public void close() throws IOException {
+        running = false;
+        serverChannel.close();
+        for (SocketChannel channel : connections) {
+            channel.close();
+        }
+        try {
+            acceptor.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * A client's streams, and how many of its connections are open. The counts are only touched
+     * inside {@code clients}' atomic map operations.
+     */
+    private static final class ClientState {
+        final Map<Integer, StreamState> streams = new ConcurrentHashMap<>();
+        int connections;
+        long disconnectedAt;
+    }
+
+    private static final class StreamState {
+        final Handler handler;
+        long lastSequence;
+        byte[] lastReply;
+
+        StreamState(Handler handler) {
+            this.handler = handler;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.assignment.process.multiple;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * One conversation multiplexed over a {@link MuxClient}'s connection.
+ * <p>
+ * A stream carries one request at a time: {@link #request} numbers it with the next
+ * sequence and waits for the reply with that sequence, which acknowledges it. Until then
+ * the client keeps the request and sends it again on every reconnect, so the conversation
+ * resumes from its last acknowledged sequence; the server answers a request it has
+ * already handled with its stored reply. Different streams may be driven from different
+ * threads, but each stream from only one at a time.
+ */
+public final class MuxStream implements Closeable {
+
+    private final MuxClient client;
+    private final int id;
+    // Guarded by this
+    private long lastAcknowledged;
+    /** Highest sequence handed out; above {@link #lastAcknowledged} after an abandoned request. */
+    private long lastSequence;
+    private long pendingSequence;
+    private byte[] pendingPayload;
+    private byte[] reply;
+
+    MuxStream(MuxClient client, int id) {
+        this.client = client;
+        this.id = id;
+    }
+
+    public int id() {
+        return id;
+    }
+
+    /**
+     * @return sequence of the last request the server has replied to
+     */
+    public synchronized long lastAcknowledged() {
+        return lastAcknowledged;
+    }
+
+    /**
+     * Sends {@code payload} as the next request and waits for its reply, across reconnects.
+     *
+     * @throws IOException          if the client gave up reconnecting or was closed
+     * @throws InterruptedException if interrupted while waiting; the request is abandoned, its
+     *                              reply is dropped if it still arrives, and the stream stays usable
+     */
+    public byte[] request(byte[] payload) throws IOException, InterruptedException {
+        long sequence;
+        synchronized (this) {
+            if (pendingSequence != 0) {
+                throw new IllegalStateException("Stream " + id + " already has a request in flight");
+            }
+            // Never reuse an abandoned request's sequence: the server may have answered it already
+            sequence = ++lastSequence;
+            pendingSequence = sequence;
+            pendingPayload = payload;
+        }
+        client.send(id, sequence, payload);
+        synchronized (this) {
+            try {
+                while (reply == null) {
+                    client.checkUsable();
+                    wait();
+                }
+            } catch (InterruptedException e) {
+                pendingSequence = 0;
+                pendingPayload = null;
+                reply = null;
+                throw e;
+            }
+            byte[] result = reply;
+            reply = null;
+            return result;
+        }
+    }
+
+    public String request(String payload) throws IOException, InterruptedException {
+        return new String(request(payload.getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Called by the client's reader thread; replies to anything but the pending request are
+     * duplicates from a reconnect and are dropped.
+     */
+    synchronized void onReply(long sequence, byte[] payload) {
+        if (sequence != pendingSequence) {
+            return;
+        }
+        lastAcknowledged = sequence;
+        pendingSequence = 0;
+        pendingPayload = null;
+        reply = payload;
+        notifyAll();
+    }
+
+    /**
+     * @return the unacknowledged request's sequence, or 0 if none is in flight
+     */
+    synchronized long pendingSequence() {
+        return pendingSequence;
+    }
+
+    synchronized byte[] pendingPayload() {
+        return pendingPayload;
+    }
+
+    /**
+     * Wakes a waiting {@link #request} so it sees the client's failure.
+     */
+    synchronized void wakeUp() {
+        notifyAll();
+    }
+
+    /**
+     * Tells the server to drop the stream's state; the stream cannot be used afterwards.
+     */
+    @Override
+    public void close() {
+        client.closeStream(this);
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.assignment.process.multiple;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Readiness handshake between the two processes through a file.
+ * <p>
+ * The responder publishes its endpoint (the bound port for TCP, the file path for the other
+ * transports) once it accepts connections; the file is written under a temporary name and
+ * moved into place, so a waiting initiator never reads it half-written. The initiator polls
+ * for the file instead of sleeping for a guessed start-up time, which also lets the
+ * responder bind an ephemeral port.
+ */
+public final class ReadyFile {
+
+    private static final long FIRST_POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long MAX_POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private ReadyFile() {
+    }
+
+    /**
+     * Atomically writes {@code endpoint} to {@code file}, replacing any stale signal.
+     */
+    public static void publish(Path file, String endpoint) throws IOException {
+        Path absolute = file.toAbsolutePath();
+        Path temporary = absolute.resolveSibling(absolute.getFileName() + ".tmp");
+        Files.write(temporary, endpoint.getBytes(StandardCharsets.UTF_8));
+        try {
+            Files.move(temporary, absolute, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporary, absolute, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Waits until {@code file} has been published.
+     *
+     * @return the published endpoint
+     * @throws IOException if nothing is published within {@code timeoutNanos}
+     */
+    public static String await(Path file, long timeoutNanos) throws IOException {
+        long deadline = System.nanoTime() + timeoutNanos;
+        Backoff backoff = new Backoff(FIRST_POLL_NANOS, MAX_POLL_NANOS);
+        while (!Files.exists(file)) {
+            if (System.nanoTime() - deadline >= 0) {
+                throw new IOException("Responder not ready after " + TimeUnit.NANOSECONDS.toMillis(timeoutNanos)
+                        + " ms: no " + file);
+            }
+            if (Thread.currentThread().isInterrupted()) {
+                throw new IOException("Interrupted while waiting for " + file);
+            }
+            LockSupport.parkNanos(backoff.nextDelayNanos());
+        }
+        return new String(Files.readAllBytes(file), StandardCharsets.UTF_8).trim();
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.assignment.process.multiple;
+
+import com.assignment.dto.Player;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.nio.channels.ByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * The {@link ReadyFile} handshake as the two roles run it.
+ * <p>
+ * The responder clears a signal left by an earlier run, then publishes its endpoint once it
+ * accepts connections. The initiator waits for that, and reads the file again whenever a
+ * connection is refused, since a responder restarted on an ephemeral port publishes a new one.
+ * Without a ready file the responder publishes nothing and the initiator only retries.
+ */
+final class Rendezvous {
+
+    private final Path readyFile;
+    private final long readyTimeoutNanos;
+    private final long connectTimeoutNanos;
+
+    Rendezvous(Path readyFile, long readyTimeoutNanos, long connectTimeoutNanos) {
+        this.readyFile = readyFile;
+        this.readyTimeoutNanos = readyTimeoutNanos;
+        this.connectTimeoutNanos = connectTimeoutNanos;
+    }
+
+    /**
+     * Reads the {@code player.ready.file}, {@code player.ready.timeout} and
+     * {@code player.connect.timeout} system properties.
+     */
+    static Rendezvous fromSystemProperties() {
+        String path = System.getProperty(MultiProcessApp.READY_FILE_PROPERTY);
+        return new Rendezvous(path != null ? Paths.get(path) : null,
+                TimeUnit.MILLISECONDS.toNanos(Long.getLong(MultiProcessApp.READY_TIMEOUT_PROPERTY, 30_000)),
+                TimeUnit.MILLISECONDS.toNanos(Long.getLong(MultiProcessApp.CONNECT_TIMEOUT_PROPERTY, 5000)));
+    }
+
+    /**
+     * Removes the ready file, so a stale signal cannot release the initiator before the
+     * responder listens, and a finished responder leaves none behind.
+     */
+    void clear() throws IOException {
+        if (readyFile != null) {
+            Files.deleteIfExists(readyFile);
+        }
+    }
+
+    /**
+     * Publishes the endpoint the responder accepts connections on, if a ready file was configured.
+     */
+    void signalReady(Player player, Endpoint endpoint) throws IOException {
+        if (readyFile != null) {
+            ReadyFile.publish(readyFile, endpoint.published());
+            System.out.println("[" + player.getName() + "] Ready: " + endpoint);
+        }
+    }
+
+    /**
+     * Blocks until the responder has published the ready file, if one was configured.
+     *
+     * @return {@code endpoint} as published, which over TCP carries the port to use
+     */
+    Endpoint awaitResponder(Player player, Endpoint endpoint) throws IOException {
+        if (readyFile == null) {
+            return endpoint;
+        }
+        System.out.println("[" + player.getName() + "] Waiting for the responder to signal " + readyFile + "...");
+        return endpoint.fromPublished(ReadyFile.await(readyFile, readyTimeoutNanos));
+    }
+
+    /**
+     * Takes the TCP port from the ready file again, if there is one.
+     *
+     * @return the endpoint now published, or {@code endpoint} itself if that has not changed
+     */
+    Endpoint refresh(Endpoint endpoint) throws IOException {
+        if (endpoint.transport() != Transport.TCP || readyFile == null) {
+            return endpoint;
+        }
+        try {
+            return endpoint.fromPublished(new String(Files.readAllBytes(readyFile), StandardCharsets.UTF_8));
+        } catch (NoSuchFileException e) {
+            return endpoint;
+        }
+    }
+
+    /**
+     * Connects like {@link Endpoint#connect}, retrying a refused connection with backoff for up to
+     * {@code player.connect.timeout} ms, so the initiator may start before the responder is listening.
+     * Every retry re-reads the ready file, so a port read from a file left by an earlier run is replaced
+     * once the responder publishes its own; while the responder has removed the file the initiator waits
+     * for it again.
+     */
+    ByteChannel connectWithRetry(Endpoint endpoint, SocketTuning tuning) throws IOException {
+        long deadline = System.nanoTime() + connectTimeoutNanos;
+        Backoff backoff = new Backoff(TimeUnit.MILLISECONDS.toNanos(5), TimeUnit.MILLISECONDS.toNanos(250));
+        Endpoint current = endpoint;
+        while (true) {
+            try {
+                return current.connect(tuning);
+            } catch (ConnectException e) {
+                if (readyFile != null && !Files.exists(readyFile)) {
+                    ReadyFile.await(readyFile, readyTimeoutNanos);
+                    deadline = System.nanoTime() + connectTimeoutNanos;
+                    backoff.reset();
+                }
+                Endpoint published = refresh(current);
+                if (published == current) {
+                    long delay = Math.min(backoff.nextDelayNanos(), deadline - System.nanoTime());
+                    if (delay <= 0) {
+                        throw e;
+                    }
+                    LockSupport.parkNanos(delay);
+                }
+                current = published;
+            }
+        }
+    }
+}
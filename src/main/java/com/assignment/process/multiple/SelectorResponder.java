@@ -0,0 +1,406 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.assignment.process.multiple;
+
+import com.assignment.buffer.BufferPool;
+import com.assignment.codec.Ascii;
+import com.assignment.codec.Frame;
+import com.assignment.codec.MessageType;
+import com.assignment.codec.WireCodec;
+import com.assignment.dto.Player;
+import com.assignment.flow.CreditWindow;
+import com.assignment.log.LogSinks;
+import com.assignment.metrics.PlayerMetrics;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Responder serving many initiators at once from non-blocking {@link SocketChannel}s.
+ * <p>
+ * Each event loop owns one {@link Selector} and one thread. The first loop also accepts
+ * new connections and deals them out round-robin, so after the handshake a connection is
+ * only ever touched by the thread of the loop it was assigned to. Every connection gets
+ * its own {@link Player}, and replies follow the same protocol as the blocking
+ * responder: the received payload plus this player's sent count, framed by the
+ * configured {@link WireCodec}, or for a DELTA message a DELTA carrying just that count.
+ * A pipelined initiator asks for credits first, and its session grants the smaller of that
+ * and the window, as the blocking responder does, so several pings may be in flight per
+ * connection. Session buffers are
+ * pooled direct buffers, and each read event's replies go out in a single write. While
+ * some of those replies are still waiting for the socket the session stops reading, so an
+ * initiator that sends faster than it reads is held back by TCP flow control instead of
+ * growing the responder's reply buffer.
+ */
+public class SelectorResponder implements Closeable {
+
+    private static final int READ_BUFFER_SIZE = 4096;
+    private static final int WRITE_BUFFER_SIZE = 4096;
+
+    private final InetSocketAddress bindAddress;
+    private final WireCodec codec;
+    private final int window;
+    private final long messageLimit;
+    private final SocketTuning tuning;
+    private final BufferPool pool = BufferPool.shared();
+    private final EventLoop[] loops;
+    private final AtomicLong acceptedConnections = new AtomicLong();
+    private final AtomicInteger openConnections = new AtomicInteger();
+    private ServerSocketChannel serverChannel;
+    private int nextLoop;
+    private volatile boolean running;
+
+    public SelectorResponder(InetSocketAddress bindAddress, int eventLoops, WireCodec codec) {
+        this(bindAddress, eventLoops, codec, 1);
+    }
+
+    /**
+     * @param window most pings each initiator may have in flight; 1 keeps the stop-and-wait protocol
+     */
+    public SelectorResponder(InetSocketAddress bindAddress, int eventLoops, WireCodec codec, int window) {
+        this(bindAddress, eventLoops, codec, window, Player.DEFAULT_MESSAGE_LIMIT);
+    }
+
+    /**
+     * @param window       most pings each initiator may have in flight; 1 keeps the stop-and-wait protocol
+     * @param messageLimit message limit of each session's player; once reached, replies repeat the final count
+     */
+    public SelectorResponder(InetSocketAddress bindAddress, int eventLoops, WireCodec codec, int window,
+            long messageLimit) {
+        this(bindAddress, eventLoops, codec, window, messageLimit, SocketTuning.DEFAULTS);
+    }
+
+    /**
+     * @param window       most pings each initiator may have in flight; 1 keeps the stop-and-wait protocol
+     * @param messageLimit message limit of each session's player; once reached, replies repeat the final count
+     * @param tuning       socket options for accepted connections; its flush policy does not apply here
+     */
+    public SelectorResponder(InetSocketAddress bindAddress, int eventLoops, WireCodec codec, int window,
+            long messageLimit, SocketTuning tuning) {
+        if (eventLoops < 1) {
+            throw new IllegalArgumentException("eventLoops must be positive: " + eventLoops);
+        }
+        if (window < 1) {
+            throw new IllegalArgumentException("window must be positive: " + window);
+        }
+        this.bindAddress = bindAddress;
+        this.codec = codec;
+        this.window = window;
+        this.messageLimit = messageLimit;
+        this.tuning = tuning;
+        this.loops = new EventLoop[eventLoops];
+    }
+
+    /**
+     * Binds the listening socket and starts the event loops.
+     *
+     * @return the bound address, useful when binding to port 0
+     */
+    public InetSocketAddress start() throws IOException {
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.configureBlocking(false);
+        tuning.applyReceiveBuffer(serverChannel);
+        serverChannel.bind(bindAddress);
+        running = true;
+        for (int i = 0; i < loops.length; i++) {
+            loops[i] = new EventLoop(i);
+        }
+        serverChannel.register(loops[0].selector, SelectionKey.OP_ACCEPT);
+        for (EventLoop loop : loops) {
+            loop.thread.start();
+        }
+        return (InetSocketAddress) serverChannel.getLocalAddress();
+    }
+
+    public long getAcceptedConnections() {
+        return acceptedConnections.get();
+    }
+
+    public int getOpenConnections() {
+        return openConnections.get();
+    }
+
+    /**
+     * Blocks until {@link #close()} is called from another thread.
+     */
+    public void awaitTermination() throws InterruptedException {
+        for (EventLoop loop : loops) {
+            loop.thread.join();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        running = false;
+        for (EventLoop loop : loops) {
+            if (loop != null) {
+                loop.selector.wakeup();
+            }
+        }
+        try {
+            for (EventLoop loop : loops) {
+                if (loop != null && loop.thread != Thread.currentThread()) {
+                    loop.thread.join();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (serverChannel != null) {
+            serverChannel.close();
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel;
+        while ((channel = serverChannel.accept()) != null) {
+            channel.configureBlocking(false);
+            tuning.apply(channel);
+            long id = acceptedConnections.incrementAndGet();
+            openConnections.incrementAndGet();
+            EventLoop loop = loops[nextLoop];
+            nextLoop = (nextLoop + 1) % loops.length;
+            // Nothing exports a session's distributions, so its player does not record them
+            String name = "responder-" + id;
+            loop.assign(new Session(channel,
+                    new Player(name, messageLimit, LogSinks.shared(), PlayerMetrics.disabled(name))));
+        }
+    }
+
+    private final class EventLoop implements Runnable {
+
+        private final Selector selector;
+        private final Thread thread;
+        private final Queue<Session> assigned = new ConcurrentLinkedQueue<>();
+        /** Scratch frame shared by every session of this loop; only valid while handling one read. */
+        private final Frame frame = new Frame();
+
+        EventLoop(int index) throws IOException {
+            this.selector = Selector.open();
+            this.thread = new Thread(this, "selector-responder-" + index);
+            this.thread.setDaemon(true);
+        }
+
+        void assign(Session session) {
+            assigned.add(session);
+            if (Thread.currentThread() != thread) {
+                selector.wakeup();
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (running) {
+                    registerAssigned();
+                    selector.select();
+                    Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                    while (keys.hasNext()) {
+                        SelectionKey key = keys.next();
+                        keys.remove();
+                        handle(key);
+                    }
+                }
+            } catch (IOException | ClosedSelectorException e) {
+                if (running) {
+                    System.err.println("[" + thread.getName() + "] Event loop failed: " + e.getMessage());
+                }
+            } finally {
+                for (SelectionKey key : selector.keys()) {
+                    if (key.attachment() instanceof Session) {
+                        ((Session) key.attachment()).close();
+                    }
+                }
+                try {
+                    selector.close();
+                } catch (IOException ignored) {
+                    // shutting down
+                }
+            }
+        }
+
+        private void registerAssigned() throws IOException {
+            Session session;
+            while ((session = assigned.poll()) != null) {
+                session.key = session.channel.register(selector, SelectionKey.OP_READ, session);
+            }
+        }
+
+        private void handle(SelectionKey key) throws IOException {
+            if (!key.isValid()) {
+                return;
+            }
+            if (key.isAcceptable()) {
+                accept();
+                return;
+            }
+            Session session = (Session) key.attachment();
+            try {
+                if (key.isWritable()) {
+                    session.flush();
+                }
+                if (key.isValid() && key.isReadable()) {
+                    session.read(frame);
+                }
+            } catch (IOException e) {
+                session.close();
+            }
+        }
+    }
+
+    private final class Session {
+
+        private final SocketChannel channel;
+        private final Player player;
+        private ByteBuffer readBuffer = pool.acquire(READ_BUFFER_SIZE);
+        private ByteBuffer writeBuffer = pool.acquire(WRITE_BUFFER_SIZE);
+        private SelectionKey key;
+        /** Zero until the initiator asks for credits. */
+        private int grantBatch;
+        private int consumed;
+        private boolean closed;
+
+        Session(SocketChannel channel, Player player) {
+            this.channel = channel;
+            this.player = player;
+        }
+
+        void read(Frame frame) throws IOException {
+            int read = channel.read(readBuffer);
+            if (read < 0) {
+                close();
+                return;
+            }
+            readBuffer.flip();
+            while (codec.decode(readBuffer, frame)) {
+                if (!onMessage(frame)) {
+                    close();
+                    return;
+                }
+            }
+            readBuffer.compact();
+            if (!readBuffer.hasRemaining()) {
+                readBuffer.flip();
+                readBuffer = grow(readBuffer, readBuffer.capacity() * 2);
+            }
+            flush();
+        }
+
+        /**
+         * @return false if the initiator asked to stop
+         */
+        private boolean onMessage(Frame frame) {
+            if (frame.type() == MessageType.CREDIT) {
+                int granted = Math.min(frame.senderCounter(), window);
+                grantBatch = CreditWindow.grantBatch(granted);
+                grantCredits(granted);
+                return true;
+            }
+            player.incrementAndGetReceivedCount();
+            if (frame.type() == MessageType.STOP) {
+                return false;
+            }
+            int sentCount = FrameConnection.wireCounter(player.incrementAndGetSentCount());
+            if (frame.type() == MessageType.DELTA) {
+                // The initiator keeps the conversation; only our counter goes back
+                ensureWritable(codec.maxFramingLength());
+                codec.endFrame(writeBuffer, codec.beginFrame(writeBuffer, MessageType.DELTA, sentCount));
+            } else {
+                ensureWritable(frame.payloadLength() + 1 + Ascii.MAX_INT_LENGTH + codec.maxFramingLength());
+                int frameStart = codec.beginFrame(writeBuffer, MessageType.DATA, sentCount);
+                frame.copyPayloadTo(writeBuffer);
+                writeBuffer.put((byte) ' ');
+                Ascii.putInt(writeBuffer, sentCount);
+                codec.endFrame(writeBuffer, frameStart);
+            }
+            if (grantBatch > 0 && ++consumed == grantBatch) {
+                grantCredits(consumed);
+                consumed = 0;
+            }
+            return true;
+        }
+
+        /**
+         * Queues a CREDIT frame; it goes out with the next {@link #flush()}.
+         */
+        void grantCredits(int credits) {
+            ensureWritable(codec.maxFramingLength());
+            codec.endFrame(writeBuffer, codec.beginFrame(writeBuffer, MessageType.CREDIT, credits));
+        }
+
+        private void ensureWritable(int needed) {
+            if (writeBuffer.remaining() < needed) {
+                writeBuffer.flip();
+                writeBuffer = grow(writeBuffer, Math.max(writeBuffer.capacity() * 2, writeBuffer.limit() + needed));
+            }
+        }
+
+        /**
+         * Writes what the socket takes; with replies left over, reads pause until they drain.
+         */
+        void flush() throws IOException {
+            writeBuffer.flip();
+            channel.write(writeBuffer);
+            boolean pending = writeBuffer.hasRemaining();
+            writeBuffer.compact();
+            int interest = pending ? SelectionKey.OP_WRITE : SelectionKey.OP_READ;
+            if (key.interestOps() != interest) {
+                key.interestOps(interest);
+            }
+        }
+
+        void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            openConnections.decrementAndGet();
+            if (key != null) {
+                key.cancel();
+            }
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+                // already gone
+            }
+            pool.release(readBuffer);
+            pool.release(writeBuffer);
+        }
+
+        /**
+         * @param buffer in read mode and returned to the pool; the result is in write mode with the contents copied
+         */
+        private ByteBuffer grow(ByteBuffer buffer, int capacity) {
+            ByteBuffer grown = pool.acquire(capacity);
+            grown.put(buffer);
+            pool.release(buffer);
+            return grown;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.assignment.process.multiple;
+
+import com.assignment.codec.CodecType;
+import com.assignment.dto.Player;
+import com.assignment.journal.Journal;
+import com.assignment.shm.SharedMemoryChannel;
+import com.assignment.wait.WaitStrategyType;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * The responder role over {@link Transport#SHM}: it creates the shared-memory channel file the
+ * initiator then connects to, instead of listening on a socket.
+ */
+final class SharedMemoryResponder {
+
+    private SharedMemoryResponder() {
+    }
+
+    /**
+     * Creates the channel file with rings of {@code player.shm.capacity} bytes and answers the one
+     * initiator that connects to it.
+     */
+    static void respond(Player player, Endpoint endpoint, Rendezvous rendezvous, WaitStrategyType waitType,
+            CodecType codecType, int window, Journal journal, SocketTuning tuning) throws IOException {
+        Path path = endpoint.shmPath();
+        int capacity = Integer.getInteger(MultiProcessApp.SHM_CAPACITY_PROPERTY,
+                SharedMemoryChannel.DEFAULT_RING_CAPACITY);
+        System.out.println("[" + player.getName() + "] Listening on " + endpoint.describeListening() + "...");
+        try (FrameConnection connection = new FrameConnection(SharedMemoryChannel.create(path, capacity),
+                codecType.codec(), waitType.create(), journal, player.getName(), tuning)) {
+            rendezvous.signalReady(player, endpoint);
+            MessageResponder.respond(player, connection, window);
+        } catch (IOException e) {
+            System.err.println("[" + player.getName() + "] I/O Error: " + e.getMessage());
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.assignment.process.multiple;
+
+import java.io.IOException;
+import java.net.StandardSocketOptions;
+import java.nio.channels.NetworkChannel;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Socket options and the {@link FlushPolicy} for the socket transports, read from system properties.
+ * <p>
+ * {@code TCP_NODELAY} is on by default: the players exchange small frames and wait for each
+ * reply, which is the pattern where Nagle's algorithm and delayed ACKs hold a frame back for
+ * tens of milliseconds. Batching is left to the flush policy instead. Buffer sizes of 0 keep
+ * the operating system's defaults.
+ */
+public final class SocketTuning {
+
+    /** System property switching {@code TCP_NODELAY}; defaults to {@code true}. */
+    public static final String TCP_NODELAY_PROPERTY = "player.tcp.nodelay";
+    /** System property with {@code SO_SNDBUF} in bytes; 0 (default) keeps the OS default. */
+    public static final String SEND_BUFFER_PROPERTY = "player.tcp.sndbuf";
+    /** System property with {@code SO_RCVBUF} in bytes; 0 (default) keeps the OS default. */
+    public static final String RECEIVE_BUFFER_PROPERTY = "player.tcp.rcvbuf";
+    /** System property selecting the {@link FlushPolicy}; defaults to {@code immediate}. */
+    public static final String FLUSH_PROPERTY = "player.flush";
+    /** System property with the frames per write of the {@code count} policy; defaults to 16. */
+    public static final String FLUSH_BATCH_PROPERTY = "player.flush.batch";
+    /** System property with the microseconds a frame may wait under the {@code time} policy; defaults to 100. */
+    public static final String FLUSH_DELAY_PROPERTY = "player.flush.delay";
+
+    public static final int DEFAULT_FLUSH_BATCH = 16;
+    public static final long DEFAULT_FLUSH_DELAY_MICROS = 100;
+
+    /** No-delay sockets with OS buffer sizes, flushing every frame. */
+    public static final SocketTuning DEFAULTS = new SocketTuning(true, 0, 0, FlushPolicy.IMMEDIATE,
+            DEFAULT_FLUSH_BATCH, TimeUnit.MICROSECONDS.toNanos(DEFAULT_FLUSH_DELAY_MICROS));
+
+    private final boolean tcpNoDelay;
+    private final int sendBufferSize;
+    private final int receiveBufferSize;
+    private final FlushPolicy flushPolicy;
+    private final int flushBatch;
+    private final long flushDelayNanos;
+
+    public SocketTuning(boolean tcpNoDelay, int sendBufferSize, int receiveBufferSize, FlushPolicy flushPolicy,
+            int flushBatch, long flushDelayNanos) {
+        if (sendBufferSize < 0 || receiveBufferSize < 0) {
+            throw new IllegalArgumentException("Socket buffer sizes must not be negative: " + sendBufferSize
+                    + ", " + receiveBufferSize);
+        }
+        if (flushBatch < 1) {
+            throw new IllegalArgumentException("Flush batch must be positive: " + flushBatch);
+        }
+        if (flushDelayNanos < 0) {
+            throw new IllegalArgumentException("Flush delay must not be negative: " + flushDelayNanos);
+        }
+        this.tcpNoDelay = tcpNoDelay;
+        this.sendBufferSize = sendBufferSize;
+        this.receiveBufferSize = receiveBufferSize;
+        this.flushPolicy = flushPolicy;
+        this.flushBatch = flushBatch;
+        this.flushDelayNanos = flushDelayNanos;
+    }
+
+    public static SocketTuning fromSystemProperties() {
+        String noDelay = System.getProperty(TCP_NODELAY_PROPERTY);
+        return new SocketTuning(noDelay == null || Boolean.parseBoolean(noDelay),
+                Integer.getInteger(SEND_BUFFER_PROPERTY, 0),
+                Integer.getInteger(RECEIVE_BUFFER_PROPERTY, 0),
+                FlushPolicy.fromName(System.getProperty(FLUSH_PROPERTY, "immediate")),
+                Integer.getInteger(FLUSH_BATCH_PROPERTY, DEFAULT_FLUSH_BATCH),
+                TimeUnit.MICROSECONDS.toNanos(Long.getLong(FLUSH_DELAY_PROPERTY, DEFAULT_FLUSH_DELAY_MICROS)));
+    }
+
+    /**
+     * @return these socket options with a different flush policy
+     */
+    public SocketTuning withFlush(FlushPolicy policy, int batch, long delayNanos) {
+        return new SocketTuning(tcpNoDelay, sendBufferSize, receiveBufferSize, policy, batch, delayNanos);
+    }
+
+    /**
+     * Sets the socket options on {@code channel}; best called before it connects, so the
+     * buffer sizes shape the TCP window from the handshake on. {@code TCP_NODELAY} is skipped
+     * for Unix domain sockets, which have no Nagle delay to turn off.
+     *
+     * @return {@code channel}
+     */
+    public SocketChannel apply(SocketChannel channel) throws IOException {
+        if (channel.supportedOptions().contains(StandardSocketOptions.TCP_NODELAY)) {
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, tcpNoDelay);
+        }
+        if (sendBufferSize > 0) {
+            channel.setOption(StandardSocketOptions.SO_SNDBUF, sendBufferSize);
+        }
+        applyReceiveBuffer(channel);
+        return channel;
+    }
+
+    /**
+     * Sets the receive buffer on a listening channel, which accepted sockets inherit; windows
+     * above 64 KiB have to be negotiated before the connection exists.
+     */
+    public void applyReceiveBuffer(NetworkChannel channel) throws IOException {
+        if (receiveBufferSize > 0) {
+            channel.setOption(StandardSocketOptions.SO_RCVBUF, receiveBufferSize);
+        }
+    }
+
+    public boolean tcpNoDelay() {
+        return tcpNoDelay;
+    }
+
+    public int sendBufferSize() {
+        return sendBufferSize;
+    }
+
+    public int receiveBufferSize() {
+        return receiveBufferSize;
+    }
+
+    public FlushPolicy flushPolicy() {
+        return flushPolicy;
+    }
+
+    public int flushBatch() {
+        return flushBatch;
+    }
+
+    public long flushDelayNanos() {
+        return flushDelayNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "nodelay: " + tcpNoDelay + ", sndbuf: " + sendBufferSize + ", rcvbuf: " + receiveBufferSize
+                + ", flush: " + flushPolicy.optionName();
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.assignment.process.multiple;
+
+/**
+ * How the initiator and responder processes reach each other.
+ */
+public enum Transport {
+
+    /** Loopback or remote TCP socket. */
+    TCP,
+
+    /** Memory-mapped ring buffers; both processes must run on the same host. */
+    SHM,
+
+    /** Unix domain socket named by a file path; same host only, requires Java 16+. */
+    UNIX;
+
+    public static Transport fromName(String name) {
+        for (Transport transport : values()) {
+            if (transport.name().equalsIgnoreCase(name)) {
+                return transport;
+            }
+        }
+        throw new IllegalArgumentException("Unknown transport: " + name + " (expected 'tcp', 'shm' or 'unix')");
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.assignment.process.multiple;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.net.ProtocolFamily;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Unix domain socket channels for the {@link Transport#UNIX} transport.
+ * <p>
+ * {@code UnixDomainSocketAddress} and the protocol-family {@code open} methods arrived in
+ * Java 16, so they are looked up reflectively and the project still builds for Java 8.
+ * A Unix domain socket skips the TCP/IP stack entirely (no checksums, segmentation or ACKs)
+ * and is named by a file path, so it cannot clash with a port another program holds.
+ */
+public final class UnixDomainSockets {
+
+    private static final ProtocolFamily UNIX;
+    private static final MethodHandle ADDRESS_OF;
+    private static final MethodHandle OPEN_CHANNEL;
+    private static final MethodHandle OPEN_SERVER_CHANNEL;
+
+    static {
+        ProtocolFamily family = null;
+        MethodHandle addressOf = null;
+        MethodHandle openChannel = null;
+        MethodHandle openServerChannel = null;
+        try {
+            family = StandardProtocolFamily.valueOf("UNIX");
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            Class<?> addressClass = Class.forName("java.net.UnixDomainSocketAddress");
+            addressOf = lookup.findStatic(addressClass, "of", MethodType.methodType(addressClass, Path.class))
+                    .asType(MethodType.methodType(SocketAddress.class, Path.class));
+            openChannel = lookup.findStatic(SocketChannel.class, "open",
+                    MethodType.methodType(SocketChannel.class, ProtocolFamily.class));
+            openServerChannel = lookup.findStatic(ServerSocketChannel.class, "open",
+                    MethodType.methodType(ServerSocketChannel.class, ProtocolFamily.class));
+        } catch (IllegalArgumentException | ReflectiveOperationException e) {
+            // before Java 16: no Unix domain sockets
+            family = null;
+        }
+        UNIX = family;
+        ADDRESS_OF = addressOf;
+        OPEN_CHANNEL = openChannel;
+        OPEN_SERVER_CHANNEL = openServerChannel;
+    }
+
+    private UnixDomainSockets() {
+    }
+
+    public static boolean isSupported() {
+        return UNIX != null;
+    }
+
+    /**
+     * @return a socket path in the temporary directory
+     */
+    public static Path defaultPath(String name) {
+        return Paths.get(System.getProperty("java.io.tmpdir"), name + ".sock");
+    }
+
+    public static SocketAddress address(Path path) {
+        checkSupported();
+        try {
+            return (SocketAddress) ADDRESS_OF.invokeExact(path);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    /**
+     * Opens an unconnected Unix domain {@link SocketChannel}.
+     */
+    public static SocketChannel open() throws IOException {
+        checkSupported();
+        try {
+            return (SocketChannel) OPEN_CHANNEL.invokeExact(UNIX);
+        } catch (IOException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    /**
+     * Opens a Unix domain {@link ServerSocketChannel} bound to {@code path}, replacing a stale
+     * socket file left behind by a responder that did not shut down cleanly.
+     */
+    public static ServerSocketChannel bind(Path path) throws IOException {
+        checkSupported();
+        ServerSocketChannel channel;
+        try {
+            channel = (ServerSocketChannel) OPEN_SERVER_CHANNEL.invokeExact(UNIX);
+        } catch (IOException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+        try {
+            Files.deleteIfExists(path);
+            channel.bind(address(path));
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        return channel;
+    }
+
+    private static void checkSupported() {
+        if (!isSupported()) {
+            throw new UnsupportedOperationException("Unix domain sockets require Java 16 or later (running "
+                    + System.getProperty("java.version") + ")");
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable e) {
+        if (e instanceof RuntimeException) {
+            return (RuntimeException) e;
+        }
+        if (e instanceof Error) {
+            throw (Error) e;
+        }
+        return new IllegalStateException("Unix domain socket call failed", e);
+    }
+}
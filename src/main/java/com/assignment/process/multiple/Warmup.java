@@ -0,0 +1,120 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.assignment.process.multiple;
+
+import com.assignment.codec.CodecType;
+import com.assignment.codec.Frame;
+import com.assignment.shm.SharedMemoryChannel;
+import com.assignment.wait.WaitStrategyType;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.channels.ByteChannel;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Runs the message hot path over a private in-process connection before the real exchange.
+ * <p>
+ * Both sides of a throwaway connection over the configured transport exchange ten-hop
+ * conversations the way the players do, growing the payload by one counter per hop, so by
+ * the time the first real ping goes out the JIT has compiled the framing, the channel calls
+ * and the wait strategy instead of interpreting them. Nothing is counted, logged or
+ * journaled, and the responder warms up before it signals readiness.
+ */
+final class Warmup {
+
+    private static final byte[] PING = "ping".getBytes(StandardCharsets.US_ASCII);
+    private static final int CONVERSATION_LENGTH = 10;
+
+    private Warmup() {
+    }
+
+    /**
+     * @return elapsed nanoseconds
+     */
+    static long run(Transport transport, CodecType codecType, WaitStrategyType waitType, int roundTrips)
+            throws IOException {
+        long start = System.nanoTime();
+        Path file = null;
+        ByteChannel initiatorChannel;
+        ByteChannel responderChannel;
+        if (transport == Transport.SHM) {
+            file = Files.createTempFile("player-warmup", ".shm");
+            responderChannel = SharedMemoryChannel.create(file, SharedMemoryChannel.DEFAULT_RING_CAPACITY);
+            initiatorChannel = SharedMemoryChannel.connect(file);
+        } else if (transport == Transport.UNIX) {
+            file = UnixDomainSockets.defaultPath("player-warmup-" + System.nanoTime());
+            try (ServerSocketChannel server = UnixDomainSockets.bind(file)) {
+                SocketChannel channel = UnixDomainSockets.open();
+                channel.connect(UnixDomainSockets.address(file));
+                initiatorChannel = channel;
+                responderChannel = server.accept();
+            }
+        } else {
+            try (ServerSocketChannel server = ServerSocketChannel.open()) {
+                server.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+                initiatorChannel = SocketTuning.DEFAULTS.apply(SocketChannel.open(server.getLocalAddress()));
+                responderChannel = SocketTuning.DEFAULTS.apply(server.accept());
+            }
+        }
+
+        FrameConnection responder = new FrameConnection(responderChannel, codecType.codec(), waitType.create());
+        Thread echo = new Thread(() -> {
+            Frame frame = new Frame();
+            try (FrameConnection connection = responder) {
+                while (connection.receive(frame)) {
+                    connection.send(frame, frame.senderCounter());
+                }
+            } catch (IOException e) {
+                // initiator closed
+            }
+        }, "warmup-responder");
+        echo.setDaemon(true);
+        echo.start();
+
+        try (FrameConnection initiator = new FrameConnection(initiatorChannel, codecType.codec(),
+                waitType.create())) {
+            Frame reply = new Frame();
+            for (int i = 0; i < roundTrips; i++) {
+                int hop = i % CONVERSATION_LENGTH + 1;
+                if (hop == 1) {
+                    initiator.send(PING, hop);
+                } else {
+                    initiator.send(reply, hop);
+                }
+                if (!initiator.receive(reply)) {
+                    throw new IOException("Warmup responder closed the connection");
+                }
+            }
+        } finally {
+            try {
+                echo.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (file != null) {
+                Files.deleteIfExists(file);
+            }
+        }
+        return System.nanoTime() - start;
+    }
+}
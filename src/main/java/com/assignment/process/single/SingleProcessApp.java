@@ -17,52 +17,114 @@
 
  package com.assignment.process.single;
 
+ import com.assignment.channel.ChannelType;
+ import com.assignment.channel.MessageChannel;
+ import com.assignment.codec.MessageType;
  import com.assignment.dto.Player;
+ import com.assignment.flow.CreditWindow;
+ import com.assignment.journal.Journal;
+ import com.assignment.journal.Journals;
+ import com.assignment.journal.NoOpJournal;
+ import com.assignment.message.Conversation;
+ import com.assignment.metrics.MetricsExporter;
+ import com.assignment.wait.WaitStrategy;
+ import com.assignment.wait.WaitStrategyType;
  
- import java.util.concurrent.BlockingQueue;
- import java.util.concurrent.LinkedBlockingQueue;
+ import java.io.IOException;
+ import java.util.ArrayList;
+ import java.util.List;
  import java.util.concurrent.TimeUnit;
  
  public class SingleProcessApp {
  
      public static final int MESSAGE_LIMIT = 10;
      private static final long POLL_TIMEOUT_MS = 100;
+     private static final int CHANNEL_CAPACITY = 16;
+     /** System property selecting the {@link ChannelType}: {@code queue} (default) or {@code ring}. */
+     public static final String CHANNEL_PROPERTY = "player.channel";
+     /** System property selecting the receive-side {@link WaitStrategyType}; defaults to {@code block}. */
+     public static final String WAIT_PROPERTY = "player.wait";
+     /**
+      * System property with the number of messages the initiator may have in flight. The default of 1 is the
+      * original stop-and-wait exchange; larger windows run the pipelined exchange.
+      */
+     public static final String WINDOW_PROPERTY = "player.window";
  
-     public static void main(String[] args) {
+     // The metrics exporter is a resource only to be closed; javac warns about any unreferenced one
+     @SuppressWarnings("try")
+     public static void main(String[] args) throws IOException {
          // Create players (using the simple POJO version)
          Player initiator = new Player("Initiator");
          Player responder = new Player("Responder");
  
-         // Create BlockingQueues for String communication
-         BlockingQueue<String> toResponderQueue = new LinkedBlockingQueue<>();
-         BlockingQueue<String> toInitiatorQueue = new LinkedBlockingQueue<>();
+         try (MetricsExporter ignored = MetricsExporter.fromSystemProperties(initiator.metrics(),
+                 responder.metrics());
+                 Journal journal = Journals.fromSystemProperties("single-process")) {
+             runSimulation(initiator, responder, journal);
+         }
+     }
+ 
+     private static void runSimulation(Player initiator, Player responder, Journal journal) {
+         // Pick the channels and the exchange
+         ChannelType channelType = ChannelType.fromName(System.getProperty(CHANNEL_PROPERTY, "queue"));
+         WaitStrategyType waitType = WaitStrategyType.fromName(System.getProperty(WAIT_PROPERTY, "block"));
+         int window = Integer.getInteger(WINDOW_PROPERTY, 1);
+ 
+         if (window > 1) {
+             int capacity = Math.max(CHANNEL_CAPACITY, window);
+             MessageChannel<String> toResponderQueue = channelType.create(capacity, waitType.create());
+             MessageChannel<String> toInitiatorQueue = channelType.create(capacity, waitType.create());
+             System.out.println("--- Starting Pipelined Simulation (channel: " + channelType.name().toLowerCase()
+                     + ", wait: " + waitType.optionName() + ", window: " + window + ") ---");
+             try {
+                 exchangePipelined(initiator, responder, toResponderQueue, toInitiatorQueue, window, waitType.create(),
+                         journal);
+             } catch (InterruptedException e) {
+                 System.err.println("Simulation interrupted.");
+                 Thread.currentThread().interrupt();
+             }
+             printFinalStats(initiator, responder);
+             return;
+         }
  
-         System.out.println("--- Starting Sequential Simulation with String Queues and Poll ---");
+         System.out.println("--- Starting Sequential Simulation with Delta-Encoded Messages and Poll (channel: "
+                 + channelType.name().toLowerCase() + ", wait: " + waitType.optionName() + ") ---");
  
+         MessageChannel<Conversation> toResponderQueue = channelType.create(CHANNEL_CAPACITY, waitType.create());
+         MessageChannel<Conversation> toInitiatorQueue = channelType.create(CHANNEL_CAPACITY, waitType.create());
          boolean initiatorTurn = true; // Start with initiator's turn to send
-         String messageToSend = null; // Holds the message content to be sent
+         Conversation messageToSend = null; // Holds the message to be sent, one counter per hop
  
          try {
              // *** Initial Send by Initiator ***
-             messageToSend = "ping " + initiator.incrementAndGetSentCount();
-             System.out.println("[" + initiator.getName() + "] Sent: " + messageToSend + " (Total Sent: "
-                     + initiator.getSentCount() + ")");
+             messageToSend = Conversation.start("ping", initiator.incrementAndGetSentCount());
+             if (initiator.logSink().isLoggable()) {
+                 initiator.logSink().log("[" + initiator.getName() + "] Sent: " + messageToSend
+                         + " (Total Sent: " + initiator.getSentCount() + ")");
+             }
+             journal(journal, Journal.Direction.SENT, initiator, messageToSend);
              toResponderQueue.put(messageToSend);
              initiatorTurn = false; // Now it's responder's turn to receive/reply
  
              while (initiator.getReceivedCount() < MESSAGE_LIMIT) {
                  if (initiatorTurn) {
                      // *** Initiator's Turn to Receive/Send ***
-                     System.out.println("[" + initiator.getName() + "]: Waiting for reply...");
-                     String contentToInitiator = toInitiatorQueue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                     if (initiator.logSink().isLoggable()) {
+                         initiator.logSink().log("[" + initiator.getName() + "]: Waiting for reply...");
+                     }
+                     Conversation contentToInitiator = toInitiatorQueue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
  
                      if (contentToInitiator != null) {
+                         journal(journal, Journal.Direction.RECEIVED, initiator, contentToInitiator);
                          initiator.logMessageReceived(contentToInitiator);
  
                          if (initiator.getReceivedCount() < MESSAGE_LIMIT && initiator.getSentCount() < MESSAGE_LIMIT) {
-                             messageToSend = contentToInitiator + " " + initiator.incrementAndGetSentCount();
-                             System.out.println("[" + initiator.getName() + "] Sent: " + messageToSend + " (Total Sent: "
-                                     + initiator.getSentCount() + ")");
+                             messageToSend = contentToInitiator.append(initiator.incrementAndGetSentCount());
+                             if (initiator.logSink().isLoggable()) {
+                                 initiator.logSink().log("[" + initiator.getName() + "] Sent: " + messageToSend
+                                         + " (Total Sent: " + initiator.getSentCount() + ")");
+                             }
+                             journal(journal, Journal.Direction.SENT, initiator, messageToSend);
                              toResponderQueue.put(messageToSend);
                              initiatorTurn = false; // Switch turn
                          } else {
@@ -71,22 +133,30 @@
                              initiatorTurn = false; // Switch turn
                          }
                      } else {
-                         System.out.println("[" + initiator.getName() + "]: Poll timed out waiting for reply.");
+                         if (initiator.logSink().isLoggable()) {
+                             initiator.logSink().log("[" + initiator.getName() + "]: Poll timed out waiting for reply.");
+                         }
                          // Stay on initiator's turn to try polling again
                      }
  
                  } else {
                      // *** Responder's Turn to Receive/Send ***
-                     System.out.println("[" + responder.getName() + "]: Waiting for message...");
-                     String contentToResponder = toResponderQueue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                     if (responder.logSink().isLoggable()) {
+                         responder.logSink().log("[" + responder.getName() + "]: Waiting for message...");
+                     }
+                     Conversation contentToResponder = toResponderQueue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
  
                      if (contentToResponder != null) {
+                         journal(journal, Journal.Direction.RECEIVED, responder, contentToResponder);
                          responder.logMessageReceived(contentToResponder);
  
                          if (responder.getSentCount() < MESSAGE_LIMIT) {
-                             messageToSend = contentToResponder + " " + responder.incrementAndGetSentCount();
-                             System.out.println("[" + responder.getName() + "] Sent: " + messageToSend + " (Total Sent: "
-                                     + responder.getSentCount() + ")");
+                             messageToSend = contentToResponder.append(responder.incrementAndGetSentCount());
+                             if (responder.logSink().isLoggable()) {
+                                 responder.logSink().log("[" + responder.getName() + "] Sent: " + messageToSend
+                                         + " (Total Sent: " + responder.getSentCount() + ")");
+                             }
+                             journal(journal, Journal.Direction.SENT, responder, messageToSend);
                              toInitiatorQueue.put(messageToSend);
                              initiatorTurn = true; // Switch turn
                          } else {
@@ -95,7 +165,9 @@
                              initiatorTurn = true; // Switch turn
                          }
                      } else {
-                         System.out.println("[" + responder.getName() + "]: Poll timed out waiting for message.");
+                         if (responder.logSink().isLoggable()) {
+                             responder.logSink().log("[" + responder.getName() + "]: Poll timed out waiting for message.");
+                         }
                          // Stay on responder's turn to try polling again
                      }
                  }
@@ -105,12 +177,124 @@
              Thread.currentThread().interrupt(); //
          }
  
+         printFinalStats(initiator, responder);
+     }
+ 
+     /**
+      * Pipelined exchange: the responder runs on its own thread and the initiator keeps up to
+      * {@code window} independent pings in flight, spending a {@link CreditWindow} credit on each.
+      * A credit only comes back once the initiator has consumed the ping's reply, so at most
+      * {@code window} pings and replies together are ever waiting in the two channels, and a slow
+      * initiator holds the responder back as much as a slow responder holds back the initiator.
+      *
+      * @return the replies in the order the initiator received them
+      */
+     static List<String> exchangePipelined(Player initiator, Player responder, MessageChannel<String> toResponderQueue,
+             MessageChannel<String> toInitiatorQueue, int window, WaitStrategy creditWait) throws InterruptedException {
+         return exchangePipelined(initiator, responder, toResponderQueue, toInitiatorQueue, window, creditWait,
+                 NoOpJournal.INSTANCE);
+     }
+ 
+     static List<String> exchangePipelined(Player initiator, Player responder, MessageChannel<String> toResponderQueue,
+             MessageChannel<String> toInitiatorQueue, int window, WaitStrategy creditWait, Journal journal)
+             throws InterruptedException {
+         CreditWindow credits = new CreditWindow(window, creditWait);
+ 
+         Thread responderThread = new Thread(() -> {
+             try {
+                 while (responder.getReceivedCount() < MESSAGE_LIMIT) {
+                     String contentToResponder = toResponderQueue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                     if (contentToResponder == null) {
+                         continue;
+                     }
+                     journal.append(Journal.Direction.RECEIVED, responder.getName(), MessageType.DATA,
+                             trailingCounter(contentToResponder), contentToResponder);
+                     responder.logMessageReceived(contentToResponder);
+ 
+                     long sentCount = responder.incrementAndGetSentCount();
+                     String reply = contentToResponder + " " + sentCount;
+                     if (responder.logSink().isLoggable()) {
+                         responder.logSink().log("[" + responder.getName() + "] Sent: " + reply + " (Total Sent: "
+                                 + responder.getSentCount() + ")");
+                     }
+                     journal.append(Journal.Direction.SENT, responder.getName(), MessageType.DATA, sentCount, reply);
+                     toInitiatorQueue.put(reply);
+                 }
+             } catch (InterruptedException e) {
+                 Thread.currentThread().interrupt();
+             }
+         }, responder.getName());
+         responderThread.start();
+ 
+         List<String> replies = new ArrayList<>(MESSAGE_LIMIT);
+         try {
+             while (initiator.getReceivedCount() < MESSAGE_LIMIT) {
+                 // Fill the window, then wait for a reply
+                 while (initiator.getSentCount() < MESSAGE_LIMIT && credits.tryAcquire()) {
+                     long sentCount = initiator.incrementAndGetSentCount();
+                     String messageToSend = "ping " + sentCount;
+                     if (initiator.logSink().isLoggable()) {
+                         initiator.logSink().log("[" + initiator.getName() + "] Sent: " + messageToSend + " (Total Sent: "
+                                 + initiator.getSentCount() + ", In Flight: "
+                                 + (initiator.getSentCount() - initiator.getReceivedCount()) + ")");
+                     }
+                     journal.append(Journal.Direction.SENT, initiator.getName(), MessageType.DATA, sentCount,
+                             messageToSend);
+                     toResponderQueue.put(messageToSend);
+                 }
+ 
+                 String contentToInitiator = toInitiatorQueue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                 if (contentToInitiator != null) {
+                     journal.append(Journal.Direction.RECEIVED, initiator.getName(), MessageType.DATA,
+                             trailingCounter(contentToInitiator), contentToInitiator);
+                     initiator.logMessageReceived(contentToInitiator);
+                     replies.add(contentToInitiator);
+                     credits.grant(1);
+                 }
+             }
+         } finally {
+             responderThread.interrupt();
+             responderThread.join();
+         }
+         return replies;
+     }
+ 
+     /**
+      * Journals a hand-off: the opening message in full, every later one as the counter it adds.
+      */
+     private static void journal(Journal journal, Journal.Direction direction, Player player, Conversation message) {
+         if (message.length() == 1) {
+             journal.append(direction, player.getName(), MessageType.DATA, message.counter(), message.toString());
+         } else {
+             journal.append(direction, player.getName(), MessageType.DELTA, message.counter(), "");
+         }
+     }
+ 
+     /**
+      * @return the sender's count that ends a text message, without allocating
+      */
+     private static long trailingCounter(String message) {
+         long counter = 0;
+         long scale = 1;
+         for (int i = message.length() - 1; i >= 0 && Character.isDigit(message.charAt(i)); i--) {
+             counter += (message.charAt(i) - '0') * scale;
+             scale *= 10;
+         }
+         return counter;
+     }
+ 
+     private static void printFinalStats(Player initiator, Player responder) {
          System.out.println("\n--- Simulation Finished ---");
          System.out.println("Final Stats:");
          System.out.println("  Initiator Sent: " + initiator.getSentCount());
          System.out.println("  Initiator Received: " + initiator.getReceivedCount());
          System.out.println("  Responder Sent: " + responder.getSentCount());
          System.out.println("  Responder Received: " + responder.getReceivedCount());
+         System.out.println("  Dropped Log Events: " + initiator.logSink().droppedEvents());
+         if (initiator.metrics().isEnabled()) {
+             System.out.println("  Initiator Round Trip: " + initiator.metrics().getRoundTrip());
+             System.out.println("  Responder Service Time: " + responder.metrics().getServiceTime());
+         }
          System.out.println("-----------------------------");
      }
  }
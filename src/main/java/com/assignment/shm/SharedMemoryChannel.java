@@ -0,0 +1,264 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.assignment.shm;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.net.BindException;
+import java.net.ConnectException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.ByteChannel;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+
+/**
+ * Byte channel between two processes on the same host, backed by a memory-mapped file.
+ * <p>
+ * The file holds a control block followed by two {@link SharedMemoryRing}s, one per
+ * direction:
+ * <pre>
+ *   +0    int magic              written last by the creator; readers wait for it
+ *   +4    int ringCapacity
+ *   +8    int creatorClosed
+ *   +12   int connectorClosed
+ *   +64   ring: connector -> creator
+ *   +..   ring: creator -> connector
+ * </pre>
+ * The responder {@link #create creates} the file and the initiator {@link #connect connects}
+ * to it, mirroring a server socket and a client socket. The creator holds a lock on the
+ * control block until it closes; the operating system drops the lock if the creator dies,
+ * so a file left behind by a crashed responder is refused rather than connected to. Reads and writes never block:
+ * they return 0 when the ring is empty or full, and callers idle with a wait strategy.
+ * A read returns -1 once the peer has closed and everything it wrote has been consumed.
+ */
+public final class SharedMemoryChannel implements ByteChannel {
+
+    /** Directory used when {@code /dev/shm} (a RAM-backed filesystem on Linux) is available. */
+    public static final String SHM_DIRECTORY = "/dev/shm";
+    public static final int DEFAULT_RING_CAPACITY = 64 * 1024;
+
+    private static final int MAGIC = 0x504C4159; // "PLAY"
+    private static final int MAGIC_OFFSET = 0;
+    private static final int CAPACITY_OFFSET = 4;
+    private static final int CREATOR_CLOSED_OFFSET = 8;
+    private static final int CONNECTOR_CLOSED_OFFSET = 12;
+    private static final int CONTROL_LENGTH = 64;
+
+    private final Path path;
+    private final boolean creator;
+    /** The creator's lock on the control block, which tells connectors it is alive; null for them. */
+    private final FileLock creatorLock;
+    /** Identity of the file the creator made, so it never removes a successor's; null for connectors. */
+    private final Object fileKey;
+    /** Kept reachable so the mapping stays valid for the lifetime of the channel. */
+    private final MappedByteBuffer mapped;
+    private final long controlAddress;
+    private final SharedMemoryRing inbound;
+    private final SharedMemoryRing outbound;
+    private boolean open = true;
+
+    private SharedMemoryChannel(Path path, FileLock creatorLock, Object fileKey, MappedByteBuffer mapped,
+            int ringCapacity) {
+        this.path = path;
+        this.creator = creatorLock != null;
+        this.creatorLock = creatorLock;
+        this.fileKey = fileKey;
+        this.mapped = mapped;
+        this.controlAddress = UnsafeAccess.address(mapped);
+        SharedMemoryRing toCreator = new SharedMemoryRing(mapped, CONTROL_LENGTH, ringCapacity);
+        SharedMemoryRing toConnector = new SharedMemoryRing(mapped,
+                CONTROL_LENGTH + SharedMemoryRing.length(ringCapacity), ringCapacity);
+        this.inbound = creator ? toCreator : toConnector;
+        this.outbound = creator ? toConnector : toCreator;
+    }
+
+    /**
+     * @return a file under {@code /dev/shm} if it exists, otherwise under the temp directory
+     */
+    public static Path defaultPath(String name) {
+        File shm = new File(SHM_DIRECTORY);
+        return shm.isDirectory() ? Paths.get(SHM_DIRECTORY, name) : Paths.get(System.getProperty("java.io.tmpdir"), name);
+    }
+
+    /**
+     * Creates (replacing any stale file) and maps a fresh channel file. Used by the responder.
+     *
+     * @throws BindException if a running responder still serves a channel at {@code path}
+     */
+    public static SharedMemoryChannel create(Path path, int ringCapacity) throws IOException {
+        if (Files.exists(path)) {
+            try (RandomAccessFile existing = new RandomAccessFile(path.toFile(), "rw")) {
+                if (existing.length() >= CONTROL_LENGTH && creatorAlive(existing.getChannel())) {
+                    throw new BindException("Shared-memory channel at " + path + " is in use by a running responder");
+                }
+            }
+        }
+        Files.deleteIfExists(path);
+        long length = fileLength(ringCapacity);
+        // Left open: closing it would release the lock
+        RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw");
+        try {
+            file.setLength(length);
+            FileLock lock = file.getChannel().lock(0, CONTROL_LENGTH, false);
+            MappedByteBuffer mapped = file.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, length);
+            mapped.order(ByteOrder.nativeOrder());
+            Object fileKey = Files.readAttributes(path, BasicFileAttributes.class).fileKey();
+            SharedMemoryChannel channel = new SharedMemoryChannel(path, lock, fileKey, mapped, ringCapacity);
+            UnsafeAccess.putInt(channel.controlAddress + CAPACITY_OFFSET, ringCapacity);
+            UnsafeAccess.putOrderedInt(channel.controlAddress + MAGIC_OFFSET, MAGIC);
+            return channel;
+        } catch (IOException | RuntimeException e) {
+            file.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Maps a channel file created by {@link #create}. Used by the initiator.
+     *
+     * @throws ConnectException if no initialised channel file exists at {@code path}, or its
+     *         creator has exited without removing it
+     */
+    public static SharedMemoryChannel connect(Path path) throws IOException {
+        if (!Files.exists(path)) {
+            throw new ConnectException("No shared-memory channel at " + path);
+        }
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            if (file.length() < CONTROL_LENGTH) {
+                throw new ConnectException("Shared-memory channel at " + path + " is not initialised");
+            }
+            MappedByteBuffer control = file.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, CONTROL_LENGTH);
+            control.order(ByteOrder.nativeOrder());
+            if (UnsafeAccess.getIntVolatile(UnsafeAccess.address(control) + MAGIC_OFFSET) != MAGIC) {
+                throw new ConnectException("Shared-memory channel at " + path + " is not initialised");
+            }
+            if (!creatorAlive(file.getChannel())) {
+                throw new ConnectException("Shared-memory channel at " + path + " was left by a responder that exited");
+            }
+            int ringCapacity = UnsafeAccess.getInt(UnsafeAccess.address(control) + CAPACITY_OFFSET);
+            long length = fileLength(ringCapacity);
+            if (file.length() < length) {
+                throw new ConnectException("Shared-memory channel at " + path + " is truncated");
+            }
+            MappedByteBuffer mapped = file.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, length);
+            mapped.order(ByteOrder.nativeOrder());
+            return new SharedMemoryChannel(path, null, null, mapped, ringCapacity);
+        }
+    }
+
+    /**
+     * @return whether some process, or this JVM, holds the creator's lock on the control block
+     */
+    private static boolean creatorAlive(FileChannel file) throws IOException {
+        try (FileLock probe = file.tryLock(0, CONTROL_LENGTH, true)) {
+            return probe == null;
+        } catch (OverlappingFileLockException e) {
+            return true;
+        }
+    }
+
+    private static long fileLength(int ringCapacity) {
+        return CONTROL_LENGTH + 2L * SharedMemoryRing.length(ringCapacity);
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    @Override
+    public int read(ByteBuffer dst) throws IOException {
+        ensureOpen();
+        int read = inbound.read(dst);
+        if (read == 0 && dst.hasRemaining() && peerClosed()) {
+            // Re-check: the peer may have written its last bytes just before closing
+            read = inbound.read(dst);
+            return read == 0 ? -1 : read;
+        }
+        return read;
+    }
+
+    @Override
+    public int write(ByteBuffer src) throws IOException {
+        ensureOpen();
+        if (peerClosed()) {
+            throw new IOException("Peer closed the shared-memory channel");
+        }
+        return outbound.write(src);
+    }
+
+    @Override
+    public boolean isOpen() {
+        return open;
+    }
+
+    /**
+     * Marks this side closed. The creator also removes the file unless it has been replaced
+     * since; the peer's existing mapping stays valid until it closes too.
+     */
+    @Override
+    public void close() throws IOException {
+        if (!open) {
+            return;
+        }
+        open = false;
+        UnsafeAccess.putIntVolatile(controlAddress + (creator ? CREATOR_CLOSED_OFFSET : CONNECTOR_CLOSED_OFFSET), 1);
+        if (creator) {
+            try {
+                if (stillOurFile()) {
+                    Files.deleteIfExists(path);
+                }
+            } finally {
+                creatorLock.channel().close();
+            }
+        }
+    }
+
+    /**
+     * @return whether {@code path} still names the file this creator made; true where the file
+     *         system has no file keys to tell
+     */
+    private boolean stillOurFile() throws IOException {
+        if (fileKey == null) {
+            return true;
+        }
+        try {
+            return fileKey.equals(Files.readAttributes(path, BasicFileAttributes.class).fileKey());
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+    }
+
+    private boolean peerClosed() {
+        return UnsafeAccess.getIntVolatile(controlAddress + (creator ? CONNECTOR_CLOSED_OFFSET : CREATOR_CLOSED_OFFSET)) != 0;
+    }
+
+    private void ensureOpen() throws ClosedChannelException {
+        if (!open) {
+            throw new ClosedChannelException();
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.assignment.shm;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Single-producer/single-consumer byte ring laid out in shared memory:
+ * <pre>
+ *   +0    long tail   total bytes written; owned by the producer
+ *   +64   long head   total bytes read; owned by the consumer
+ *   +128  byte[capacity] data
+ * </pre>
+ * The producer copies bytes into the data area and then publishes them with an ordered
+ * (release) store of {@code tail}; the consumer loads {@code tail} with volatile (acquire)
+ * semantics before copying them out, and frees space the same way through {@code head}.
+ * Each index sits on its own cache line. Capacity must be a power of two.
+ */
+final class SharedMemoryRing {
+
+    static final int TAIL_OFFSET = 0;
+    static final int HEAD_OFFSET = 64;
+    static final int HEADER_LENGTH = 128;
+
+    private final long tailAddress;
+    private final long headAddress;
+    private final int capacity;
+    private final int mask;
+    /** Private views over the data area so copies never move the shared buffer's position. */
+    private final ByteBuffer writeView;
+    private final ByteBuffer readView;
+
+    SharedMemoryRing(ByteBuffer region, int offset, int capacity) {
+        if (Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Ring capacity must be a power of two: " + capacity);
+        }
+        long base = UnsafeAccess.address(region) + offset;
+        this.tailAddress = base + TAIL_OFFSET;
+        this.headAddress = base + HEAD_OFFSET;
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        ByteBuffer data = region.duplicate();
+        data.limit(offset + HEADER_LENGTH + capacity).position(offset + HEADER_LENGTH);
+        this.writeView = data.slice();
+        this.readView = data.slice();
+    }
+
+    static int length(int capacity) {
+        return HEADER_LENGTH + capacity;
+    }
+
+    /**
+     * Copies as many bytes of {@code src} as fit.
+     *
+     * @return bytes written, 0 if the ring is full
+     */
+    int write(ByteBuffer src) {
+        long tail = UnsafeAccess.getLong(tailAddress);
+        long head = UnsafeAccess.getLongVolatile(headAddress);
+        int count = Math.min(capacity - (int) (tail - head), src.remaining());
+        if (count == 0) {
+            return 0;
+        }
+        int index = (int) tail & mask;
+        int first = Math.min(count, capacity - index);
+        int srcLimit = src.limit();
+        src.limit(src.position() + first);
+        writeView.clear();
+        writeView.position(index);
+        writeView.put(src);
+        if (count > first) {
+            src.limit(src.position() + count - first);
+            writeView.clear();
+            writeView.put(src);
+        }
+        src.limit(srcLimit);
+        UnsafeAccess.putOrderedLong(tailAddress, tail + count);
+        return count;
+    }
+
+    /**
+     * Copies as many available bytes as fit into {@code dst}.
+     *
+     * @return bytes read, 0 if the ring is empty
+     */
+    int read(ByteBuffer dst) {
+        long head = UnsafeAccess.getLong(headAddress);
+        long tail = UnsafeAccess.getLongVolatile(tailAddress);
+        int count = Math.min((int) (tail - head), dst.remaining());
+        if (count == 0) {
+            return 0;
+        }
+        int index = (int) head & mask;
+        int first = Math.min(count, capacity - index);
+        readView.limit(index + first).position(index);
+        dst.put(readView);
+        if (count > first) {
+            readView.limit(count - first).position(0);
+            dst.put(readView);
+        }
+        UnsafeAccess.putOrderedLong(headAddress, head + count);
+        return count;
+    }
+
+    boolean isEmpty() {
+        return UnsafeAccess.getLongVolatile(tailAddress) == UnsafeAccess.getLong(headAddress);
+    }
+}
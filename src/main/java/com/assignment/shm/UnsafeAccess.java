@@ -0,0 +1,165 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.assignment.shm;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+
+/**
+ * Ordered and volatile accesses on off-heap memory, which plain {@link ByteBuffer} methods do
+ * not offer on Java 8.
+ * <p>
+ * They go through {@code sun.misc.Unsafe}, looked up reflectively and held in constant method
+ * handles that the JIT inlines like direct calls. Naming that class in source makes javac warn
+ * about internal proprietary API, a warning {@code @SuppressWarnings} cannot silence.
+ */
+final class UnsafeAccess {
+
+    private static final MethodHandle GET_INT;
+    private static final MethodHandle PUT_INT;
+    private static final MethodHandle GET_INT_VOLATILE;
+    private static final MethodHandle PUT_INT_VOLATILE;
+    private static final MethodHandle PUT_ORDERED_INT;
+    private static final MethodHandle GET_LONG;
+    private static final MethodHandle GET_LONG_VOLATILE;
+    private static final MethodHandle PUT_ORDERED_LONG;
+    private static final long BUFFER_ADDRESS_OFFSET;
+    private static final MethodHandle GET_BUFFER_ADDRESS;
+
+    static {
+        try {
+            Field theUnsafe = Class.forName("sun.misc.Unsafe").getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            Object unsafe = theUnsafe.get(null);
+            GET_INT = method(unsafe, "getInt", long.class);
+            PUT_INT = method(unsafe, "putInt", long.class, int.class);
+            GET_INT_VOLATILE = absolute(method(unsafe, "getIntVolatile", Object.class, long.class));
+            PUT_INT_VOLATILE = absolute(method(unsafe, "putIntVolatile", Object.class, long.class, int.class));
+            PUT_ORDERED_INT = absolute(method(unsafe, "putOrderedInt", Object.class, long.class, int.class));
+            GET_LONG = method(unsafe, "getLong", long.class);
+            GET_LONG_VOLATILE = absolute(method(unsafe, "getLongVolatile", Object.class, long.class));
+            PUT_ORDERED_LONG = absolute(method(unsafe, "putOrderedLong", Object.class, long.class, long.class));
+            BUFFER_ADDRESS_OFFSET = (long) method(unsafe, "objectFieldOffset", Field.class)
+                    .invokeExact(Buffer.class.getDeclaredField("address"));
+            GET_BUFFER_ADDRESS = method(unsafe, "getLong", Object.class, long.class);
+        } catch (Throwable e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private UnsafeAccess() {
+    }
+
+    private static MethodHandle method(Object unsafe, String name, Class<?>... parameters)
+            throws ReflectiveOperationException {
+        return MethodHandles.lookup().unreflect(unsafe.getClass().getMethod(name, parameters)).bindTo(unsafe);
+    }
+
+    /**
+     * @return {@code handle} with a null base object, so its offset argument is an absolute address
+     */
+    private static MethodHandle absolute(MethodHandle handle) {
+        return MethodHandles.insertArguments(handle, 0, (Object) null);
+    }
+
+    /**
+     * @return the native address of a direct (or mapped) buffer's first byte
+     */
+    static long address(ByteBuffer directBuffer) {
+        if (!directBuffer.isDirect()) {
+            throw new IllegalArgumentException("Buffer must be direct");
+        }
+        try {
+            return (long) GET_BUFFER_ADDRESS.invokeExact((Object) directBuffer, BUFFER_ADDRESS_OFFSET);
+        } catch (Throwable e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    static int getInt(long address) {
+        try {
+            return (int) GET_INT.invokeExact(address);
+        } catch (Throwable e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    static void putInt(long address, int value) {
+        try {
+            PUT_INT.invokeExact(address, value);
+        } catch (Throwable e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    static int getIntVolatile(long address) {
+        try {
+            return (int) GET_INT_VOLATILE.invokeExact(address);
+        } catch (Throwable e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    static void putIntVolatile(long address, int value) {
+        try {
+            PUT_INT_VOLATILE.invokeExact(address, value);
+        } catch (Throwable e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    /**
+     * Release store: earlier writes are visible to whoever observes this one.
+     */
+    static void putOrderedInt(long address, int value) {
+        try {
+            PUT_ORDERED_INT.invokeExact(address, value);
+        } catch (Throwable e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    static long getLong(long address) {
+        try {
+            return (long) GET_LONG.invokeExact(address);
+        } catch (Throwable e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    static long getLongVolatile(long address) {
+        try {
+            return (long) GET_LONG_VOLATILE.invokeExact(address);
+        } catch (Throwable e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    /**
+     * Release store: earlier writes are visible to whoever observes this one.
+     */
+    static void putOrderedLong(long address, long value) {
+        try {
+            PUT_ORDERED_LONG.invokeExact(address, value);
+        } catch (Throwable e) {
+            throw new AssertionError(e);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.assignment.wait;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Spins, then yields, then parks for exponentially growing periods between
+ * {@code minParkNanos} and {@code maxParkNanos}. Idle cost falls off quickly while a
+ * busy receiver still sees spin-level latency.
+ */
+public class BackoffParkingWaitStrategy implements WaitStrategy {
+
+    public static final int DEFAULT_SPINS = 100;
+    public static final int DEFAULT_YIELDS = 10;
+    public static final long DEFAULT_MIN_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(1);
+    public static final long DEFAULT_MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final int spins;
+    private final int yields;
+    private final long minParkNanos;
+    private final long maxParkNanos;
+
+    public BackoffParkingWaitStrategy() {
+        this(DEFAULT_SPINS, DEFAULT_YIELDS, DEFAULT_MIN_PARK_NANOS, DEFAULT_MAX_PARK_NANOS);
+    }
+
+    public BackoffParkingWaitStrategy(int spins, int yields, long minParkNanos, long maxParkNanos) {
+        if (minParkNanos < 1 || maxParkNanos < minParkNanos) {
+            throw new IllegalArgumentException("Require 1 <= minParkNanos <= maxParkNanos");
+        }
+        this.spins = spins;
+        this.yields = yields;
+        this.minParkNanos = minParkNanos;
+        this.maxParkNanos = maxParkNanos;
+    }
+
+    @Override
+    public void idle(int attempt) {
+        if (attempt < spins) {
+            ThreadHints.onSpinWait();
+        } else if (attempt < spins + yields) {
+            Thread.yield();
+        } else {
+            LockSupport.parkNanos(parkNanos(attempt - spins - yields));
+        }
+    }
+
+    long parkNanos(int backoffStep) {
+        if (backoffStep >= Long.numberOfLeadingZeros(minParkNanos) - 1) {
+            return maxParkNanos;
+        }
+        return Math.min(minParkNanos << backoffStep, maxParkNanos);
+    }
+}
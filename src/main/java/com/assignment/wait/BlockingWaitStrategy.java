@@ -0,0 +1,96 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.assignment.wait;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Sleeps on a condition until a producer signals. Cheapest on CPU, but a hand-off to a
+ * sleeping receiver pays a lock and a thread wake-up.
+ * <p>
+ * Producers only take the lock when the receiver has announced that it is about to sleep:
+ * the first {@link #idle(int)} after a wake-up just sets a volatile {@code parked} flag and
+ * returns, so the receiver polls once more before it waits, and {@link #signal()} returns
+ * at once while the flag is clear. A producer that publishes with a volatile write and then
+ * reads the flag either sees it set, or its message is seen by that last poll. The signal
+ * is sticky: a {@link #signal()} that lands between the receiver's empty poll and its
+ * call to {@link #idle(int)} makes that idle return at once, so no wake-up is lost. Waits
+ * are additionally capped at {@code maxWaitNanos} so timed receives keep their deadlines.
+ */
+public class BlockingWaitStrategy implements WaitStrategy {
+
+    public static final long DEFAULT_MAX_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition published = lock.newCondition();
+    private final long maxWaitNanos;
+    private boolean signalled;
+    private volatile boolean parked;
+
+    public BlockingWaitStrategy() {
+        this(DEFAULT_MAX_WAIT_NANOS);
+    }
+
+    public BlockingWaitStrategy(long maxWaitNanos) {
+        this.maxWaitNanos = maxWaitNanos;
+    }
+
+    @Override
+    public void idle(int attempt) {
+        if (!parked) {
+            parked = true;
+            return;
+        }
+        lock.lock();
+        try {
+            if (!signalled) {
+                published.awaitNanos(maxWaitNanos);
+            }
+            signalled = false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void signal() {
+        if (!parked) {
+            return;
+        }
+        lock.lock();
+        try {
+            parked = false;
+            signalled = true;
+            published.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    boolean isParked() {
+        return parked;
+    }
+
+    @Override
+    public boolean isBlocking() {
+        return true;
+    }
+}
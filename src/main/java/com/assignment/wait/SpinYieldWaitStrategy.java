@@ -0,0 +1,44 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.assignment.wait;
+
+/**
+ * Spins for a bounded number of attempts, then yields the core to other runnable threads.
+ */
+public class SpinYieldWaitStrategy implements WaitStrategy {
+
+    public static final int DEFAULT_SPINS = 100;
+
+    private final int spins;
+
+    public SpinYieldWaitStrategy() {
+        this(DEFAULT_SPINS);
+    }
+
+    public SpinYieldWaitStrategy(int spins) {
+        this.spins = spins;
+    }
+
+    @Override
+    public void idle(int attempt) {
+        if (attempt < spins) {
+            ThreadHints.onSpinWait();
+        } else {
+            Thread.yield();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.assignment.wait;
+
+/**
+ * Decides what a receiver does while there is nothing to receive, trading CPU for latency.
+ * <p>
+ * Receivers poll, and on every empty poll call {@link #idle(int)} with the number of
+ * consecutive empty polls so far. Producers call {@link #signal()} after publishing so
+ * that a receiver parked by a blocking strategy wakes up. A strategy instance guards a
+ * single receiver and must not be shared between channels.
+ */
+public interface WaitStrategy {
+
+    /**
+     * Backs off after an empty poll. If the thread is interrupted while waiting, the
+     * interrupt flag is left set for the caller to act on.
+     *
+     * @param attempt consecutive empty polls, starting at 0
+     */
+    void idle(int attempt);
+
+    /**
+     * Wakes a receiver waiting in {@link #idle(int)}; a no-op for strategies that never sleep.
+     */
+    default void signal() {
+    }
+
+    /**
+     * @return true if receivers should use blocking primitives (blocking queues, blocking
+     *         socket reads) instead of polling
+     */
+    default boolean isBlocking() {
+        return false;
+    }
+}
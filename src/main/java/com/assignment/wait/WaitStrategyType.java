@@ -0,0 +1,69 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.assignment.wait;
+
+/**
+ * Selectable {@link WaitStrategy} implementations, named {@code busy-spin}, {@code yield},
+ * {@code park} and {@code block}.
+ */
+public enum WaitStrategyType {
+
+    BUSY_SPIN {
+        @Override
+        public WaitStrategy create() {
+            return new BusySpinWaitStrategy();
+        }
+    },
+
+    YIELD {
+        @Override
+        public WaitStrategy create() {
+            return new SpinYieldWaitStrategy();
+        }
+    },
+
+    PARK {
+        @Override
+        public WaitStrategy create() {
+            return new BackoffParkingWaitStrategy();
+        }
+    },
+
+    BLOCK {
+        @Override
+        public WaitStrategy create() {
+            return new BlockingWaitStrategy();
+        }
+    };
+
+    /** Creates a fresh strategy; each receiver needs its own instance. */
+    public abstract WaitStrategy create();
+
+    public String optionName() {
+        return name().toLowerCase().replace('_', '-');
+    }
+
+    public static WaitStrategyType fromName(String name) {
+        for (WaitStrategyType type : values()) {
+            if (type.optionName().equalsIgnoreCase(name) || type.name().equalsIgnoreCase(name)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Unknown wait strategy: " + name
+                + " (expected 'busy-spin', 'yield', 'park' or 'block')");
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.assignment.buffer;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BufferPoolTest {
+
+    @Test
+    void testAcquireRoundsUpToSizeClass() {
+        BufferPool pool = new BufferPool(true, 4);
+        ByteBuffer small = pool.acquire(10);
+        assertTrue(small.isDirect());
+        assertEquals(BufferPool.MIN_CAPACITY, small.capacity());
+        assertEquals(8192, pool.acquire(5000).capacity());
+        assertEquals(8192, pool.acquire(8192).capacity());
+        assertThrows(IllegalArgumentException.class, () -> pool.acquire(-1));
+    }
+
+    @Test
+    void testReleasedBuffersAreReusedCleared() {
+        BufferPool pool = new BufferPool(true, 4);
+        ByteBuffer buffer = pool.acquire(6000);
+        buffer.putInt(42).flip();
+        pool.release(buffer);
+        assertEquals(1, pool.idle(8192));
+
+        ByteBuffer reused = pool.acquire(7000);
+        assertSame(buffer, reused);
+        assertEquals(0, reused.position());
+        assertEquals(reused.capacity(), reused.limit());
+        assertEquals(0, pool.idle(8192));
+    }
+
+    @Test
+    void testForeignAndOversizedBuffersAreDropped() {
+        BufferPool pool = new BufferPool(true, 1);
+        pool.release(ByteBuffer.allocate(4096));
+        pool.release(ByteBuffer.allocateDirect(5000));
+        assertEquals(0, pool.idle(4096));
+        assertEquals(0, pool.idle(8192));
+
+        ByteBuffer huge = pool.acquire(BufferPool.MAX_POOLED_CAPACITY + 1);
+        assertEquals(BufferPool.MAX_POOLED_CAPACITY + 1, huge.capacity());
+        pool.release(huge);
+        assertEquals(0, pool.idle(huge.capacity()));
+
+        pool.release(pool.acquire(4096));
+        pool.release(ByteBuffer.allocateDirect(4096));
+        assertEquals(1, pool.idle(4096), "Idle buffers are capped per size class");
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.assignment.channel;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SpscRingBufferChannelTest {
+
+    @Test
+    void testCapacityRoundsUpToPowerOfTwo() {
+        assertEquals(1, new SpscRingBufferChannel<String>(1).capacity());
+        assertEquals(16, new SpscRingBufferChannel<String>(10).capacity());
+        assertEquals(16, new SpscRingBufferChannel<String>(16).capacity());
+        assertThrows(IllegalArgumentException.class, () -> new SpscRingBufferChannel<String>(0));
+    }
+
+    @Test
+    void testFifoAndFullEmpty() throws InterruptedException {
+        SpscRingBufferChannel<String> channel = new SpscRingBufferChannel<>(4);
+        assertNull(channel.poll());
+        assertNull(channel.poll(1, TimeUnit.MILLISECONDS));
+
+        for (int i = 0; i < 4; i++) {
+            assertTrue(channel.offer("ping " + i));
+        }
+        assertFalse(channel.offer("overflow"), "Full channel should reject offers");
+
+        assertEquals("ping 0", channel.poll());
+        assertTrue(channel.offer("ping 4"), "Freed slot should be reusable");
+        for (int i = 1; i <= 4; i++) {
+            assertEquals("ping " + i, channel.poll());
+        }
+        assertNull(channel.poll());
+    }
+
+    @Test
+    void testCrossThreadOrdering() throws InterruptedException {
+        int messages = 200_000;
+        SpscRingBufferChannel<Integer> channel = new SpscRingBufferChannel<>(64);
+
+        Thread producer = new Thread(() -> {
+            try {
+                for (int i = 0; i < messages; i++) {
+                    channel.put(i);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        producer.start();
+
+        for (int expected = 0; expected < messages; expected++) {
+            Integer received = channel.poll(5, TimeUnit.SECONDS);
+            assertNotNull(received, "Producer stalled");
+            assertEquals(expected, received.intValue());
+        }
+        producer.join();
+        assertNull(channel.poll());
+    }
+}
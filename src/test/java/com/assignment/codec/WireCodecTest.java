@@ -0,0 +1,162 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.assignment.codec;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.ProtocolException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WireCodecTest {
+
+    @Test
+    void testRoundTripBothCodecs() throws ProtocolException {
+        for (CodecType type : CodecType.values()) {
+            WireCodec codec = type.codec();
+            ByteBuffer buffer = ByteBuffer.allocate(256);
+            encode(codec, buffer, MessageType.DATA, 7, "ping 1 1 2 2 3 3 4 4 5 5 6 6 7");
+            encode(codec, buffer, MessageType.CREDIT, 8, "");
+            encode(codec, buffer, MessageType.DELTA, 12, "");
+            encode(codec, buffer, MessageType.STOP, 0, "");
+            buffer.flip();
+
+            Frame frame = new Frame();
+            assertTrue(codec.decode(buffer, frame), type + " should decode DATA");
+            assertEquals(MessageType.DATA, frame.type());
+            assertEquals(7, frame.senderCounter());
+            assertEquals("ping 1 1 2 2 3 3 4 4 5 5 6 6 7", frame.payloadAsString());
+
+            assertTrue(codec.decode(buffer, frame), type + " should decode CREDIT");
+            assertEquals(MessageType.CREDIT, frame.type());
+            assertEquals(8, frame.senderCounter());
+            assertEquals(0, frame.payloadLength());
+
+            assertTrue(codec.decode(buffer, frame), type + " should decode DELTA");
+            assertEquals(MessageType.DELTA, frame.type());
+            assertEquals(12, frame.senderCounter());
+            assertEquals(0, frame.payloadLength());
+
+            assertTrue(codec.decode(buffer, frame), type + " should decode STOP");
+            assertEquals(MessageType.STOP, frame.type());
+            assertEquals(0, frame.payloadLength());
+            assertFalse(buffer.hasRemaining());
+            assertFalse(codec.decode(buffer, frame));
+        }
+    }
+
+    @Test
+    void testPartialFrameIsLeftUntouched() throws ProtocolException {
+        for (CodecType type : CodecType.values()) {
+            WireCodec codec = type.codec();
+            ByteBuffer full = ByteBuffer.allocate(64);
+            encode(codec, full, MessageType.DATA, 1, "ping 1");
+            full.flip();
+
+            Frame frame = new Frame();
+            for (int available = 0; available < full.limit(); available++) {
+                ByteBuffer partial = full.duplicate();
+                partial.limit(available);
+                assertFalse(codec.decode(partial, frame), type + " decoded a frame from " + available + " bytes");
+                assertEquals(0, partial.position());
+            }
+            assertTrue(codec.decode(full, frame));
+            assertEquals("ping 1", frame.payloadAsString());
+        }
+    }
+
+    @Test
+    void testBinaryLayout() throws ProtocolException {
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        encode(BinaryFrameCodec.INSTANCE, buffer, MessageType.DATA, 3, "ab");
+        buffer.flip();
+        assertEquals(BinaryFrameCodec.HEADER_LENGTH + 2, buffer.remaining());
+        assertEquals(1 + 4 + 2, buffer.getInt(0));
+        assertEquals(MessageType.DATA.code(), buffer.get(4));
+        assertEquals(3, buffer.getInt(5));
+    }
+
+    @Test
+    void testBinaryRejectsCorruptFrames() {
+        ByteBuffer badLength = ByteBuffer.allocate(16);
+        badLength.putInt(-1).put((byte) 0).putInt(0).flip();
+        assertThrows(ProtocolException.class, () -> BinaryFrameCodec.INSTANCE.decode(badLength, new Frame()));
+
+        ByteBuffer badType = ByteBuffer.allocate(16);
+        badType.putInt(5).put((byte) 99).putInt(0).flip();
+        assertThrows(ProtocolException.class, () -> BinaryFrameCodec.INSTANCE.decode(badType, new Frame()));
+    }
+
+    @Test
+    void testTextEscapesMessagesThatLookLikeKeywords() throws ProtocolException {
+        ByteBuffer buffer = ByteBuffer.allocate(256);
+        String[] messages = {"credit 5", "DELTA 3", "stop", "\\n 1", "", "stopped 2"};
+        for (String message : messages) {
+            encode(TextLineCodec.INSTANCE, buffer, MessageType.DATA, 0, message);
+        }
+        buffer.flip();
+        assertEquals("\\credit 5\n\\DELTA 3\n\\stop\n\\\\n 1\n\nstopped 2\n",
+                StandardCharsets.US_ASCII.decode(buffer.duplicate()).toString());
+
+        Frame frame = new Frame();
+        for (String message : messages) {
+            assertTrue(TextLineCodec.INSTANCE.decode(buffer, frame));
+            assertEquals(MessageType.DATA, frame.type(), message);
+            assertEquals(message, frame.payloadAsString());
+        }
+        assertFalse(buffer.hasRemaining());
+    }
+
+    @Test
+    void testTextRejectsOverlongInput() {
+        ByteBuffer bigCounter = ByteBuffer.wrap("ping 99999999999\n".getBytes(StandardCharsets.US_ASCII));
+        assertThrows(ProtocolException.class, () -> TextLineCodec.INSTANCE.decode(bigCounter, new Frame()));
+
+        ByteBuffer endless = ByteBuffer.allocate(TextLineCodec.MAX_LINE_LENGTH + 1);
+        assertThrows(ProtocolException.class, () -> TextLineCodec.INSTANCE.decode(endless, new Frame()));
+        endless.limit(TextLineCodec.MAX_LINE_LENGTH);
+        assertDoesNotThrow(() -> assertFalse(TextLineCodec.INSTANCE.decode(endless, new Frame())));
+    }
+
+    @Test
+    void testAsciiNumbers() {
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        for (int value : new int[] {0, 7, 10, 12345, Integer.MAX_VALUE, -42, Integer.MIN_VALUE}) {
+            buffer.clear();
+            Ascii.putInt(buffer, value);
+            assertEquals(String.valueOf(value), new String(buffer.array(), 0, buffer.position(),
+                    StandardCharsets.US_ASCII));
+        }
+        ByteBuffer text = ByteBuffer.wrap("ping 1 12".getBytes(StandardCharsets.US_ASCII));
+        assertEquals(12, Ascii.parseTrailingInt(text, 0, text.limit()));
+        assertEquals(0, Ascii.parseTrailingInt(text, 0, 4));
+        ByteBuffer largest = ByteBuffer.wrap("n 2147483647".getBytes(StandardCharsets.US_ASCII));
+        assertEquals(Integer.MAX_VALUE, Ascii.parseTrailingInt(largest, 0, largest.limit()));
+        ByteBuffer overflow = ByteBuffer.wrap("n 2147483648".getBytes(StandardCharsets.US_ASCII));
+        assertThrows(NumberFormatException.class, () -> Ascii.parseTrailingInt(overflow, 0, overflow.limit()));
+        ByteBuffer tooLong = ByteBuffer.wrap("n 000000000001".getBytes(StandardCharsets.US_ASCII));
+        assertThrows(NumberFormatException.class, () -> Ascii.parseTrailingInt(tooLong, 0, tooLong.limit()));
+    }
+
+    private static void encode(WireCodec codec, ByteBuffer dst, MessageType type, int counter, String payload) {
+        int frameStart = codec.beginFrame(dst, type, counter);
+        dst.put(payload.getBytes(StandardCharsets.US_ASCII));
+        codec.endFrame(dst, frameStart);
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.assignment.counter;
+
+import com.assignment.dto.Player;
+import com.assignment.log.NoOpLogSink;
+import com.assignment.metrics.PlayerMetrics;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PaddedCounterTest {
+
+    private static final int THREADS = 8;
+
+    @Test
+    void testBoundedIncrementStopsAtLimit() {
+        PaddedCounter counter = new PaddedCounter();
+        assertEquals(1, counter.incrementAndGetBounded(2));
+        assertEquals(2, counter.incrementAndGetBounded(2));
+        assertEquals(-1, counter.incrementAndGetBounded(2));
+        assertEquals(2, counter.get());
+        assertEquals(3, counter.incrementAndGet(), "The unbounded increment ignores limits");
+    }
+
+    @Test
+    void testPlayerLimitIsPerPlayer() {
+        Player small = new Player("small", 1, NoOpLogSink.INSTANCE, new PlayerMetrics("small"));
+        Player wide = new Player("wide", Integer.MAX_VALUE + 2L, NoOpLogSink.INSTANCE, new PlayerMetrics("wide"));
+        assertEquals(1, small.incrementAndGetSentCount());
+        assertEquals(1, small.incrementAndGetSentCount(), "A refused send reports the limit");
+        assertEquals(1, wide.incrementAndGetSentCount());
+        assertEquals(Integer.MAX_VALUE + 2L, wide.getMessageLimit());
+        assertEquals(Player.DEFAULT_MESSAGE_LIMIT, new Player("default", NoOpLogSink.INSTANCE).getMessageLimit());
+        assertThrows(IllegalArgumentException.class, () -> new Player("negative", -1));
+    }
+
+    @Test
+    void testConcurrentSendersNeverExceedTheLimit() throws InterruptedException {
+        int limit = 50_000;
+        // Metrics are single-writer, so a player with concurrent senders records none
+        Player player = new Player("shared", limit, NoOpLogSink.INSTANCE, PlayerMetrics.disabled("shared"));
+        AtomicIntegerArray claimed = new AtomicIntegerArray(limit + 1);
+        AtomicReference<String> violation = new AtomicReference<>();
+        AtomicBoolean running = new AtomicBoolean(true);
+        CountDownLatch start = new CountDownLatch(1);
+
+        Thread monitor = new Thread(() -> {
+            while (running.get()) {
+                long seen = player.getSentCount();
+                if (seen > limit) {
+                    violation.compareAndSet(null, "Observed sent count " + seen);
+                }
+            }
+        }, "limit-monitor");
+        monitor.start();
+
+        List<Thread> senders = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            Thread sender = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                // Keep going past the limit so refused sends race with the last granted ones
+                for (int i = 0; i < 2 * limit / THREADS; i++) {
+                    long count = player.incrementAndGetSentCount();
+                    if (count < 1 || count > limit) {
+                        violation.compareAndSet(null, "Returned sent count " + count);
+                    } else if (count < limit && claimed.getAndIncrement((int) count) != 0) {
+                        violation.compareAndSet(null, "Sent count " + count + " returned twice");
+                    }
+                }
+            }, "sender-" + t);
+            sender.start();
+            senders.add(sender);
+        }
+        start.countDown();
+        for (Thread sender : senders) {
+            sender.join();
+        }
+        running.set(false);
+        monitor.join();
+
+        assertNull(violation.get());
+        assertEquals(limit, player.getSentCount());
+        for (int count = 1; count < limit; count++) {
+            assertEquals(1, claimed.get(count), "Sent count " + count + " was never returned");
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.assignment.flow;
+
+import com.assignment.wait.BlockingWaitStrategy;
+import com.assignment.wait.SpinYieldWaitStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CreditWindowTest {
+
+    @Test
+    void testCreditsAreSpentAndGranted() {
+        CreditWindow window = new CreditWindow(2, new SpinYieldWaitStrategy());
+        assertTrue(window.tryAcquire());
+        assertTrue(window.tryAcquire());
+        assertFalse(window.tryAcquire(), "Sender must not exceed the window");
+        assertEquals(0, window.available());
+
+        window.grant(3);
+        assertEquals(3, window.available());
+        assertThrows(IllegalArgumentException.class, () -> new CreditWindow(-1, new SpinYieldWaitStrategy()));
+    }
+
+    @Test
+    void testAcquireWaitsForGrant() throws InterruptedException {
+        CreditWindow window = new CreditWindow(0, new BlockingWaitStrategy(TimeUnit.MILLISECONDS.toNanos(1)));
+        Thread receiver = new Thread(() -> {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            window.grant(1);
+        });
+        receiver.start();
+
+        window.acquire();
+        assertEquals(0, window.available());
+        receiver.join();
+    }
+
+    @Test
+    void testGrantBatch() {
+        assertEquals(1, CreditWindow.grantBatch(1));
+        assertEquals(1, CreditWindow.grantBatch(2));
+        assertEquals(4, CreditWindow.grantBatch(8));
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.assignment.journal;
+
+import com.assignment.codec.MessageType;
+import com.assignment.dto.Player;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MappedJournalTest {
+
+    private Path directory;
+
+    @BeforeEach
+    void createDirectory() throws IOException {
+        directory = Files.createTempDirectory("journal");
+    }
+
+    @AfterEach
+    void deleteDirectory() throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    @Test
+    void testRecordsRollAcrossSegmentsAndSurviveReopening() throws IOException {
+        // Small segments force many rolls
+        try (MappedJournal journal = new MappedJournal(directory, 512, FsyncPolicy.BATCH, 8, 10)) {
+            for (int i = 1; i <= 50; i++) {
+                journal.append(Journal.Direction.SENT, "Initiator", MessageType.DATA, i, "ping " + i);
+            }
+        }
+        assertTrue(MappedJournal.segments(directory).size() > 1, "Expected the journal to roll");
+        try (MappedJournal journal = new MappedJournal(directory, 512, FsyncPolicy.ASYNC, 8, 1)) {
+            assertEquals(51, journal.nextSequence(), "Reopening should continue after the last record");
+            journal.append(Journal.Direction.RECEIVED, "Initiator", MessageType.STOP, 0, "");
+        }
+
+        JournalRecord record = new JournalRecord();
+        try (JournalReader reader = new JournalReader(directory)) {
+            for (int i = 1; i <= 50; i++) {
+                assertTrue(reader.next(record));
+                assertEquals(i, record.sequence());
+                assertEquals(Journal.Direction.SENT, record.direction());
+                assertEquals(MessageType.DATA, record.type());
+                assertEquals(i, record.counter());
+                assertEquals("Initiator", record.player());
+                assertEquals("ping " + i, record.payloadAsString());
+            }
+            assertTrue(reader.next(record));
+            assertEquals(51, record.sequence());
+            assertEquals(MessageType.STOP, record.type());
+            assertFalse(reader.next(record));
+            assertEquals(0, reader.damagedSegments());
+        }
+    }
+
+    @Test
+    void testTornRecordIsDetectedAndOverwritten() throws IOException {
+        try (MappedJournal journal = new MappedJournal(directory, FsyncPolicy.SYNC)) {
+            for (int i = 1; i <= 3; i++) {
+                journal.append(Journal.Direction.SENT, "Initiator", MessageType.DATA, i, "ping " + i);
+            }
+        }
+        // Corrupt the last payload byte of record 3, as a crash mid-append could
+        Path segment = MappedJournal.segments(directory).get(0);
+        int recordLength = MappedJournal.RECORD_HEADER_LENGTH + MappedJournal.FIXED_BODY_LENGTH
+                + "Initiator".length() + "ping 1".length();
+        try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+            file.seek(MappedJournal.SEGMENT_HEADER_LENGTH + 3L * recordLength - 1);
+            file.write('X');
+        }
+
+        JournalReplay replay = JournalReplay.replay(directory, null);
+        assertEquals(2, replay.records());
+        assertEquals(1, replay.damagedSegments());
+
+        try (MappedJournal journal = new MappedJournal(directory, FsyncPolicy.NONE)) {
+            assertEquals(3, journal.nextSequence(), "The torn record's slot should be reused");
+            journal.append(Journal.Direction.SENT, "Initiator", MessageType.DATA, 3, "ping 3");
+        }
+        replay = JournalReplay.replay(directory, null);
+        assertEquals(3, replay.records());
+        assertEquals(0, replay.damagedSegments());
+    }
+
+    @Test
+    void testReplayRebuildsCountersAndDeltaConversation() throws IOException {
+        try (MappedJournal journal = new MappedJournal(directory, FsyncPolicy.NONE)) {
+            journal.append(Journal.Direction.SENT, "Initiator", MessageType.DATA, 1, "ping 1");
+            journal.append(Journal.Direction.RECEIVED, "Responder", MessageType.DATA, 1, "ping 1");
+            journal.append(Journal.Direction.SENT, "Responder", MessageType.DELTA, 1, "");
+            journal.append(Journal.Direction.RECEIVED, "Initiator", MessageType.DELTA, 1, "");
+            journal.append(Journal.Direction.RECEIVED, "Initiator", MessageType.CREDIT, 4, "");
+            journal.append(Journal.Direction.SENT, "Initiator", MessageType.DELTA, 2, "");
+            journal.append(Journal.Direction.RECEIVED, "Responder", MessageType.STOP, 0, "");
+        }
+
+        List<String> messages = new ArrayList<>();
+        JournalReplay replay = JournalReplay.replay(directory, messages::add);
+
+        Player initiator = replay.players().get("Initiator");
+        Player responder = replay.players().get("Responder");
+        assertEquals(2, initiator.getSentCount());
+        assertEquals(1, initiator.getReceivedCount(), "CREDIT frames are not messages");
+        assertEquals(1, responder.getSentCount());
+        assertEquals(2, responder.getReceivedCount(), "A received STOP counts, as it does in the responders");
+        assertEquals(7, replay.lastSequence());
+        assertEquals("#3 [Responder] SENT: ping 1 1", messages.get(2));
+        assertEquals("#6 [Initiator] SENT: ping 1 1 2", messages.get(5));
+        assertEquals("#7 [Responder] RECEIVED: STOP", messages.get(6));
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.assignment.log;
+
+import com.assignment.dto.Player;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LogSinkTest {
+
+    @Test
+    void testNoOpSinkSkipsFormatting() {
+        Player player = new Player("quiet", NoOpLogSink.INSTANCE);
+        player.logMessageReceived("ping 1");
+        assertEquals(1, player.getReceivedCount(), "Counting must not depend on logging");
+        assertFalse(player.logSink().isLoggable());
+    }
+
+    @Test
+    void testSampledSinkPassesEveryNthEvent() {
+        SampledLogSink sink = new SampledLogSink(ConsoleLogSink.INSTANCE, 3);
+        StringBuilder pattern = new StringBuilder();
+        for (int i = 0; i < 7; i++) {
+            pattern.append(sink.isLoggable() ? 'x' : '.');
+        }
+        assertEquals("x..x..x", pattern.toString());
+        assertThrows(IllegalArgumentException.class, () -> new SampledLogSink(ConsoleLogSink.INSTANCE, 0));
+    }
+
+    @Test
+    void testAsyncSinkWritesEventsInOrder() {
+        StringWriter out = new StringWriter();
+        AsyncLogSink sink = new AsyncLogSink(out, 1024, 16);
+        for (int i = 1; i <= 100; i++) {
+            sink.log("event " + i);
+        }
+        sink.close();
+
+        String[] lines = out.toString().split(System.lineSeparator());
+        assertEquals(100, lines.length);
+        for (int i = 0; i < lines.length; i++) {
+            assertEquals("event " + (i + 1), lines[i]);
+        }
+        assertEquals(0, sink.droppedEvents());
+    }
+
+    @Test
+    void testAsyncSinkWritesOrCountsEveryEventAroundClose() throws InterruptedException {
+        StringWriter out = new StringWriter();
+        AsyncLogSink sink = new AsyncLogSink(out, 1024, 16);
+        int threads = 4;
+        int events = 20_000;
+        CountDownLatch started = new CountDownLatch(threads);
+        Thread[] loggers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            loggers[t] = new Thread(() -> {
+                started.countDown();
+                for (int i = 0; i < events; i++) {
+                    sink.log("event " + i);
+                }
+            });
+            loggers[t].start();
+        }
+        started.await();
+        sink.close();
+        for (Thread logger : loggers) {
+            logger.join();
+        }
+        sink.log("late");
+
+        long written = 0;
+        for (String line : out.toString().split(System.lineSeparator())) {
+            if (line.startsWith("event ")) {
+                written++;
+            }
+        }
+        assertEquals((long) threads * events + 1, written + sink.droppedEvents(),
+                "Every event must be written or counted as dropped");
+    }
+
+    @Test
+    void testAsyncSinkDropsAndReportsWhenFull() throws InterruptedException {
+        CountDownLatch writerBlocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        StringWriter written = new StringWriter();
+        Writer slowWriter = new Writer() {
+            @Override
+            public void write(char[] buffer, int offset, int length) {
+                writerBlocked.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                written.write(buffer, offset, length);
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() throws IOException {
+            }
+        };
+        AsyncLogSink sink = new AsyncLogSink(slowWriter, 4, 1);
+
+        sink.log("first");
+        writerBlocked.await();
+        for (int i = 0; i < 10; i++) {
+            sink.log("burst " + i);
+        }
+        assertEquals(6, sink.droppedEvents(), "Only the queue capacity may be buffered");
+
+        release.countDown();
+        sink.close();
+        assertTrue(written.toString().contains("Dropped 6 event(s)"), written.toString());
+        assertTrue(written.toString().contains("burst 3"));
+        assertFalse(written.toString().contains("burst 4"));
+    }
+}
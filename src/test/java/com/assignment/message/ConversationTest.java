@@ -0,0 +1,68 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.assignment.message;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConversationTest {
+
+    @Test
+    void testRendersOriginalText() {
+        Conversation conversation = Conversation.start("ping", 1);
+        assertEquals("ping 1", conversation.toString());
+        for (int round = 1; round <= 3; round++) {
+            conversation = conversation.append(round);
+            if (round < 3) {
+                conversation = conversation.append(round + 1);
+            }
+        }
+        assertEquals("ping 1 1 2 2 3 3", conversation.toString());
+        assertEquals(6, conversation.length());
+        assertEquals(3, conversation.counter());
+    }
+
+    @Test
+    void testAppendLeavesOriginalUnchanged() {
+        Conversation base = Conversation.start("ping", 1).append(1);
+        Conversation left = base.append(2);
+        Conversation right = base.append(7);
+        assertEquals("ping 1 1", base.toString());
+        assertEquals("ping 1 1 2", left.toString());
+        assertEquals("ping 1 1 7", right.toString());
+    }
+
+    @Test
+    void testParseIsInverseOfToString() {
+        assertEquals("ping 1 1 2 2", Conversation.parse("ping 1 1 2 2").toString());
+        assertEquals(2, Conversation.parse(" ping  1 1 2 2 ").counter());
+        assertThrows(IllegalArgumentException.class, () -> Conversation.parse("ping"));
+        assertThrows(IllegalArgumentException.class, () -> Conversation.parse("ping 1 x"));
+    }
+
+    @Test
+    void testLongConversationRendersWithoutRecursion() {
+        Conversation conversation = Conversation.start("ping", 0);
+        for (int i = 1; i <= 200_000; i++) {
+            conversation = conversation.append(i);
+        }
+        String text = conversation.toString();
+        assertTrue(text.startsWith("ping 0 1 2 3 "));
+        assertTrue(text.endsWith(" 199999 200000"));
+    }
+}
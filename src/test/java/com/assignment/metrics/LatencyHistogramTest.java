@@ -0,0 +1,110 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.assignment.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LatencyHistogramTest {
+
+    @Test
+    void testBucketsAreContiguousAndPrecise() {
+        int previous = -1;
+        for (long value = 0; value < 1 << 20; value++) {
+            int index = LatencyHistogram.indexOf(value);
+            assertTrue(index == previous || index == previous + 1, "Gap in buckets at " + value);
+            long highest = LatencyHistogram.highestValueAt(index);
+            assertTrue(highest >= value, "Bucket " + index + " ends before " + value);
+            assertTrue(highest - value <= value / LatencyHistogram.HALF_SUB_BUCKET_COUNT,
+                    "Bucket " + index + " too wide for " + value);
+            previous = index;
+        }
+        assertEquals(LatencyHistogram.MAX_TRACKABLE_NANOS,
+                LatencyHistogram.highestValueAt(LatencyHistogram.indexOf(LatencyHistogram.MAX_TRACKABLE_NANOS)));
+    }
+
+    @Test
+    void testPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long micros = 1; micros <= 1000; micros++) {
+            histogram.record(micros * 1000);
+        }
+        histogram.record(Long.MAX_VALUE);
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(1001, snapshot.getCount());
+        assertEquals(500_000, snapshot.getP50(), 500_000 / 32.0);
+        assertEquals(991_000, snapshot.getP99(), 991_000 / 32.0);
+        assertEquals(1_000_000, snapshot.getP999(), 1_000_000 / 32.0);
+        assertEquals(Long.MAX_VALUE, snapshot.getMax(), "Max stays exact beyond the trackable range");
+
+        histogram.reset();
+        assertEquals(0, histogram.snapshot().getCount());
+        assertEquals(0, histogram.snapshot().getP99());
+    }
+
+    @Test
+    void testStripedAggregateMergesItsPlayers() {
+        PlayerMetrics aggregate = PlayerMetrics.striped("mesh", 4);
+        for (int player = 0; player < 10; player++) {
+            PlayerMetrics metrics = new PlayerMetrics("player-" + player, 1, aggregate, player);
+            metrics.onSent(1, 0, 0);
+            metrics.onReceived(1, 1, (player + 1) * 1_000L);
+        }
+
+        LatencyHistogram.Snapshot roundTrip = aggregate.getRoundTrip();
+        assertEquals(10, roundTrip.getCount());
+        assertEquals(5_500, roundTrip.getMean());
+        assertEquals(10_000, roundTrip.getMax());
+        assertEquals(5_000, roundTrip.getP50(), 5_000 / 32.0);
+
+        aggregate.reset();
+        assertEquals(0, aggregate.getRoundTrip().getCount());
+    }
+
+    @Test
+    void testDisabledMetricsRecordNothing() {
+        PlayerMetrics metrics = PlayerMetrics.disabled("quiet");
+        metrics.onSent(1, 0, 1_000);
+        metrics.onReceived(1, 1, 2_000);
+
+        assertFalse(metrics.isEnabled());
+        assertEquals(0, metrics.getRoundTrip().getCount());
+        assertEquals(0, metrics.getServiceTime().getCount());
+        assertEquals("quiet", metrics.getPlayerName());
+        assertTrue(new PlayerMetrics("loud").isEnabled());
+        assertFalse(PlayerMetrics.fromSystemProperties("unexported").isEnabled(), "No export is configured");
+    }
+
+    @Test
+    void testPlayerMetricsPairSendsWithReceives() {
+        PlayerMetrics initiator = new PlayerMetrics("initiator");
+        PlayerMetrics responder = new PlayerMetrics("responder");
+
+        initiator.onSent(1, 0, 1_000);
+        responder.onReceived(1, 0, 1_100);
+        responder.onSent(1, 1, 1_300);
+        initiator.onReceived(1, 1, 1_500);
+
+        assertEquals(1, initiator.getRoundTrip().getCount());
+        assertEquals(500, initiator.getRoundTrip().getMax());
+        assertEquals(0, initiator.getServiceTime().getCount());
+        assertEquals(200, responder.getServiceTime().getMax());
+        assertEquals(0, responder.getRoundTrip().getCount());
+    }
+}
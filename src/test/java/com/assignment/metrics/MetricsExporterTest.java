@@ -0,0 +1,61 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.assignment.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MetricsExporterTest {
+
+    @Test
+    void testJsonFileAndMBean() throws IOException, JMException {
+        PlayerMetrics metrics = new PlayerMetrics("exporter-test");
+        metrics.onSent(1, 0, 0);
+        metrics.onReceived(1, 1, 2_000);
+
+        Path file = Files.createTempFile("player-metrics", ".json");
+        ObjectName name = new ObjectName("com.assignment:type=Player,name=\"exporter-test\"");
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            try (MetricsExporter exporter = new MetricsExporter(Collections.singletonList(metrics), file, 0, true)) {
+                CompositeData roundTrip = (CompositeData) server.getAttribute(name, "RoundTrip");
+                assertEquals(1L, roundTrip.get("count"));
+                assertEquals(2_000L, roundTrip.get("max"));
+            }
+            assertFalse(server.isRegistered(name), "Closing should unregister the MBean");
+
+            String json = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+            assertTrue(json.contains("\"player\":\"exporter-test\""), json);
+            assertTrue(json.contains("\"roundTrip\":{\"count\":1,"), json);
+            assertTrue(json.contains("\"max\":2000"), json);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.assignment.process.mesh;
+
+import com.assignment.dto.Player;
+import com.assignment.log.NoOpLogSink;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PlayerMeshTest {
+
+    @Test
+    void testEveryTopologyCompletesAllConversations() throws InterruptedException {
+        for (Topology topology : Topology.values()) {
+            PlayerMesh mesh = new PlayerMesh(200, topology, 10, ThreadMode.AUTO, NoOpLogSink.INSTANCE);
+            mesh.run();
+
+            for (Player player : mesh.players()) {
+                assertEquals(10, player.getSentCount(), topology + " " + player.getName());
+                assertEquals(10, player.getReceivedCount(), topology + " " + player.getName());
+            }
+            assertEquals(200 * 10, mesh.pongsSent(), topology + " should answer every ping");
+            assertEquals(200 * 10, mesh.metrics().getRoundTrip().getCount());
+        }
+    }
+
+    @Test
+    void testPlatformThreadFallback() throws InterruptedException {
+        PlayerMesh mesh = new PlayerMesh(50, Topology.RANDOM_PAIR, 5, ThreadMode.PLATFORM, NoOpLogSink.INSTANCE);
+        mesh.run();
+        assertEquals(50 * 5, mesh.pongsSent());
+        if (!ThreadMode.virtualThreadsAvailable()) {
+            assertThrows(UnsupportedOperationException.class, ThreadMode.VIRTUAL::newExecutor);
+        }
+    }
+
+    @Test
+    void testTopologiesNeverPickSelf() {
+        for (Topology topology : Topology.values()) {
+            for (int self = 0; self < 5; self++) {
+                for (int round = 1; round <= 12; round++) {
+                    int peer = topology.peer(self, round, 5);
+                    assertNotEquals(self, peer, topology.name());
+                    assertTrue(peer >= 0 && peer < 5);
+                }
+            }
+        }
+        assertEquals(1, Topology.RING.peer(0, 3, 2));
+        assertEquals(0, Topology.ALL_TO_ALL.peer(3, 1, 4));
+        assertEquals(1, Topology.ALL_TO_ALL.peer(3, 2, 4));
+    }
+}
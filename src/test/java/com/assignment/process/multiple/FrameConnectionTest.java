@@ -0,0 +1,250 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.assignment.process.multiple;
+
+import com.assignment.codec.BinaryFrameCodec;
+import com.assignment.codec.Frame;
+import com.assignment.codec.MessageType;
+import com.assignment.codec.TextLineCodec;
+import com.assignment.codec.WireCodec;
+import com.assignment.journal.Journal;
+import com.assignment.journal.NoOpJournal;
+import com.assignment.wait.BusySpinWaitStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ByteChannel;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FrameConnectionTest {
+
+    private static final byte[] PING = "ping".getBytes(StandardCharsets.US_ASCII);
+
+    @Test
+    void testImmediateFlushWritesEveryFrame() throws IOException {
+        RecordingChannel channel = new RecordingChannel();
+        try (FrameConnection connection = connection(channel, BinaryFrameCodec.INSTANCE, SocketTuning.DEFAULTS)) {
+            for (int i = 1; i <= 5; i++) {
+                connection.send(PING, i);
+            }
+            assertEquals(5, channel.writes);
+        }
+        assertEquals(5, channel.writes, "Nothing was left to write on close");
+        assertPings(channel, BinaryFrameCodec.INSTANCE, 5);
+    }
+
+    @Test
+    void testCountFlushBatchesFramesAndFlushesTheRestOnClose() throws IOException {
+        RecordingChannel channel = new RecordingChannel();
+        SocketTuning tuning = SocketTuning.DEFAULTS.withFlush(FlushPolicy.COUNT, 4, 0);
+        try (FrameConnection connection = connection(channel, TextLineCodec.INSTANCE, tuning)) {
+            for (int i = 1; i <= 10; i++) {
+                connection.send(PING, i);
+            }
+            assertEquals(2, channel.writes);
+        }
+        assertEquals(3, channel.writes);
+        assertPings(channel, TextLineCodec.INSTANCE, 10);
+    }
+
+    @Test
+    void testTimeFlushHoldsFramesUntilTheReceive() throws IOException {
+        RecordingChannel channel = new RecordingChannel();
+        SocketTuning tuning = SocketTuning.DEFAULTS.withFlush(FlushPolicy.TIME, 1, TimeUnit.SECONDS.toNanos(60));
+        try (FrameConnection connection = connection(channel, BinaryFrameCodec.INSTANCE, tuning)) {
+            connection.send(PING, 1);
+            connection.sendCredit(3);
+            assertEquals(0, channel.writes);
+
+            assertFalse(connection.receive(new Frame()), "The recording channel is at end of stream");
+            assertEquals(1, channel.writes, "Waiting for a reply must not hold our own frames back");
+        }
+        assertEquals(1, channel.writes);
+    }
+
+    @Test
+    void testTimeFlushWritesALoneFrameOnceItIsDue() throws IOException, InterruptedException {
+        RecordingChannel channel = new RecordingChannel();
+        SocketTuning tuning = SocketTuning.DEFAULTS.withFlush(FlushPolicy.TIME, 1, TimeUnit.MILLISECONDS.toNanos(1));
+        try (FrameConnection connection = connection(channel, BinaryFrameCodec.INSTANCE, tuning)) {
+            connection.send(PING, 1);
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (channel.writes == 0 && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+            assertEquals(1, channel.writes, "A frame with nothing after it must still go out after the delay");
+            assertPings(channel, BinaryFrameCodec.INSTANCE, 1);
+        }
+        assertEquals(1, channel.writes);
+    }
+
+    @Test
+    void testBatchLargerThanOneBufferGoesOutInOneGatheringWrite() throws IOException {
+        RecordingChannel channel = new RecordingChannel();
+        SocketTuning tuning = SocketTuning.DEFAULTS.withFlush(FlushPolicy.COUNT, 6, 0);
+        byte[] payload = new byte[5000];
+        Arrays.fill(payload, (byte) 'x');
+        try (FrameConnection connection = connection(channel, BinaryFrameCodec.INSTANCE, tuning)) {
+            for (int i = 1; i <= 6; i++) {
+                connection.send(MessageType.DATA, i, ByteBuffer.wrap(payload));
+            }
+        }
+        assertEquals(1, channel.gatheringWrites);
+        assertEquals(1, channel.writes);
+
+        ByteBuffer written = channel.written();
+        Frame frame = new Frame();
+        for (int i = 1; i <= 6; i++) {
+            assertTrue(BinaryFrameCodec.INSTANCE.decode(written, frame));
+            assertEquals(i, frame.senderCounter());
+            assertEquals(payload.length, frame.payloadLength());
+        }
+        assertFalse(written.hasRemaining());
+    }
+
+    @Test
+    void testFailedWriteDropsTheBatchWithoutJournalingIt() throws IOException {
+        RecordingChannel channel = new RecordingChannel();
+        List<String> journaled = new ArrayList<>();
+        Journal journal = new Journal() {
+            @Override
+            public void append(Direction direction, String player, MessageType type, long counter,
+                    CharSequence payload) {
+                journaled.add(direction + " " + payload);
+            }
+
+            @Override
+            public void append(Direction direction, String player, Frame frame) {
+                journaled.add(direction + " " + frame.payloadAsString());
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        SocketTuning tuning = SocketTuning.DEFAULTS.withFlush(FlushPolicy.COUNT, 6, 0);
+        byte[] payload = new byte[5000];
+        try (FrameConnection connection = new FrameConnection(channel, BinaryFrameCodec.INSTANCE,
+                new BusySpinWaitStrategy(), journal, "initiator", tuning)) {
+            channel.failNextWrite = true;
+            // Spills into a second pooled buffer before the failing write
+            for (int i = 1; i <= 5; i++) {
+                connection.send(MessageType.DATA, i, ByteBuffer.wrap(payload));
+            }
+            assertThrows(IOException.class, connection::flush);
+            assertTrue(journaled.isEmpty(), "Frames that never went out must not be journaled: " + journaled);
+
+            connection.send(PING, 1);
+            connection.flush();
+        }
+        assertPings(channel, BinaryFrameCodec.INSTANCE, 1);
+        assertEquals(Collections.singletonList("SENT ping 1"), journaled);
+    }
+
+    private static FrameConnection connection(ByteChannel channel, WireCodec codec, SocketTuning tuning)
+            throws IOException {
+        return new FrameConnection(channel, codec, new BusySpinWaitStrategy(),
+                NoOpJournal.INSTANCE, "initiator", tuning);
+    }
+
+    private static void assertPings(RecordingChannel channel, WireCodec codec, int count) throws IOException {
+        ByteBuffer written = channel.written();
+        Frame frame = new Frame();
+        for (int i = 1; i <= count; i++) {
+            assertTrue(codec.decode(written, frame), "Missing frame " + i);
+            assertEquals("ping " + i, frame.payloadAsString());
+        }
+        assertFalse(written.hasRemaining());
+    }
+
+    /**
+     * Write-only channel counting the write calls it sees; reads report end of stream.
+     */
+    private static final class RecordingChannel implements GatheringByteChannel, ByteChannel {
+
+        private final ByteBuffer sink = ByteBuffer.allocate(1 << 16);
+        volatile int writes;
+        int gatheringWrites;
+        boolean failNextWrite;
+        private boolean open = true;
+
+        @Override
+        public int write(ByteBuffer source) throws IOException {
+            failIfAsked();
+            writes++;
+            int length = source.remaining();
+            sink.put(source);
+            return length;
+        }
+
+        @Override
+        public long write(ByteBuffer[] sources, int offset, int length) throws IOException {
+            failIfAsked();
+            writes++;
+            gatheringWrites++;
+            long total = 0;
+            for (int i = offset; i < offset + length; i++) {
+                total += sources[i].remaining();
+                sink.put(sources[i]);
+            }
+            return total;
+        }
+
+        @Override
+        public long write(ByteBuffer[] sources) throws IOException {
+            return write(sources, 0, sources.length);
+        }
+
+        @Override
+        public int read(ByteBuffer destination) {
+            return -1;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return open;
+        }
+
+        @Override
+        public void close() {
+            open = false;
+        }
+
+        private void failIfAsked() throws IOException {
+            if (failNextWrite) {
+                failNextWrite = false;
+                throw new IOException("Broken pipe");
+            }
+        }
+
+        ByteBuffer written() {
+            ByteBuffer copy = sink.duplicate();
+            copy.flip();
+            return copy;
+        }
+    }
+}
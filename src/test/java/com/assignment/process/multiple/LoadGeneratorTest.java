@@ -0,0 +1,97 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.assignment.process.multiple;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LoadGeneratorTest {
+
+    @Test
+    void testCommandLineOverridesPropertiesFile() throws IOException {
+        Path file = Files.createTempFile("load", ".properties");
+        try (Writer out = Files.newBufferedWriter(file)) {
+            out.write("pairs=4\npayload=64\nwarmup=250ms\n");
+        }
+        try {
+            LoadConfig config = LoadConfig.parse("--config=" + file, "--pairs=2", "--duration=2m");
+            assertEquals(2, config.pairs());
+            assertEquals(64, config.payloadSize());
+            assertEquals(TimeUnit.MILLISECONDS.toNanos(250), config.warmupNanos());
+            assertEquals(TimeUnit.MINUTES.toNanos(2), config.durationNanos());
+            assertEquals(0, config.messages());
+            assertNull(config.host(), "No host means an embedded responder");
+        } finally {
+            Files.delete(file);
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> LoadConfig.parse("--pears=2"));
+        assertThrows(IllegalArgumentException.class, () -> LoadConfig.parse("--messages=10", "--duration=1s"));
+        assertThrows(IllegalArgumentException.class, () -> LoadConfig.parse("--warmup=soon"));
+    }
+
+    @Test
+    void testCommandLineRunBoundReplacesTheFilesOne() throws IOException {
+        Path file = Files.createTempFile("load", ".properties");
+        try (Writer out = Files.newBufferedWriter(file)) {
+            out.write("messages=5000\npairs=3\n");
+        }
+        try {
+            LoadConfig byDuration = LoadConfig.parse("--config=" + file, "--duration=30s");
+            assertEquals(TimeUnit.SECONDS.toNanos(30), byDuration.durationNanos());
+            assertEquals(0, byDuration.messages());
+            assertEquals(3, byDuration.pairs());
+
+            LoadConfig byFile = LoadConfig.parse("--config=" + file);
+            assertEquals(5000, byFile.messages());
+            assertEquals(0, byFile.durationNanos());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void testClosedLoopRunMeasuresEveryMessage() throws IOException, InterruptedException {
+        LoadGenerator.Summary summary = new LoadGenerator(
+                LoadConfig.parse("--messages=1001", "--pairs=3", "--payload=32", "--warmup=0")).run();
+
+        assertEquals(1001, summary.getMessages());
+        assertEquals(1001, summary.getLatency().getCount());
+        assertEquals(1001, summary.getRoundTrip().getCount());
+        assertTrue(summary.getThroughput() > 0);
+    }
+
+    @Test
+    void testOpenLoopRunHoldsTheTargetRate() throws IOException, InterruptedException {
+        LoadGenerator.Summary summary = new LoadGenerator(
+                LoadConfig.parse("--duration=500ms", "--rate=2000", "--pairs=2", "--warmup=100ms")).run();
+
+        // 2000 msg/s for 500 ms, give or take the schedule's edges
+        assertTrue(summary.getMessages() >= 900 && summary.getMessages() <= 1002,
+                "Sent " + summary.getMessages() + " messages");
+        assertTrue(summary.getLatency().getMax() >= summary.getRoundTrip().getMax(),
+                "Latency is measured from the intended send time, never after the actual one");
+    }
+}
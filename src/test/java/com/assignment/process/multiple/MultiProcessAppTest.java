@@ -17,11 +17,27 @@
 
  package com.assignment.process.multiple;
 
+ import com.assignment.dto.Player;
+ import com.assignment.journal.JournalReplay;
+ import com.assignment.journal.Journals;
+ import com.assignment.log.LogSinks;
  import org.junit.jupiter.api.Test;
  import java.io.*;
+ import java.net.ServerSocket;
+ import java.nio.file.Files;
+ import java.nio.file.Path;
+ import java.util.ArrayList;
+ import java.util.Arrays;
+ import java.util.Comparator;
+ import java.util.List;
  import java.util.concurrent.TimeUnit;
+ import java.util.stream.Stream;
  
+ import static org.junit.jupiter.api.Assertions.assertEquals;
+ import static org.junit.jupiter.api.Assertions.assertFalse;
  import static org.junit.jupiter.api.Assertions.assertTrue;
+ import static org.junit.jupiter.api.Assertions.fail;
+ import static org.junit.jupiter.api.Assumptions.assumeTrue;
  
  public class MultiProcessAppTest {
  
@@ -30,18 +46,217 @@
  
      @Test
      void testMultiprocessCommunication() throws IOException, InterruptedException {
-         // Start responder process
-         Process responderProcess = startProcess("responder");
+         assertExchange("Listening on port");
+     }
+ 
+     @Test
+     void testMultiprocessCommunicationWithPolling() throws IOException, InterruptedException {
+         assertExchange("Listening on port", "-D" + MultiProcessApp.WAIT_PROPERTY + "=park");
+     }
+ 
+     @Test
+     void testMultiprocessCommunicationWithTextCodec() throws IOException, InterruptedException {
+         assertExchange("Listening on port", "-D" + MultiProcessApp.CODEC_PROPERTY + "=text");
+     }
+ 
+     @Test
+     void testMultiprocessCommunicationWithAsyncLogging() throws IOException, InterruptedException {
+         assertExchange("Listening on port", "-D" + LogSinks.LOG_PROPERTY + "=async");
+     }
+ 
+     @Test
+     void testMultiprocessCommunicationWithDeltaEncoding() throws IOException, InterruptedException {
+         assertExchange("Listening on port", "-D" + MultiProcessApp.ENCODING_PROPERTY + "=delta");
+     }
+ 
+     @Test
+     void testMultiprocessCommunicationPipelined() throws IOException, InterruptedException {
+         String output = assertExchange("Listening on port", "-D" + MultiProcessApp.WINDOW_PROPERTY + "=4");
+         assertPipelinedReplies(output);
+         assertFalse(output.contains("Responder granted a window"), "Both processes use the same window");
+     }
+ 
+     @Test
+     void testPipelinedInitiatorFallsBackToTheResponderWindow() throws IOException, InterruptedException {
+         String output = assertExchange("Listening on port", new String[0],
+                 new String[] {"-D" + MultiProcessApp.WINDOW_PROPERTY + "=4"});
+         assertPipelinedReplies(output);
+         assertTrue(output.contains("[initiator] Responder granted a window of 1 instead of 4."),
+                 "Initiator should report the narrower window");
+     }
+ 
+     @Test
+     void testStopAndWaitInitiatorIgnoresTheResponderWindow() throws IOException, InterruptedException {
+         String output = assertExchange("Listening on port",
+                 new String[] {"-D" + MultiProcessApp.WINDOW_PROPERTY + "=4"}, new String[0]);
+         assertTrue(output.contains("[initiator] Received: ping 1 1 2 2 3 3 4 4 5 5 6 6 7 7 8 8 9 9 10 10"),
+                 "Initiator should receive the whole conversation");
+     }
+ 
+     @Test
+     void testJournaledExchangeReplaysToTheSameCounts() throws IOException, InterruptedException {
+         Path root = Files.createTempDirectory("player-journal");
+         try {
+             assertExchange("Listening on port", "-D" + Journals.DIRECTORY_PROPERTY + "=" + root,
+                     "-D" + MultiProcessApp.ENCODING_PROPERTY + "=delta");
+ 
+             for (String role : new String[] {"initiator", "responder"}) {
+                 JournalReplay replay = JournalReplay.replay(root.resolve(role), null);
+                 Player player = replay.players().get(role);
+                 assertEquals(10, player.getSentCount(), role + " sent");
+                 assertEquals(10, player.getReceivedCount(), role + " received");
+                 assertEquals(0, replay.damagedSegments());
+             }
+             List<String> messages = new ArrayList<>();
+             JournalReplay.replay(root.resolve("initiator"), messages::add);
+             assertTrue(messages.get(messages.size() - 1).endsWith("ping 1 1 2 2 3 3 4 4 5 5 6 6 7 7 8 8 9 9 10 10"),
+                     "Delta messages should replay to the full conversation: " + messages);
+         } finally {
+             try (Stream<Path> paths = Files.walk(root)) {
+                 paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+             }
+         }
+     }
+ 
+     @Test
+     void testWarmupRunsBeforeTheExchange() throws IOException, InterruptedException {
+         String output = assertExchange("Listening on port", "-D" + MultiProcessApp.WARMUP_PROPERTY + "=200");
+         assertTrue(output.contains("[initiator Process] Warmed up with 200 round trips"), "Initiator should warm up");
+         assertTrue(output.contains("[responder Process] Warmed up with 200 round trips"), "Responder should warm up");
+     }
+ 
+     @Test
+     void testMultiprocessCommunicationOverSharedMemory() throws IOException, InterruptedException {
+         File channelFile = File.createTempFile("player-shm", ".dat");
+         try {
+             assertExchange("Listening on shared memory",
+                     "-D" + MultiProcessApp.TRANSPORT_PROPERTY + "=shm",
+                     "-D" + MultiProcessApp.SHM_PATH_PROPERTY + "=" + channelFile.getAbsolutePath());
+         } finally {
+             channelFile.delete();
+         }
+     }
+ 
+     @Test
+     void testMultiprocessCommunicationOverUnixDomainSocket() throws IOException, InterruptedException {
+         assumeTrue(UnixDomainSockets.isSupported(), "Unix domain sockets need Java 16+");
+         Path directory = Files.createTempDirectory("player-uds");
+         Path socket = directory.resolve("player.sock");
+         try {
+             assertExchange("Listening on unix socket",
+                     "-D" + MultiProcessApp.TRANSPORT_PROPERTY + "=unix",
+                     "-D" + MultiProcessApp.UNIX_PATH_PROPERTY + "=" + socket);
+             assertFalse(Files.exists(socket), "Responder should remove its socket file");
+         } finally {
+             Files.deleteIfExists(socket);
+             Files.delete(directory);
+         }
+     }
+ 
+     @Test
+     void testInitiatorIgnoresAReadyFileLeftByAnEarlierRun() throws IOException, InterruptedException {
+         Path readyDirectory = Files.createTempDirectory("player-ready");
+         Path readyFile = readyDirectory.resolve("responder.ready");
+         String[] options = readyOptions(readyFile);
+         int stalePort = closedPort();
+         ReadyFile.publish(readyFile, Integer.toString(stalePort));
+         try {
+             // The initiator reads the stale port before the responder even starts
+             Process initiatorProcess = startProcess("initiator", options);
+             BufferedReader initiatorReader = reader(initiatorProcess);
+             String initiatorOutput = readUntil(initiatorReader, "localhost:" + stalePort);
+             Process responderProcess = startProcess("responder", options);
+ 
+             initiatorOutput += captureOutput(initiatorReader);
+             String responderOutput = captureOutput(reader(responderProcess));
+             assertTrue(initiatorProcess.waitFor(15, TimeUnit.SECONDS), "Initiator process should finish");
+             assertTrue(responderProcess.waitFor(15, TimeUnit.SECONDS), "Responder process should finish");
+ 
+             assertTrue(initiatorOutput.contains("Received 10 replies"), "Initiator should reach the new responder");
+             assertTrue(responderOutput.contains("SENDING: ping 1 1"), "Responder should respond to message");
+         } finally {
+             Files.deleteIfExists(readyFile);
+             Files.delete(readyDirectory);
+         }
+     }
+ 
+     @Test
+     void testMultiplexedConversationsWaitForALateResponder() throws IOException, InterruptedException {
+         Path readyDirectory = Files.createTempDirectory("player-ready");
+         Path readyFile = readyDirectory.resolve("responder.ready");
+         List<String> options = new ArrayList<>(Arrays.asList(readyOptions(readyFile)));
+         options.add("-D" + MultiProcessApp.STREAMS_PROPERTY + "=4");
+         String[] streams = options.toArray(new String[0]);
+         // A stale signal sends the initiator to a closed port, so it keeps reconnecting with backoff
+         // until the responder, started only once the initiator is trying, publishes its real one
+         int stalePort = closedPort();
+         ReadyFile.publish(readyFile, Integer.toString(stalePort));
+         Process initiatorProcess = startProcess("initiator", streams);
+         Process responderProcess = null;
+         try {
+             BufferedReader initiatorReader = reader(initiatorProcess);
+             String initiatorOutput = readUntil(initiatorReader, "localhost:" + stalePort);
+             responderProcess = startProcess("responder", streams);
+             initiatorOutput += captureOutput(initiatorReader);
+             assertTrue(initiatorProcess.waitFor(15, TimeUnit.SECONDS), "Initiator process should finish");
+ 
+             for (int stream = 1; stream <= 4; stream++) {
+                 assertTrue(initiatorOutput.contains("[initiator-" + stream + "] Received 10 replies"),
+                         "Conversation " + stream + " should complete");
+             }
+             assertTrue(initiatorOutput.contains(
+                     "4 conversations finished over 1 connection(s). Sent: 40, Received: 40"),
+                     "Conversations should share one connection");
+ 
+             // Each stream is answered by its own player, counting like a connection of the other responders
+             BufferedReader responderReader = reader(responderProcess);
+             String responderOutput = "";
+             for (int stream = 1; stream <= 4; stream++) {
+                 responderOutput += readUntil(responderReader, "(Sent Count: 10)");
+             }
+             for (int stream = 1; stream <= 4; stream++) {
+                 assertTrue(responderOutput.contains("[responder-" + stream + "] Received: ping 1 (Total Received: 1)"),
+                         "Stream " + stream + " should count what it receives");
+                 assertTrue(responderOutput.contains("[responder-" + stream + "] SENDING: ping 1 1 2 2 3 3 4 4 5 5 6 6 7 7"
+                         + " 8 8 9 9 10 10 (Sent Count: 10)"), "Stream " + stream + " should count what it sends");
+             }
+         } finally {
+             // The multiplexed responder serves until it is stopped
+             initiatorProcess.destroy();
+             if (responderProcess != null) {
+                 responderProcess.destroy();
+                 responderProcess.waitFor(15, TimeUnit.SECONDS);
+             }
+             Files.deleteIfExists(readyFile);
+             Files.delete(readyDirectory);
+         }
+     }
  
-         // Wait to ensure the server socket is ready
-         Thread.sleep(1000);
+     private String assertExchange(String listeningMessage, String... jvmOptions)
+             throws IOException, InterruptedException {
+         return assertExchange(listeningMessage, jvmOptions, jvmOptions);
+     }
  
-         // Start initiator process
-         Process initiatorProcess = startProcess("initiator");
+     private String assertExchange(String listeningMessage, String[] responderOptions, String[] initiatorOptions)
+             throws IOException, InterruptedException {
+         // The responder binds an ephemeral port and hands it to the initiator through the ready file
+         Path readyDirectory = Files.createTempDirectory("player-ready");
+         Path readyFile = readyDirectory.resolve("responder.ready");
+ 
+         // Both processes start at once; the initiator waits for the responder's signal
+         Process responderProcess = startProcess("responder", readyOptions(readyFile, responderOptions));
+         Process initiatorProcess = startProcess("initiator", readyOptions(readyFile, initiatorOptions));
  
          // Capture output from both processes
-         String initiatorOutput = captureOutput(initiatorProcess);
-         String responderOutput = captureOutput(responderProcess);
+         String initiatorOutput;
+         String responderOutput;
+         try {
+             initiatorOutput = captureOutput(initiatorProcess);
+             responderOutput = captureOutput(responderProcess);
+         } finally {
+             Files.deleteIfExists(readyFile);
+             Files.delete(readyDirectory);
+         }
  
          // Wait for both processes to finish
          boolean initiatorFinished = initiatorProcess.waitFor(15, TimeUnit.SECONDS);
@@ -53,25 +268,85 @@
  
          assertTrue(initiatorOutput.contains("SENDING: ping 1"), "Initiator should have sent initial message");
          assertTrue(initiatorOutput.contains("Received 10 replies"), "Initiator should receive 10 replies");
-         assertTrue(responderOutput.contains("Listening on port"), "Responder should listen for connections");
+         assertTrue(responderOutput.contains(listeningMessage), "Responder should listen for connections");
          assertTrue(responderOutput.contains("SENDING: ping 1 1"), "Responder should respond to message");
+         assertTrue(responderOutput.contains("Ready: "), "Responder should signal readiness");
+         return initiatorOutput + responderOutput;
      }
  
-     private Process startProcess(String role) throws IOException {
-         ProcessBuilder builder = new ProcessBuilder(
-                 JAVA_CMD,
-                 "-cp",
-                 CLASS_PATH,
-                 MultiProcessApp.class.getName(),
-                 role);
+     /**
+      * Checks that a pipelined initiator got "ping N N" back for every N, in order and nothing else.
+      */
+     private void assertPipelinedReplies(String output) {
+         assertFalse(output.contains("Out-of-order"), "Replies should come back in order");
+         List<String> replies = new ArrayList<>();
+         for (String line : output.split("\\R")) {
+             if (line.startsWith("[initiator] Received: ")) {
+                 replies.add(line.substring("[initiator] Received: ".length(), line.indexOf(" (Total Received")));
+             }
+         }
+         List<String> expected = new ArrayList<>();
+         for (int i = 1; i <= 10; i++) {
+             expected.add("ping " + i + " " + i);
+         }
+         assertEquals(expected, replies);
+     }
+ 
+     private Process startProcess(String role, String... jvmOptions) throws IOException {
+         List<String> command = new ArrayList<>();
+         command.add(JAVA_CMD);
+         command.addAll(Arrays.asList(jvmOptions));
+         command.addAll(Arrays.asList("-cp", CLASS_PATH, MultiProcessApp.class.getName(), role));
+         ProcessBuilder builder = new ProcessBuilder(command);
          builder.redirectErrorStream(true);
          return builder.start();
      }
  
+     /**
+      * Options for both processes: an ephemeral responder port, handed to the initiator through {@code readyFile}.
+      */
+     private String[] readyOptions(Path readyFile, String... jvmOptions) {
+         List<String> options = new ArrayList<>(Arrays.asList(jvmOptions));
+         options.add("-D" + MultiProcessApp.PORT_PROPERTY + "=0");
+         options.add("-D" + MultiProcessApp.READY_FILE_PROPERTY + "=" + readyFile);
+         return options.toArray(new String[0]);
+     }
+ 
+     /**
+      * A port nothing listens on any more.
+      */
+     private int closedPort() throws IOException {
+         try (ServerSocket socket = new ServerSocket(0)) {
+             return socket.getLocalPort();
+         }
+     }
+ 
+     private BufferedReader reader(Process process) {
+         return new BufferedReader(new InputStreamReader(process.getInputStream()));
+     }
+ 
+     /**
+      * Reads output up to and including the first line containing {@code marker}, leaving the rest unread.
+      */
+     private String readUntil(BufferedReader reader, String marker) throws IOException {
+         StringBuilder output = new StringBuilder();
+         String line;
+         while ((line = reader.readLine()) != null) {
+             output.append(line).append("\n");
+             if (line.contains(marker)) {
+                 return output.toString();
+             }
+         }
+         return fail("Process ended before printing '" + marker + "':\n" + output);
+     }
+ 
      private String captureOutput(Process process) throws IOException {
+         return captureOutput(reader(process));
+     }
+ 
+     private String captureOutput(BufferedReader processReader) throws IOException {
          StringBuilder output = new StringBuilder();
-         try (BufferedReader reader = new BufferedReader(
-                 new InputStreamReader(process.getInputStream()))) {
+         try (BufferedReader reader = processReader) {
              String line;
              while ((line = reader.readLine()) != null) {
                  output.append(line).append("\n");
@@ -0,0 +1,308 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.assignment.process.multiple;
+
+import com.assignment.codec.MuxCodec;
+import com.assignment.codec.MuxFrame;
+import com.assignment.codec.MuxFrameType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MuxClientTest {
+
+    private static final MuxServer.Handler APPEND_SEQUENCE = (streamId, sequence, request) ->
+            (new String(request, StandardCharsets.UTF_8) + " " + sequence).getBytes(StandardCharsets.UTF_8);
+
+    private MuxServer server;
+    private MuxClient client;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (client != null) {
+            client.close();
+        }
+        if (server != null) {
+            server.close();
+        }
+    }
+
+    @Test
+    void testManyStreamsShareOneConnection() throws Exception {
+        InetSocketAddress address = startServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0),
+                APPEND_SEQUENCE);
+        client = startClient(address, TimeUnit.SECONDS.toNanos(5));
+
+        int streams = 8;
+        int requests = 200;
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread[] threads = new Thread[streams];
+        for (int i = 0; i < streams; i++) {
+            MuxStream stream = client.openStream();
+            threads[i] = new Thread(() -> {
+                try (MuxStream conversation = stream) {
+                    for (int sequence = 1; sequence <= requests; sequence++) {
+                        String request = "stream " + conversation.id() + " ping";
+                        assertEquals(request + " " + sequence, conversation.request(request));
+                    }
+                    assertEquals(requests, conversation.lastAcknowledged());
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertNull(failure.get(), () -> "Stream failed: " + failure.get());
+        assertEquals(1, client.getConnects());
+        assertEquals(1, server.getAcceptedConnections());
+        assertEquals((long) streams * requests, server.getHandledRequests());
+        assertEquals(0, client.getOpenStreams());
+        awaitTrue(() -> server.getOpenStreams() == 0, "Closed streams should be dropped by the server");
+    }
+
+    @Test
+    void testEachStreamIsAnsweredByItsOwnHandler() throws Exception {
+        AtomicInteger opened = new AtomicInteger();
+        ServerSocketChannel channel = ServerSocketChannel.open();
+        channel.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        server = new MuxServer(channel, (clientId, streamId) -> {
+            opened.incrementAndGet();
+            long[] handled = new long[1];
+            // Unsynchronized per-stream state: a stream's requests never overlap
+            return (id, sequence, request) -> (new String(request, StandardCharsets.UTF_8) + " " + ++handled[0])
+                    .getBytes(StandardCharsets.UTF_8);
+        }, SocketTuning.DEFAULTS);
+        server.start();
+        client = startClient((InetSocketAddress) channel.getLocalAddress(), TimeUnit.SECONDS.toNanos(5));
+
+        int streams = 4;
+        int requests = 50;
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread[] threads = new Thread[streams];
+        for (int i = 0; i < streams; i++) {
+            MuxStream stream = client.openStream();
+            threads[i] = new Thread(() -> {
+                try (MuxStream conversation = stream) {
+                    for (int sequence = 1; sequence <= requests; sequence++) {
+                        assertEquals("ping " + sequence, conversation.request("ping"));
+                    }
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertNull(failure.get(), () -> "Stream failed: " + failure.get());
+        assertEquals(streams, opened.get());
+    }
+
+    @Test
+    void testConversationResumesAcrossServerRestart() throws Exception {
+        InetSocketAddress address = startServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0),
+                APPEND_SEQUENCE);
+        client = startClient(address, TimeUnit.SECONDS.toNanos(10));
+        MuxStream stream = client.openStream();
+        String content = "ping";
+        for (int sequence = 1; sequence <= 5; sequence++) {
+            content = stream.request(content);
+        }
+
+        server.close();
+        Thread restart = new Thread(() -> {
+            try {
+                Thread.sleep(300);
+                startServer(address, APPEND_SEQUENCE);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        restart.start();
+        // Sent while the server is down; the client resends it once it has reconnected
+        for (int sequence = 6; sequence <= 10; sequence++) {
+            content = stream.request(content);
+        }
+        restart.join();
+
+        assertEquals("ping 1 2 3 4 5 6 7 8 9 10", content);
+        assertEquals(10, stream.lastAcknowledged());
+        assertTrue(client.getConnects() >= 2, "Client should have reconnected");
+    }
+
+    @Test
+    void testRepeatedRequestIsAnsweredFromStoredReply() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        InetSocketAddress address = startServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0),
+                (streamId, sequence, request) -> {
+                    calls.incrementAndGet();
+                    return APPEND_SEQUENCE.reply(streamId, sequence, request);
+                });
+
+        // The same client sends the same request on two connections, as after a lost reply
+        for (int attempt = 0; attempt < 2; attempt++) {
+            assertEquals("ping 1", rawRequest(address, 42, 3, 1, "ping"));
+        }
+        assertEquals(1, calls.get());
+        assertEquals(1, server.getHandledRequests());
+        assertEquals(1, server.getRepeatedReplies());
+    }
+
+    @Test
+    void testStateOfAClientThatNeverReturnsExpires() throws Exception {
+        ServerSocketChannel channel = ServerSocketChannel.open();
+        channel.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        server = new MuxServer(channel, (clientId, streamId) -> APPEND_SEQUENCE, SocketTuning.DEFAULTS, 0);
+        server.start();
+        InetSocketAddress address = (InetSocketAddress) channel.getLocalAddress();
+
+        // The client goes away with its stream still open, as if it had crashed
+        assertEquals("ping 1", rawRequest(address, 42, 3, 1, "ping"));
+        assertEquals(1, server.getOpenStreams());
+
+        // Expiry runs as connections are accepted; keep connecting until it has seen the client gone
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (server.getOpenStreams() > 0) {
+            assertTrue(System.nanoTime() < deadline, "The dead client's stream should expire");
+            SocketChannel.open(address).close();
+            Thread.sleep(10);
+        }
+    }
+
+    @Test
+    void testInterruptedRequestLeavesTheStreamUsable() throws Exception {
+        CountDownLatch firstArrived = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        InetSocketAddress address = startServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0),
+                (streamId, sequence, request) -> {
+                    if (sequence == 1) {
+                        firstArrived.countDown();
+                        try {
+                            releaseFirst.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                    }
+                    return APPEND_SEQUENCE.reply(streamId, sequence, request);
+                });
+        client = startClient(address, TimeUnit.SECONDS.toNanos(5));
+        MuxStream stream = client.openStream();
+
+        AtomicReference<Throwable> outcome = new AtomicReference<>();
+        Thread requester = new Thread(() -> {
+            try {
+                stream.request("abandoned");
+            } catch (Throwable e) {
+                outcome.set(e);
+            }
+        });
+        requester.start();
+        firstArrived.await();
+        requester.interrupt();
+        requester.join();
+        assertTrue(outcome.get() instanceof InterruptedException, "Request should end with the interrupt");
+
+        releaseFirst.countDown();
+        assertEquals("ping 2", stream.request("ping"), "The late reply must not answer the next request");
+        assertEquals(2, stream.lastAcknowledged());
+    }
+
+    @Test
+    void testRequestFailsOnceReconnectTimesOut() throws Exception {
+        InetSocketAddress unused;
+        try (ServerSocketChannel channel = ServerSocketChannel.open()) {
+            channel.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+            unused = (InetSocketAddress) channel.getLocalAddress();
+        }
+        client = startClient(unused, TimeUnit.MILLISECONDS.toNanos(200));
+        MuxStream stream = client.openStream();
+        IOException e = assertThrows(IOException.class, () -> stream.request("ping"));
+        assertTrue(e.getMessage().contains("Could not connect"), e.getMessage());
+    }
+
+    private InetSocketAddress startServer(InetSocketAddress bind, MuxServer.Handler handler) throws IOException {
+        ServerSocketChannel channel = ServerSocketChannel.open();
+        channel.bind(bind);
+        server = new MuxServer(channel, handler, SocketTuning.DEFAULTS);
+        server.start();
+        return (InetSocketAddress) channel.getLocalAddress();
+    }
+
+    /**
+     * Sends one request as client {@code clientId} on a connection of its own and returns the reply.
+     */
+    private static String rawRequest(InetSocketAddress address, long clientId, int streamId, long sequence,
+            String payload) throws IOException {
+        try (SocketChannel channel = SocketChannel.open(address)) {
+            ByteBuffer buffer = ByteBuffer.allocate(256);
+            MuxCodec.encode(buffer, MuxFrameType.HELLO, 0, clientId, new byte[0]);
+            MuxCodec.encode(buffer, MuxFrameType.DATA, streamId, sequence, payload.getBytes(StandardCharsets.UTF_8));
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+            MuxFrame reply = new MuxFrame();
+            do {
+                assertTrue(channel.read(buffer) >= 0, "Server closed the connection");
+                buffer.flip();
+                boolean decoded = MuxCodec.decode(buffer, reply);
+                buffer.compact();
+                if (decoded) {
+                    break;
+                }
+            } while (true);
+            assertEquals(streamId, reply.streamId());
+            assertEquals(sequence, reply.sequence());
+            return reply.payloadAsString();
+        }
+    }
+
+    private static MuxClient startClient(InetSocketAddress address, long reconnectTimeoutNanos) {
+        MuxClient client = new MuxClient(() -> SocketChannel.open(address), TimeUnit.MILLISECONDS.toNanos(10),
+                TimeUnit.MILLISECONDS.toNanos(100), reconnectTimeoutNanos);
+        client.start();
+        return client;
+    }
+
+    private static void awaitTrue(BooleanSupplier condition, String message)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, message);
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.assignment.process.multiple;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReadyFileTest {
+
+    @Test
+    void testAwaitReturnsTheEndpointPublishedLater() throws Exception {
+        Path directory = Files.createTempDirectory("ready-file");
+        Path file = directory.resolve("responder.ready");
+        try {
+            Thread publisher = new Thread(() -> {
+                try {
+                    Thread.sleep(50);
+                    ReadyFile.publish(file, "54321");
+                } catch (IOException | InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            publisher.start();
+            assertEquals("54321", ReadyFile.await(file, TimeUnit.SECONDS.toNanos(5)));
+            publisher.join();
+
+            ReadyFile.publish(file, "12345");
+            assertEquals("12345", ReadyFile.await(file, 0), "A new signal should replace the old one");
+            assertFalse(Files.exists(directory.resolve("responder.ready.tmp")), "Temporary file should be moved");
+        } finally {
+            Files.deleteIfExists(file);
+            Files.delete(directory);
+        }
+    }
+
+    @Test
+    void testAwaitTimesOutWithoutASignal() throws IOException {
+        Path directory = Files.createTempDirectory("ready-file");
+        try {
+            IOException e = assertThrows(IOException.class,
+                    () -> ReadyFile.await(directory.resolve("missing.ready"), TimeUnit.MILLISECONDS.toNanos(20)));
+            assertTrue(e.getMessage().startsWith("Responder not ready after 20 ms"), e.getMessage());
+        } finally {
+            Files.delete(directory);
+        }
+    }
+}
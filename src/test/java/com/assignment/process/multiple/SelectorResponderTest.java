@@ -0,0 +1,236 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.assignment.process.multiple;
+
+import com.assignment.codec.CodecType;
+import com.assignment.codec.Frame;
+import com.assignment.codec.MessageType;
+import com.assignment.codec.WireCodec;
+import com.assignment.wait.BlockingWaitStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SelectorResponderTest {
+
+    private static final int INITIATORS = 500;
+    private static final int EXCHANGES = 10;
+    private static final byte[] PING = "ping".getBytes(StandardCharsets.US_ASCII);
+
+    @Test
+    void testServesManyConcurrentInitiators() throws Exception {
+        assertServesManyConcurrentInitiators(CodecType.BINARY.codec());
+    }
+
+    @Test
+    void testServesManyConcurrentInitiatorsWithTextCodec() throws Exception {
+        assertServesManyConcurrentInitiators(CodecType.TEXT.codec());
+    }
+
+    private void assertServesManyConcurrentInitiators(WireCodec codec) throws Exception {
+        try (SelectorResponder responder = new SelectorResponder(
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 2, codec)) {
+            InetSocketAddress address = responder.start();
+
+            // Open every connection before any exchange so they are all live at once
+            List<FrameConnection> connections = new ArrayList<>();
+            for (int i = 0; i < INITIATORS; i++) {
+                connections.add(new FrameConnection(SocketChannel.open(address), codec, new BlockingWaitStrategy()));
+            }
+
+            ExecutorService pool = Executors.newFixedThreadPool(32);
+            try {
+                List<Future<String>> results = new ArrayList<>();
+                for (FrameConnection connection : connections) {
+                    results.add(pool.submit(exchange(connection)));
+                }
+                for (Future<String> result : results) {
+                    assertEquals(expectedFinalReply(), result.get(30, TimeUnit.SECONDS));
+                }
+            } finally {
+                pool.shutdownNow();
+            }
+
+            assertEquals(INITIATORS, responder.getAcceptedConnections());
+            for (FrameConnection connection : connections) {
+                connection.close();
+            }
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (responder.getOpenConnections() > 0 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(0, responder.getOpenConnections(), "Closed initiators should be released");
+        }
+    }
+
+    @Test
+    void testStopClosesConnection() throws IOException {
+        WireCodec codec = CodecType.BINARY.codec();
+        try (SelectorResponder responder = new SelectorResponder(
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 1, codec);
+             FrameConnection connection = new FrameConnection(SocketChannel.open(responder.start()), codec,
+                     new BlockingWaitStrategy())) {
+            Frame reply = new Frame();
+            connection.send(PING, 1);
+            assertTrue(connection.receive(reply));
+            assertEquals("ping 1 1", reply.payloadAsString());
+            connection.sendStop();
+            assertFalse(connection.receive(reply), "Responder should close after STOP");
+        }
+    }
+
+    @Test
+    void testDeltaIsAnsweredWithDelta() throws IOException {
+        for (CodecType type : CodecType.values()) {
+            WireCodec codec = type.codec();
+            try (SelectorResponder responder = new SelectorResponder(
+                    new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 1, codec);
+                 FrameConnection connection = new FrameConnection(SocketChannel.open(responder.start()), codec,
+                         new BlockingWaitStrategy())) {
+                Frame reply = new Frame();
+                connection.send(PING, 1);
+                assertTrue(connection.receive(reply));
+                assertEquals("ping 1 1", reply.payloadAsString());
+
+                connection.sendDelta(2);
+                assertTrue(connection.receive(reply));
+                assertEquals(MessageType.DELTA, reply.type(), type.name());
+                assertEquals(2, reply.senderCounter());
+                assertEquals(0, reply.payloadLength());
+            }
+        }
+    }
+
+    @Test
+    void testSlowReaderIsHeldBackInsteadOfBuffered() throws Exception {
+        WireCodec codec = CodecType.BINARY.codec();
+        ByteBuffer batch = ByteBuffer.allocate(64 * 1024);
+        int framesPerBatch = 0;
+        while (batch.remaining() >= codec.maxFramingLength() + PING.length) {
+            int frameStart = codec.beginFrame(batch, MessageType.DATA, 1);
+            batch.put(PING);
+            codec.endFrame(batch, frameStart);
+            framesPerBatch++;
+        }
+        batch.flip();
+        int batches = 256; // 16 MiB
+        // Small socket buffers on both sides hold well under 4 MiB in flight
+        int socketBuffer = 64 * 1024;
+        SocketTuning tuning = new SocketTuning(true, socketBuffer, socketBuffer, FlushPolicy.IMMEDIATE,
+                SocketTuning.DEFAULT_FLUSH_BATCH, 0);
+
+        try (SelectorResponder responder = new SelectorResponder(
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 1, codec, 1, Long.MAX_VALUE, tuning);
+             SocketChannel channel = SocketChannel.open()) {
+            channel.setOption(StandardSocketOptions.SO_RCVBUF, socketBuffer);
+            channel.setOption(StandardSocketOptions.SO_SNDBUF, socketBuffer);
+            channel.connect(responder.start());
+
+            // Send everything without reading; the responder must stop reading once its replies back up
+            AtomicLong batchesSent = new AtomicLong();
+            ByteBuffer frames = batch;
+            Thread sender = new Thread(() -> {
+                try {
+                    for (int i = 0; i < batches; i++) {
+                        channel.write(frames.duplicate());
+                        batchesSent.incrementAndGet();
+                    }
+                } catch (IOException e) {
+                    // reported through the batch count
+                }
+            }, "fast-sender");
+            sender.start();
+
+            long previous = -1;
+            long stalledSince = System.nanoTime();
+            while (System.nanoTime() - stalledSince < TimeUnit.SECONDS.toNanos(1)) {
+                assertTrue(sender.isAlive(), "Responder kept reading from an initiator that never reads");
+                long sent = batchesSent.get();
+                if (sent != previous) {
+                    previous = sent;
+                    stalledSince = System.nanoTime();
+                }
+                Thread.sleep(20);
+            }
+            assertTrue(batchesSent.get() < 64, "Responder buffered " + batchesSent.get() + " batches of replies");
+
+            // Reading lets the responder drain its replies and resume reading
+            ByteBuffer replies = ByteBuffer.allocate(256 * 1024);
+            Frame reply = new Frame();
+            long expected = (long) batches * framesPerBatch;
+            long received = 0;
+            while (received < expected) {
+                assertTrue(channel.read(replies) >= 0, "Responder closed after " + received + " replies");
+                replies.flip();
+                while (codec.decode(replies, reply)) {
+                    received++;
+                }
+                replies.compact();
+            }
+            sender.join(TimeUnit.SECONDS.toMillis(10));
+            assertEquals(batches, batchesSent.get());
+        }
+    }
+
+    /**
+     * Plays the initiator side: each reply must carry this connection's own responder count.
+     */
+    private Callable<String> exchange(FrameConnection connection) {
+        return () -> {
+            Frame reply = new Frame();
+            String message = "ping 1";
+            connection.send(PING, 1);
+            for (int round = 1; round <= EXCHANGES; round++) {
+                assertTrue(connection.receive(reply), "Responder closed early");
+                assertEquals(message + " " + round, reply.payloadAsString());
+                assertEquals(round, reply.senderCounter());
+                message = reply.payloadAsString() + " " + (round + 1);
+                if (round < EXCHANGES) {
+                    connection.send(reply, round + 1);
+                }
+            }
+            return reply.payloadAsString();
+        };
+    }
+
+    private static String expectedFinalReply() {
+        StringBuilder expected = new StringBuilder("ping 1");
+        for (int round = 1; round <= EXCHANGES; round++) {
+            expected.append(' ').append(round);
+            if (round < EXCHANGES) {
+                expected.append(' ').append(round + 1);
+            }
+        }
+        return expected.toString();
+    }
+}
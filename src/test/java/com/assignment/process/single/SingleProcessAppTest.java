@@ -16,12 +16,18 @@
 
  package com.assignment.process.single;
 
+ import com.assignment.channel.ChannelType;
+ import com.assignment.channel.MessageChannel;
  import com.assignment.dto.Player;
+ import com.assignment.wait.SpinYieldWaitStrategy;
  import org.junit.jupiter.api.Test;
  import static org.junit.jupiter.api.Assertions.*;
  
+ import java.util.List;
  import java.util.concurrent.BlockingQueue;
  import java.util.concurrent.LinkedBlockingQueue;
+ import java.util.concurrent.TimeUnit;
+ import java.util.concurrent.atomic.AtomicInteger;
  
  public class SingleProcessAppTest {
  
@@ -69,5 +75,91 @@
          assertEquals(10, player.getSentCount());
  
      }
+ 
+     @Test
+     void testPipelinedExchangePreservesOrderAndCounters() throws InterruptedException {
+         for (ChannelType type : ChannelType.values()) {
+             Player initiator = new Player("Initiator");
+             Player responder = new Player("Responder");
+             int window = 2;
+             DepthTrackingChannel toResponderQueue =
+                     new DepthTrackingChannel(type.create(16, new SpinYieldWaitStrategy()), 0);
+             // A slow initiator: replies must not pile up while it takes its time with each one
+             DepthTrackingChannel toInitiatorQueue =
+                     new DepthTrackingChannel(type.create(16, new SpinYieldWaitStrategy()), 2);
+ 
+             List<String> replies = SingleProcessApp.exchangePipelined(initiator, responder, toResponderQueue,
+                     toInitiatorQueue, window, new SpinYieldWaitStrategy());
+ 
+             assertEquals(10, replies.size());
+             for (int i = 0; i < replies.size(); i++) {
+                 assertEquals("ping " + (i + 1) + " " + (i + 1), replies.get(i), type + " reply out of order");
+             }
+             assertEquals(10, initiator.getSentCount());
+             assertEquals(10, initiator.getReceivedCount());
+             assertEquals(10, responder.getSentCount());
+             assertEquals(10, responder.getReceivedCount());
+             assertTrue(toResponderQueue.maxDepth.get() <= window,
+                     "Unconsumed pings exceeded the window: " + toResponderQueue.maxDepth.get());
+             assertTrue(toInitiatorQueue.maxDepth.get() <= window,
+                     "Unconsumed replies exceeded the window: " + toInitiatorQueue.maxDepth.get());
+         }
+     }
+ 
+     /** Records the most messages that were ever waiting in the delegate at once. */
+     private static final class DepthTrackingChannel implements MessageChannel<String> {
+ 
+         private final MessageChannel<String> delegate;
+         private final AtomicInteger depth = new AtomicInteger();
+         private final AtomicInteger maxDepth = new AtomicInteger();
+         private final long pollDelayMillis;
+ 
+         /**
+          * @param pollDelayMillis how long a timed poll waits before looking, to play a slow consumer
+          */
+         DepthTrackingChannel(MessageChannel<String> delegate, long pollDelayMillis) {
+             this.delegate = delegate;
+             this.pollDelayMillis = pollDelayMillis;
+         }
+ 
+         @Override
+         public boolean offer(String message) {
+             record();
+             if (delegate.offer(message)) {
+                 return true;
+             }
+             depth.decrementAndGet();
+             return false;
+         }
+ 
+         @Override
+         public String poll() {
+             return consumed(delegate.poll());
+         }
+ 
+         @Override
+         public void put(String message) throws InterruptedException {
+             record();
+             delegate.put(message);
+         }
+ 
+         @Override
+         public String poll(long timeout, TimeUnit unit) throws InterruptedException {
+             if (pollDelayMillis > 0) {
+                 Thread.sleep(pollDelayMillis);
+             }
+             return consumed(delegate.poll(timeout, unit));
+         }
+ 
+         private void record() {
+             maxDepth.accumulateAndGet(depth.incrementAndGet(), Math::max);
+         }
+ 
+         private String consumed(String message) {
+             if (message != null) {
+                 depth.decrementAndGet();
+             }
+             return message;
+         }
+     }
  }
- 
\ No newline at end of file
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.assignment.shm;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.BindException;
+import java.net.ConnectException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SharedMemoryChannelTest {
+
+    private Path path;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        path = Files.createTempFile("player-shm-test", ".dat");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        Files.deleteIfExists(path);
+    }
+
+    @Test
+    void testBytesCrossInBothDirectionsWithWrapAround() throws Exception {
+        int total = 100_000;
+        try (SharedMemoryChannel responder = SharedMemoryChannel.create(path, 64);
+             SharedMemoryChannel initiator = SharedMemoryChannel.connect(path)) {
+
+            // Echo every byte back until the initiator closes
+            AtomicReference<Throwable> failure = new AtomicReference<>();
+            Thread echo = new Thread(() -> {
+                ByteBuffer buffer = ByteBuffer.allocate(48);
+                try {
+                    int read;
+                    while ((read = responder.read(buffer)) >= 0) {
+                        if (read == 0 && buffer.position() == 0) {
+                            Thread.yield();
+                            continue;
+                        }
+                        buffer.flip();
+                        while (buffer.hasRemaining()) {
+                            if (responder.write(buffer) == 0) {
+                                Thread.yield();
+                            }
+                        }
+                        buffer.clear();
+                    }
+                } catch (Throwable t) {
+                    failure.set(t);
+                }
+            });
+            echo.start();
+
+            ByteBuffer out = ByteBuffer.allocate(total);
+            for (int i = 0; i < total; i++) {
+                out.put((byte) i);
+            }
+            out.flip();
+            ByteBuffer in = ByteBuffer.allocate(total);
+            while (in.hasRemaining()) {
+                if (out.hasRemaining()) {
+                    initiator.write(out);
+                }
+                if (initiator.read(in) == 0) {
+                    Thread.yield();
+                }
+            }
+            initiator.close();
+            echo.join(10_000);
+            assertFalse(echo.isAlive(), "Responder should see end of stream after the initiator closes");
+            assertNull(failure.get());
+
+            in.flip();
+            for (int i = 0; i < total; i++) {
+                assertEquals((byte) i, in.get(), "Byte " + i + " corrupted");
+            }
+        }
+    }
+
+    @Test
+    void testCloseSignalsEndOfStreamAfterPendingBytes() throws IOException {
+        SharedMemoryChannel responder = SharedMemoryChannel.create(path, 64);
+        try (SharedMemoryChannel initiator = SharedMemoryChannel.connect(path)) {
+            assertEquals(3, responder.write(ByteBuffer.wrap(new byte[] {1, 2, 3})));
+            responder.close();
+            assertFalse(Files.exists(path), "Creator should remove the channel file");
+
+            ByteBuffer in = ByteBuffer.allocate(8);
+            assertEquals(3, initiator.read(in));
+            assertEquals(-1, initiator.read(in));
+            assertThrows(IOException.class, () -> initiator.write(ByteBuffer.wrap(new byte[] {4})));
+        }
+    }
+
+    @Test
+    void testConnectWithoutResponderIsRefused() throws IOException {
+        Files.delete(path);
+        assertThrows(ConnectException.class, () -> SharedMemoryChannel.connect(path));
+        Files.createFile(path);
+        assertThrows(ConnectException.class, () -> SharedMemoryChannel.connect(path));
+    }
+
+    @Test
+    void testConnectToAFileLeftByAnExitedResponderIsRefused() throws IOException {
+        Path leftover = Files.createTempFile("player-shm-test", ".leftover");
+        try (SharedMemoryChannel responder = SharedMemoryChannel.create(path, 64)) {
+            // Initialised like a live channel, but nobody holds the creator's lock on the copy
+            Files.copy(path, leftover, StandardCopyOption.REPLACE_EXISTING);
+            ConnectException refused = assertThrows(ConnectException.class, () -> SharedMemoryChannel.connect(leftover));
+            assertTrue(refused.getMessage().contains("exited"), refused.getMessage());
+            SharedMemoryChannel.connect(path).close();
+        } finally {
+            Files.deleteIfExists(leftover);
+        }
+    }
+
+    @Test
+    void testSecondResponderCannotTakeOverALiveChannel() throws IOException {
+        try (SharedMemoryChannel responder = SharedMemoryChannel.create(path, 64)) {
+            assertThrows(BindException.class, () -> SharedMemoryChannel.create(path, 64));
+            assertTrue(Files.exists(path), "The live responder's file must stay");
+        }
+    }
+
+    @Test
+    void testCloseLeavesAReplacementFileAlone() throws IOException {
+        SharedMemoryChannel responder = SharedMemoryChannel.create(path, 64);
+        // Another responder's file now sits at the same path
+        Files.delete(path);
+        Files.write(path, new byte[] {1});
+        responder.close();
+        assertTrue(Files.exists(path), "Only the file this responder created may be removed");
+    }
+
+    @Test
+    void testRejectsNonPowerOfTwoCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> SharedMemoryChannel.create(path, 100));
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2025 Avishek Chanda
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.assignment.wait;
+
+import com.assignment.channel.ChannelType;
+import com.assignment.channel.MessageChannel;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WaitStrategyTest {
+
+    @Test
+    void testEveryStrategyDeliversAcrossThreads() throws InterruptedException {
+        for (ChannelType channelType : ChannelType.values()) {
+            for (WaitStrategyType waitType : WaitStrategyType.values()) {
+                MessageChannel<Integer> channel = channelType.create(8, waitType.create());
+                int messages = 2_000;
+                Thread producer = new Thread(() -> {
+                    try {
+                        for (int i = 0; i < messages; i++) {
+                            channel.put(i);
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+                producer.start();
+                for (int expected = 0; expected < messages; expected++) {
+                    Integer received = channel.poll(5, TimeUnit.SECONDS);
+                    assertNotNull(received, channelType + "/" + waitType.optionName() + " stalled");
+                    assertEquals(expected, received.intValue());
+                }
+                producer.join();
+            }
+        }
+    }
+
+    @Test
+    void testTimedPollHonoursDeadline() throws InterruptedException {
+        for (WaitStrategyType waitType : WaitStrategyType.values()) {
+            MessageChannel<String> channel = ChannelType.RING.create(4, waitType.create());
+            long start = System.nanoTime();
+            assertNull(channel.poll(20, TimeUnit.MILLISECONDS));
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            assertTrue(elapsedMs >= 20, waitType.optionName() + " returned early");
+            assertTrue(elapsedMs < 1_000, waitType.optionName() + " overshot the deadline: " + elapsedMs + " ms");
+        }
+    }
+
+    @Test
+    void testBlockingSignalIsSticky() {
+        BlockingWaitStrategy strategy = new BlockingWaitStrategy(TimeUnit.SECONDS.toNanos(10));
+        long start = System.nanoTime();
+        strategy.idle(0);
+        assertTrue(strategy.isParked(), "First idle should only announce the receiver");
+        strategy.signal();
+        strategy.idle(1);
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5), "Pending signal should not be lost");
+    }
+
+    @Test
+    void testBlockingSignalSkipsAnUnparkedReceiver() throws InterruptedException {
+        BlockingWaitStrategy strategy = new BlockingWaitStrategy(TimeUnit.SECONDS.toNanos(10));
+        strategy.signal();
+        assertFalse(strategy.isParked());
+
+        // Announced and asleep: the signal must wake it well before the 10 s cap
+        strategy.idle(0);
+        Thread receiver = new Thread(() -> strategy.idle(1));
+        receiver.start();
+        Thread.sleep(50);
+        strategy.signal();
+        receiver.join(TimeUnit.SECONDS.toMillis(5));
+        assertFalse(receiver.isAlive(), "Signal should wake a parked receiver");
+        assertFalse(strategy.isParked(), "Signal should clear the announcement");
+    }
+
+    @Test
+    void testBackoffIsBoundedAndMonotonic() {
+        BackoffParkingWaitStrategy strategy = new BackoffParkingWaitStrategy(0, 0, 1_000, 1_000_000);
+        long previous = 0;
+        for (int step = 0; step < 100; step++) {
+            long park = strategy.parkNanos(step);
+            assertTrue(park >= previous);
+            assertTrue(park <= 1_000_000);
+            previous = park;
+        }
+        assertEquals(1_000, strategy.parkNanos(0));
+        assertEquals(1_000_000, strategy.parkNanos(99));
+    }
+
+    @Test
+    void testFromName() {
+        assertEquals(WaitStrategyType.BUSY_SPIN, WaitStrategyType.fromName("busy-spin"));
+        assertEquals(WaitStrategyType.PARK, WaitStrategyType.fromName("PARK"));
+        assertThrows(IllegalArgumentException.class, () -> WaitStrategyType.fromName("sleep"));
+    }
+}